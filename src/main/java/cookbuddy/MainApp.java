@@ -2,6 +2,8 @@ package cookbuddy;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -19,16 +21,23 @@ import cookbuddy.model.ReadOnlyRecipeBook;
 import cookbuddy.model.ReadOnlyUserPrefs;
 import cookbuddy.model.RecipeBook;
 import cookbuddy.model.UserPrefs;
+import cookbuddy.model.recipe.Recipe;
 import cookbuddy.model.util.SampleDataUtil;
+import cookbuddy.storage.BinaryRecipeBookStorage;
+import cookbuddy.storage.JournaledRecipeBookStorage;
 import cookbuddy.storage.JsonRecipeBookStorage;
 import cookbuddy.storage.JsonUserPrefsStorage;
+import cookbuddy.storage.RecipeBookMigrator;
 import cookbuddy.storage.RecipeBookStorage;
+import cookbuddy.storage.RecipeImporter;
 import cookbuddy.storage.Storage;
 import cookbuddy.storage.StorageManager;
 import cookbuddy.storage.UserPrefsStorage;
+import cookbuddy.storage.WriteBehindRecipeBookStorage;
 import cookbuddy.ui.Ui;
 import cookbuddy.ui.UiManager;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 
 /**
@@ -38,6 +47,10 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(0, 6, 0, true);
 
+    /** The number of recipes added to the model at a time when the recipe book is loaded in the background. */
+    private static final int LOAD_CHUNK_SIZE = 50;
+    private static final String MESSAGE_LOAD_FAILED = "Could not load the recipe book: ";
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -46,6 +59,12 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private Thread recipeBookLoader;
+    private boolean isLoadingRecipeBook = false;
+    private List<Recipe> loadedRecipes;
+    private int addedRecipeCount = 0;
+    private volatile String loadFailure;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing CookBuddy ]===========================");
@@ -56,8 +75,8 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        RecipeBookStorage recipeBookStorage = new JsonRecipeBookStorage(userPrefs.getDataFilePath(),
-                userPrefs.getImagesPath());
+        RecipeBookStorage recipeBookStorage = new WriteBehindRecipeBookStorage(initRecipeBookStorage(userPrefs),
+                userPrefs.getSaveDelay());
         storage = new StorageManager(recipeBookStorage, userPrefsStorage);
 
         initLogging(config);
@@ -65,18 +84,75 @@ public class MainApp extends Application {
         model = initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model, storage);
+        if (userPrefs.isProgressiveStartup()) {
+            logic.beginLoading();
+        }
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns a {@code RecipeBookStorage} for the recipe book at {@code userPrefs}'s data file path, in the storage
+     * format chosen in {@code userPrefs}. <br>
+     * If there is no recipe book in the chosen format yet, the recipe book in the other format, if any, is migrated
+     * to it and then moved aside, so that the storage format can be switched back and forth without losing any
+     * recipes.
+     */
+    private RecipeBookStorage initRecipeBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getDataFilePath();
+        Path imagesPath = userPrefs.getImagesPath();
+        RecipeImporter recipeImporter = new RecipeImporter(userPrefs.getImportThreadCount());
+        RecipeBookStorage binaryStorage = new BinaryRecipeBookStorage(
+                BinaryRecipeBookStorage.getBinaryFilePath(jsonFilePath), imagesPath);
+
+        RecipeBookStorage recipeBookStorage;
+        RecipeBookStorage otherFormatStorage;
+        switch (userPrefs.getStorageFormat()) {
+        case JSON:
+            recipeBookStorage = new JsonRecipeBookStorage(jsonFilePath, imagesPath, recipeImporter);
+            otherFormatStorage = binaryStorage;
+            break;
+        case BINARY:
+            recipeBookStorage = binaryStorage;
+            otherFormatStorage = new JournaledRecipeBookStorage(jsonFilePath, imagesPath, recipeImporter);
+            break;
+        case JOURNALED:
+        default:
+            recipeBookStorage = new JournaledRecipeBookStorage(jsonFilePath, imagesPath, recipeImporter);
+            otherFormatStorage = binaryStorage;
+            break;
+        }
+
+        try {
+            RecipeBookMigrator.migrateIfMissing(otherFormatStorage, recipeBookStorage);
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Failed to migrate recipe book from " + otherFormatStorage.getRecipeBookFilePath() + ": "
+                    + StringUtil.getDetails(e));
+        }
+        return recipeBookStorage;
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s recipe
      * book and {@code userPrefs}. <br>
+     * If {@code userPrefs} asks for a progressive startup, the model starts out
+     * empty instead, and the recipe book is loaded into it once the main window
+     * is shown.
+     */
+    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        if (userPrefs.isProgressiveStartup()) {
+            return new ModelManager(new RecipeBook(), userPrefs);
+        }
+        return new ModelManager(readRecipeBook(storage), userPrefs);
+    }
+
+    /**
+     * Returns the data from {@code storage}'s recipe book. <br>
      * The data from the sample recipe book will be used instead if
      * {@code storage}'s recipe book is not found, or an empty recipe book will be
      * used instead if errors occur when reading {@code storage}'s recipe book.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private ReadOnlyRecipeBook readRecipeBook(Storage storage) {
         Optional<ReadOnlyRecipeBook> recipeBookOptional;
         ReadOnlyRecipeBook initialData;
         try {
@@ -94,7 +170,73 @@ public class MainApp extends Application {
             initialData = new RecipeBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return initialData;
+    }
+
+    /**
+     * Reads the recipe book on a background thread, and adds its recipes to the model on the JavaFX application
+     * thread {@link #LOAD_CHUNK_SIZE} at a time, so that the main window can be used while they are being listed.
+     * Once all recipes are in, or reading them failed, the commands that were queued in the meantime are executed.
+     */
+    private void loadRecipeBookInBackground() {
+        isLoadingRecipeBook = true;
+        recipeBookLoader = new Thread(() -> {
+            try {
+                List<Recipe> recipes = new ArrayList<>(readRecipeBook(storage).getRecipeList());
+                loadedRecipes = recipes;
+                for (int from = 0; from < recipes.size(); from += LOAD_CHUNK_SIZE) {
+                    int to = Math.min(from + LOAD_CHUNK_SIZE, recipes.size());
+                    Platform.runLater(() -> addLoadedRecipes(to));
+                }
+            } catch (RuntimeException e) {
+                logger.severe("Failed to load the recipe book: " + StringUtil.getDetails(e));
+                loadFailure = MESSAGE_LOAD_FAILED + e.getMessage();
+            } finally {
+                Platform.runLater(() -> {
+                    List<String> feedback = finishLoading();
+                    if (!feedback.isEmpty()) {
+                        ui.showFeedback(String.join("\n", feedback));
+                    }
+                });
+            }
+        }, "RecipeBookLoader");
+        recipeBookLoader.setDaemon(true);
+        recipeBookLoader.start();
+    }
+
+    /**
+     * Adds the loaded recipes that have not been added to the model yet, up to index {@code to}.
+     * Must be called on the JavaFX application thread.
+     */
+    private void addLoadedRecipes(int to) {
+        if (to <= addedRecipeCount) {
+            return;
+        }
+        logic.addLoadedRecipes(loadedRecipes.subList(addedRecipeCount, to), (double) to / loadedRecipes.size());
+        addedRecipeCount = to;
+    }
+
+    /**
+     * Adds any loaded recipes that are still missing from the model, and executes the queued commands.
+     * Does nothing if the recipe book has already finished loading. Must be called on the JavaFX application thread.
+     *
+     * @return the reason that loading failed, if it did, followed by the feedback of each queued command.
+     */
+    private List<String> finishLoading() {
+        List<String> feedback = new ArrayList<>();
+        if (!isLoadingRecipeBook) {
+            return feedback;
+        }
+        isLoadingRecipeBook = false;
+
+        if (loadedRecipes != null) {
+            addLoadedRecipes(loadedRecipes.size());
+        }
+        if (loadFailure != null) {
+            feedback.add(loadFailure);
+        }
+        feedback.addAll(logic.finishLoading());
+        return feedback;
     }
 
     private void initLogging(Config config) {
@@ -175,6 +317,9 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting CookBuddy " + MainApp.VERSION);
         ui.start(primaryStage);
+        if (model.getUserPrefs().isProgressiveStartup()) {
+            loadRecipeBookInBackground();
+        }
     }
 
     @Override
@@ -185,5 +330,20 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        if (isLoadingRecipeBook) {
+            // the commands queued while loading would be lost otherwise, so the rest of the recipe book is waited for
+            try {
+                recipeBookLoader.join();
+                finishLoading().forEach(feedback -> logger.info("Queued command finished on exit: " + feedback));
+            } catch (InterruptedException e) {
+                logger.warning("Discarded the commands queued while loading the recipe book, as it did not finish");
+                Thread.currentThread().interrupt();
+            }
+        }
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save recipe book on exit, recent changes are lost: " + StringUtil.getDetails(e));
+        }
     }
 }
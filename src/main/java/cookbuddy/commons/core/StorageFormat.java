@@ -0,0 +1,13 @@
+package cookbuddy.commons.core;
+
+/**
+ * The formats that the recipe book can be stored in on the hard disk.
+ */
+public enum StorageFormat {
+    /** The whole recipe book is rewritten as a json file on every save. */
+    JSON,
+    /** Changes are appended to a journal, which is compacted into a json snapshot from time to time. */
+    JOURNALED,
+    /** The whole recipe book is rewritten as a compact binary file on every save. */
+    BINARY
+}
@@ -1,15 +1,21 @@
 package cookbuddy.commons.util;
 
 import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 import cookbuddy.Main;
 
@@ -148,9 +154,46 @@ public class FileUtil {
 
     /**
      * Writes given string to a file. Will create the file if it does not exist yet.
+     * The file is replaced atomically, see {@link #writeToFileAtomically(Path, byte[])}.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFileAtomically(file, content.getBytes(CHARSET));
+    }
+
+    /**
+     * Writes {@code content} to {@code file}, creating missing parent directories.
+     * The content is first written to a temporary file beside {@code file} and
+     * forced to the storage device, which then atomically replaces {@code file}.
+     * Hence, {@code file} never holds partially-written content, even if the
+     * application or system crashes midway.
+     *
+     * @throws IOException if the content cannot be written.
+     */
+    public static void writeToFileAtomically(Path file, byte[] content) throws IOException {
+        writeToFileAtomically(file, out -> out.write(content));
+    }
+
+    /**
+     * Writes the content that {@code contentWriter} produces to {@code file}, as it is produced.
+     * The file is replaced atomically, see {@link #writeToFileAtomically(Path, byte[])}.
+     *
+     * @throws IOException if the content cannot be produced or written.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            // the stream is not closed, as that would close the channel before it is forced
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+            contentWriter.writeTo(out);
+            out.flush();
+            channel.force(true);
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
     }
 
     /**
@@ -179,4 +222,15 @@ public class FileUtil {
     public static InputStream getResourceAsInputStream(String resourceString) {
         return new BufferedInputStream(Main.class.getResourceAsStream(resourceString));
     }
+
+    /**
+     * Writes content to an {@link OutputStream}.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code out}, without closing it.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
 }
@@ -0,0 +1,101 @@
+package cookbuddy.commons.util;
+
+import static cookbuddy.commons.util.AppUtil.checkArgument;
+import static cookbuddy.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A least-recently-used cache of decoded images, keyed by a {@link String} such as the digest of the image.
+ * <p>
+ * The cache is bounded by the approximate number of bytes that the pixels of the cached images occupy; the least
+ * recently used images are evicted once that budget is exceeded. All methods are thread-safe.
+ */
+public class ImageCache {
+
+    public static final String MESSAGE_CONSTRAINTS = "The capacity of an image cache cannot be negative.";
+
+    private final long capacityInBytes;
+    private final LinkedHashMap<String, BufferedImage> images = new LinkedHashMap<>(16, 0.75f, true);
+    private long sizeInBytes = 0;
+
+    /**
+     * Constructs an empty {@code ImageCache} that holds at most {@code capacityInBytes} bytes of pixel data.
+     */
+    public ImageCache(long capacityInBytes) {
+        checkArgument(capacityInBytes >= 0, MESSAGE_CONSTRAINTS);
+        this.capacityInBytes = capacityInBytes;
+    }
+
+    /**
+     * Returns the image cached under {@code key}, marking it as the most recently used, or an empty {@code Optional}
+     * if it is not in the cache.
+     */
+    public synchronized Optional<BufferedImage> get(String key) {
+        requireNonNull(key);
+        return Optional.ofNullable(images.get(key));
+    }
+
+    /**
+     * Caches {@code image} under {@code key}, evicting the least recently used images if the cache would otherwise
+     * exceed its capacity. Images larger than the capacity of the whole cache are not cached.
+     */
+    public synchronized void put(String key, BufferedImage image) {
+        requireAllNonNull(key, image);
+        long imageSize = sizeOf(image);
+        if (imageSize > capacityInBytes) {
+            return;
+        }
+
+        BufferedImage previous = images.put(key, image);
+        if (previous != null) {
+            sizeInBytes -= sizeOf(previous);
+        }
+        sizeInBytes += imageSize;
+
+        Iterator<Map.Entry<String, BufferedImage>> leastRecentlyUsed = images.entrySet().iterator();
+        while (sizeInBytes > capacityInBytes) {
+            sizeInBytes -= sizeOf(leastRecentlyUsed.next().getValue());
+            leastRecentlyUsed.remove();
+        }
+    }
+
+    /**
+     * Returns true if an image is cached under {@code key}. Does not affect the order of eviction.
+     */
+    public synchronized boolean contains(String key) {
+        requireNonNull(key);
+        return images.containsKey(key);
+    }
+
+    /**
+     * Removes all images from the cache.
+     */
+    public synchronized void clear() {
+        images.clear();
+        sizeInBytes = 0;
+    }
+
+    public synchronized long getSizeInBytes() {
+        return sizeInBytes;
+    }
+
+    public long getCapacityInBytes() {
+        return capacityInBytes;
+    }
+
+    /**
+     * Returns the approximate number of bytes that the pixel data of {@code image} occupies in memory.
+     */
+    public static long sizeOf(BufferedImage image) {
+        DataBuffer dataBuffer = image.getRaster().getDataBuffer();
+        return (long) dataBuffer.getSize() * dataBuffer.getNumBanks()
+                * DataBuffer.getDataTypeSize(dataBuffer.getDataType()) / Byte.SIZE;
+    }
+}
@@ -2,24 +2,27 @@ package cookbuddy.commons.util;
 
 import static cookbuddy.commons.util.FileUtil.getResourceAsInputStream;
 
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
 import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.math.BigInteger;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Arrays;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.logging.Logger;
 
 import javax.imageio.ImageIO;
 
 import cookbuddy.MainApp;
 import cookbuddy.commons.core.LogsCenter;
-import cookbuddy.model.recipe.Recipe;
-import javafx.collections.ObservableList;
 
 /**
  * A singleton class for working with images, converting between image objects,
@@ -35,6 +38,7 @@ import javafx.collections.ObservableList;
 public class PhotographUtil {
     public static final String PLACEHOLDER_IMAGE_PATH_STRING = "/images/recipe_placeholder.jpg";
     public static final Path PLACEHOLDER_IMAGE_PATH = Paths.get(PLACEHOLDER_IMAGE_PATH_STRING);
+    public static final String DIGEST_ALGORITHM = "SHA-256";
     public final InputStream placeHolderImageStream;
     public final BufferedImage placeholderImage;
     public final Path defaultStoragePath = FileUtil.relativePathFrom("data", "images");
@@ -120,27 +124,81 @@ public class PhotographUtil {
     }
 
     /**
-     * Compares two {@link BufferedImage}s, specified by {@code i1} and {@code i2},
-     * pixel-by-pixel, to determine if they are the same image.
+     * Computes a SHA-256 digest of {@code image}, based on its dimensions and RGB pixel data, and returns it as a
+     * lowercase hexadecimal string. Two images with identical pixels always have the same digest.
      * <p>
-     * Expensive O(n^2) operation; use sparingly.
+     * This reads every pixel of the image; it is meant to be called once per image, with the result cached.
      *
-     * @return {@code true} if {@code i1}'s pixels are all equal to those of
-     * {@code i2}'s.
+     * @param image A {@link BufferedImage} to digest.
+     * @return The digest of {@code image}.
      */
-    public boolean isSameImage(BufferedImage i1, BufferedImage i2) {
-        if (i1.getWidth() != i2.getWidth() || i1.getHeight() != i2.getHeight()) {
-            return false;
+    public String digestImage(BufferedImage image) {
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " is not supported by this JVM", e);
         }
 
-        for (int x = 0; x < i1.getWidth(); x++) {
-            for (int y = 0; y < i2.getHeight(); y++) {
-                if (i1.getRGB(x, y) != i2.getRGB(x, y)) {
-                    return false;
-                }
-            }
+        int width = image.getWidth();
+        int height = image.getHeight();
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES * Math.max(width, 2));
+        buffer.putInt(width).putInt(height);
+        messageDigest.update(buffer.array(), 0, buffer.position());
+
+        int[] row = new int[width];
+        for (int y = 0; y < height; y++) {
+            image.getRGB(0, y, width, 1, row, 0, width);
+            buffer.clear();
+            buffer.asIntBuffer().put(row);
+            messageDigest.update(buffer.array(), 0, Integer.BYTES * width);
+        }
+        return String.format("%0" + (2 * messageDigest.getDigestLength()) + "x",
+                new BigInteger(1, messageDigest.digest()));
+    }
+
+    /**
+     * Returns a copy of {@code image} scaled down, keeping its aspect ratio, so that its longest side is at most
+     * {@code maxSize} pixels long. An image that already fits is returned as it is.
+     * <p>
+     * The image is halved repeatedly with bilinear interpolation before being scaled to its final size, as a single
+     * bilinear step skips most of the pixels of a large image and leaves it jagged.
+     *
+     * @param image   A {@link BufferedImage} to scale.
+     * @param maxSize The longest that the sides of the scaled image may be.
+     * @return The scaled image.
+     */
+    public BufferedImage scaleToFit(BufferedImage image, int maxSize) {
+        int longestSide = Math.max(image.getWidth(), image.getHeight());
+        if (longestSide <= maxSize) {
+            return image;
+        }
+
+        double scale = (double) maxSize / longestSide;
+        int targetWidth = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(image.getHeight() * scale));
+        BufferedImage scaledImage = image;
+        int width = image.getWidth();
+        int height = image.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            scaledImage = resize(scaledImage, width, height);
+        } while (width != targetWidth || height != targetHeight);
+        return scaledImage;
+    }
+
+    private static BufferedImage resize(BufferedImage image, int width, int height) {
+        int type = image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage resizedImage = new BufferedImage(width, height, type);
+        Graphics2D graphics = resizedImage.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
         }
-        return true;
+        return resizedImage;
     }
 
     /**
@@ -160,34 +218,4 @@ public class PhotographUtil {
         return imageFilePath.compareTo(PLACEHOLDER_IMAGE_PATH) == 0
             || imageFilePath.compareTo(FileUtil.relativePathFrom("data", "images", "placeholder")) == 0;
     }
-
-    /**
-     * Writes all images in {@code recipeList} to disk; skips if the file already
-     * exists.
-     *
-     * @param recipeList    An unmodifiable list of recipes whose images are to be
-     *                      saved.
-     * @param imageFilePath
-     * @throws IOException
-     */
-    public void saveAllImages(ObservableList<Recipe> recipeList, Path imageFilePath) throws IOException {
-        for (Recipe recipe : recipeList) {
-            Path recipeImagePath = FileUtil.joinPaths(imageFilePath, recipe.getPhotograph().getImageFileName(recipe));
-            if (!isPlaceHolderImage(recipeImagePath) && !FileUtil.isFileExists(recipeImagePath)) {
-                FileUtil.createIfMissing(recipeImagePath);
-                ImageIO.write(recipe.getPhotograph().getData(), "png", recipeImagePath.toFile());
-            }
-        }
-    }
-
-    /**
-     * Generates a hashcode for {@code image}, based on its RGB pixel data. Two
-     * identical images should return the same hashcode.
-     *
-     * @param image A {@link BufferedImage} to hash
-     * @return The hashcode.
-     */
-    public int hashImage(BufferedImage image) {
-        return Arrays.hashCode(image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth()));
-    }
 }
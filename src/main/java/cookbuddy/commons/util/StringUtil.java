@@ -5,7 +5,11 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
 /**
  * Helper functions for handling strings.
@@ -25,17 +29,104 @@ public class StringUtil {
      */
     public static boolean containsWordIgnoreCase(String sentence, String word) {
         requireNonNull(sentence);
-        requireNonNull(word);
+        String preppedWord = normalizeWord(word);
+
+        int start = -1;
+        for (int i = 0; i <= sentence.length(); i++) {
+            boolean isWordEnd = i == sentence.length() || Character.isWhitespace(sentence.charAt(i));
+            if (isWordEnd && start >= 0) {
+                boolean isSameLength = i - start == preppedWord.length();
+                if (isSameLength && sentence.regionMatches(true, start, preppedWord, 0, i - start)) {
+                    return true;
+                }
+                start = -1;
+            } else if (!isWordEnd && start < 0) {
+                start = i;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the distinct whitespace-separated words in {@code text}, in lowercase.
+     *   <br>examples:<pre>
+     *       getWordsIgnoreCase(" ABc def abc") == {"abc", "def"}
+     *       </pre>
+     * The returned set is meant to be computed once and kept, e.g. by attributes that are searched for words, so that
+     * they can be matched against words from {@link #normalizeWord(String)} without splitting {@code text} again.
+     */
+    public static Set<String> getWordsIgnoreCase(String text) {
+        requireNonNull(text);
+        Set<String> words = new HashSet<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordEnd = i == text.length() || Character.isWhitespace(text.charAt(i));
+            if (isWordEnd && start >= 0) {
+                words.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            } else if (!isWordEnd && start < 0) {
+                start = i;
+            }
+        }
+        return Collections.unmodifiableSet(words);
+    }
 
+    /**
+     * Returns {@code word} trimmed and in lowercase, as it would appear in {@link #getWordsIgnoreCase(String)}.
+     * @param word cannot be null, cannot be empty, must be a single word
+     */
+    public static String normalizeWord(String word) {
+        requireNonNull(word);
         String preppedWord = word.trim();
         checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
-        checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+        checkArgument(preppedWord.chars().noneMatch(Character::isWhitespace), "Word parameter should be a single word");
+        return preppedWord.toLowerCase(Locale.ROOT);
+    }
 
-        String preppedSentence = sentence;
-        String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
+    /**
+     * Returns true if {@code words} contains any of {@code normalizedWords}.
+     * Neither argument is copied or split, so this does not allocate.
+     * @param words words as returned by {@link #getWordsIgnoreCase(String)}
+     * @param normalizedWords words as returned by {@link #normalizeWord(String)}
+     */
+    public static boolean containsAnyWord(Set<String> words, List<String> normalizedWords) {
+        for (int i = 0; i < normalizedWords.size(); i++) {
+            if (words.contains(normalizedWords.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        return Arrays.stream(wordsInPreppedSentence)
-                .anyMatch(preppedWord::equalsIgnoreCase);
+    /**
+     * Returns the least number of single character insertions, deletions and substitutions that turn {@code first}
+     * into {@code second}, i.e. their Levenshtein distance.
+     *   <br>examples:<pre>
+     *       getEditDistance("tomatoe", "tomato") == 1
+     *       getEditDistance("chikcen", "chicken") == 2
+     *       </pre>
+     */
+    public static int getEditDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            currentRow[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(previousRow[j - 1] + substitutionCost,
+                        Math.min(previousRow[j], currentRow[j - 1]) + 1);
+            }
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return previousRow[second.length()];
     }
 
     /**
@@ -0,0 +1,111 @@
+package cookbuddy.commons.util;
+
+import static cookbuddy.commons.util.AppUtil.checkArgument;
+import static cookbuddy.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Supplier;
+
+import javax.imageio.ImageIO;
+
+/**
+ * A cache of downscaled copies of images, kept as PNG files in a directory on the hard disk and keyed by the digest of
+ * the full image.
+ * <p>
+ * The first time that a thumbnail of an image is asked for, thumbnails are made of it at every size in
+ * {@link #THUMBNAIL_SIZES} at once, so that the full image is decoded and scaled only once. Later requests, including
+ * those of later runs of the application, only read the small file of the thumbnail that they need.
+ */
+public class ThumbnailCache {
+
+    /** The lengths, in pixels, of the longest sides of the thumbnails made of each image, from smallest to largest. */
+    public static final List<Integer> THUMBNAIL_SIZES = List.of(64, 256, 1024);
+    public static final String THUMBNAIL_DIRECTORY = "thumbnails";
+    public static final String MESSAGE_CONSTRAINTS = "The size of a thumbnail must be positive.";
+
+    private static final PhotographUtil IMAGE_UTIL = PhotographUtil.imageUtil();
+
+    private final Path thumbnailsPath;
+
+    /**
+     * Constructs a {@code ThumbnailCache} that keeps its thumbnails in a directory within {@code imagesPath}.
+     */
+    public ThumbnailCache(Path imagesPath) {
+        requireNonNull(imagesPath);
+        this.thumbnailsPath = imagesPath.resolve(THUMBNAIL_DIRECTORY);
+    }
+
+    public Path getThumbnailsPath() {
+        return thumbnailsPath;
+    }
+
+    /**
+     * Returns the path of the file of the thumbnail of the image with {@code digest}, at the size {@code size}.
+     */
+    public Path getThumbnailPath(String digest, int size) {
+        requireNonNull(digest);
+        return thumbnailsPath.resolve(digest + "-" + size + ".png");
+    }
+
+    /**
+     * Returns the size of the smallest thumbnail that is at least {@code minSize} pixels long on its longest side,
+     * or the size of the largest thumbnail if none is that long.
+     */
+    public static int getThumbnailSize(int minSize) {
+        checkArgument(minSize > 0, MESSAGE_CONSTRAINTS);
+        return THUMBNAIL_SIZES.stream()
+                .filter(size -> size >= minSize)
+                .findFirst()
+                .orElse(THUMBNAIL_SIZES.get(THUMBNAIL_SIZES.size() - 1));
+    }
+
+    /**
+     * Returns the file of the thumbnail of the image with {@code digest} whose size is
+     * {@link #getThumbnailSize(int) fitted} to {@code minSize}. If the thumbnails of the image have not been made
+     * yet, they are made from the image given by {@code image}, which is not called otherwise.
+     *
+     * @throws IOException if the thumbnails cannot be written.
+     */
+    public Path getThumbnail(String digest, Supplier<BufferedImage> image, int minSize) throws IOException {
+        requireAllNonNull(digest, image);
+        Path thumbnailPath = getThumbnailPath(digest, getThumbnailSize(minSize));
+        if (!FileUtil.isFileExists(thumbnailPath)) {
+            writeThumbnails(digest, image.get());
+        }
+        return thumbnailPath;
+    }
+
+    /**
+     * Deletes the thumbnails of the image with {@code digest} at every size, if there are any.
+     *
+     * @throws IOException if a thumbnail cannot be deleted.
+     */
+    public synchronized void deleteThumbnails(String digest) throws IOException {
+        requireNonNull(digest);
+        for (int size : THUMBNAIL_SIZES) {
+            Files.deleteIfExists(getThumbnailPath(digest, size));
+        }
+    }
+
+    /**
+     * Writes the thumbnails of {@code image} at every size, from the largest down, so that each is scaled from the
+     * one before rather than from the full image. Thumbnails that another call has written in the meantime are kept.
+     */
+    private synchronized void writeThumbnails(String digest, BufferedImage image) throws IOException {
+        BufferedImage thumbnail = image;
+        for (int i = THUMBNAIL_SIZES.size() - 1; i >= 0; i--) {
+            int size = THUMBNAIL_SIZES.get(i);
+            thumbnail = IMAGE_UTIL.scaleToFit(thumbnail, size);
+            Path thumbnailPath = getThumbnailPath(digest, size);
+            if (!FileUtil.isFileExists(thumbnailPath)) {
+                BufferedImage encodedThumbnail = thumbnail;
+                FileUtil.writeToFileAtomically(thumbnailPath, out -> ImageIO.write(encodedThumbnail, "png", out));
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package cookbuddy.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import cookbuddy.commons.core.GuiSettings;
 import cookbuddy.logic.commands.CommandResult;
@@ -9,12 +10,19 @@ import cookbuddy.logic.parser.exceptions.ParseException;
 import cookbuddy.model.Model;
 import cookbuddy.model.ReadOnlyRecipeBook;
 import cookbuddy.model.recipe.Recipe;
+import javafx.beans.property.ReadOnlyDoubleProperty;
 import javafx.collections.ObservableList;
 
 /**
  * API of the Logic component
  */
 public interface Logic {
+
+    /** The load progress of a recipe book of which it is not yet known how much is left to load. */
+    double LOAD_PROGRESS_UNKNOWN = -1;
+    /** The load progress of a recipe book that has been loaded completely. */
+    double LOAD_PROGRESS_DONE = 1;
+
     /**
      * Executes the command and returns the result.
      * @param commandText The command as entered by the user.
@@ -24,6 +32,30 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Marks the recipe book as being loaded in the background. Until {@link #finishLoading()} is called, commands
+     * that change the recipe book are queued instead of being executed, and nothing is saved.
+     */
+    void beginLoading();
+
+    /**
+     * Adds {@code recipes}, the next part of the recipe book being loaded, to it, and sets the load progress to
+     * {@code progress}.
+     */
+    void addLoadedRecipes(List<Recipe> recipes, double progress);
+
+    /**
+     * Marks the recipe book as loaded, and executes the commands that were queued while it was loading, in order.
+     * @return the feedback of each queued command, or the reason that it failed.
+     */
+    List<String> finishLoading();
+
+    /**
+     * Returns the progress of loading the recipe book, from 0 to {@link #LOAD_PROGRESS_DONE}, or
+     * {@link #LOAD_PROGRESS_UNKNOWN} while it is not known.
+     */
+    ReadOnlyDoubleProperty loadProgressProperty();
+
     /**
      * Returns the RecipeBook.
      *
@@ -39,6 +71,11 @@ public interface Logic {
      */
     Path getRecipeBookFilePath();
 
+    /**
+     * Returns the user prefs' path of the directory that recipe images are stored in.
+     */
+    Path getImagesPath();
+
     /**
      * Returns the user prefs' GUI settings.
      */
@@ -2,6 +2,8 @@ package cookbuddy.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 
 import cookbuddy.commons.core.GuiSettings;
@@ -15,6 +17,8 @@ import cookbuddy.model.Model;
 import cookbuddy.model.ReadOnlyRecipeBook;
 import cookbuddy.model.recipe.Recipe;
 import cookbuddy.storage.Storage;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
 import javafx.collections.ObservableList;
 
 /**
@@ -22,11 +26,16 @@ import javafx.collections.ObservableList;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String MESSAGE_COMMAND_QUEUED = "Recipes are still loading. This command will run once they "
+            + "have all been loaded.";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final RecipeBookParser recipeBookParser;
+    private final ReadOnlyDoubleWrapper loadProgress = new ReadOnlyDoubleWrapper(LOAD_PROGRESS_DONE);
+    private final List<Command> queuedCommands = new ArrayList<>();
+    private boolean isLoading = false;
 
     public LogicManager(Model model, Storage storage) {
         this.model = model;
@@ -38,17 +47,70 @@ public class LogicManager implements Logic {
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
         Command command = recipeBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
 
+        if (command.isMutating() && isLoading) {
+            // the command may refer to recipes that have not been loaded yet, and saving now would lose them
+            queuedCommands.add(command);
+            return new CommandResult(MESSAGE_COMMAND_QUEUED);
+        }
+        CommandResult commandResult = command.execute(model);
+
+        if (!command.isMutating()) {
+            return commandResult;
+        }
+
+        saveRecipeBook();
+        return commandResult;
+    }
+
+    @Override
+    public void beginLoading() {
+        isLoading = true;
+        loadProgress.set(LOAD_PROGRESS_UNKNOWN);
+    }
+
+    @Override
+    public void addLoadedRecipes(List<Recipe> recipes, double progress) {
+        model.addRecipes(recipes);
+        loadProgress.set(progress);
+    }
+
+    @Override
+    public List<String> finishLoading() {
+        isLoading = false;
+        loadProgress.set(LOAD_PROGRESS_DONE);
+
+        List<String> feedback = new ArrayList<>();
+        for (Command command : queuedCommands) {
+            try {
+                feedback.add(command.execute(model).getFeedbackToUser());
+            } catch (CommandException e) {
+                feedback.add(e.getMessage());
+            }
+        }
+        if (!queuedCommands.isEmpty()) {
+            queuedCommands.clear();
+            try {
+                saveRecipeBook();
+            } catch (CommandException e) {
+                feedback.add(e.getMessage());
+            }
+        }
+        return feedback;
+    }
+
+    @Override
+    public ReadOnlyDoubleProperty loadProgressProperty() {
+        return loadProgress.getReadOnlyProperty();
+    }
+
+    private void saveRecipeBook() throws CommandException {
         try {
             storage.saveRecipeBook(model.getRecipeBook());
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
-
-        return commandResult;
     }
 
     @Override
@@ -66,6 +128,11 @@ public class LogicManager implements Logic {
         return model.getRecipeBookFilePath();
     }
 
+    @Override
+    public Path getImagesPath() {
+        return model.getUserPrefs().getImagesPath();
+    }
+
     @Override
     public GuiSettings getGuiSettings() {
         return model.getGuiSettings();
@@ -17,4 +17,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if executing this command may change the data in the recipe book, so that it has to be saved
+     * afterwards. Commands that only read the recipe book, or only change what is displayed, should return false.
+     */
+    public boolean isMutating() {
+        return true;
+    }
+
 }
@@ -24,4 +24,9 @@ public class CountCommand extends Command {
         total = model.count();
         return new CommandResult(MESSAGE_SUCCESS + total);
     }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
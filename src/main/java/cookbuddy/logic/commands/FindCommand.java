@@ -2,12 +2,14 @@ package cookbuddy.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.function.Predicate;
+
 import cookbuddy.commons.core.Messages;
 import cookbuddy.model.Model;
-import cookbuddy.model.recipe.ContainsKeywordsPredicate;
+import cookbuddy.model.recipe.Recipe;
 
 /**
- * Finds and lists all recipes in recipe book whose name contains any of the argument keywords.
+ * Finds and lists all recipes in recipe book that match a query of their attributes.
  * Keyword matching is case insensitive.
  */
 public class FindCommand extends Command {
@@ -17,11 +19,20 @@ public class FindCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all recipes whose attribute contains any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
             + "Parameters: attribute/ KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " n/ sandwich";
-
-    private final ContainsKeywordsPredicate predicate;
-
-    public FindCommand(ContainsKeywordsPredicate predicate) {
+            + "Attributes: n/ (name), ing/ (ingredients), ins/ (instructions), t/ (tags)\n"
+            + "End a keyword with * to find words starting with it, or with ~ to also find misspellings of it, "
+            + "closest matches first.\n"
+            + "Numeric attributes: cal/ (calories), r/ (rating), d/ (difficulty), s/ (serving), time/ (prep time), "
+            + "followed by a value, a range such as 1-3, or a bound such as >=4\n"
+            + "Combine attributes with AND, OR, NOT and parentheses; attributes with no operator between them "
+            + "must all match.\n"
+            + "Example: " + COMMAND_WORD + " n/ sandwich\n"
+            + "Example: " + COMMAND_WORD + " ing/ chick* tomatoe~\n"
+            + "Example: " + COMMAND_WORD + " ing/ chicken AND r/ >=4 AND NOT (t/ spicy OR cal/ >800)";
+
+    private final Predicate<Recipe> predicate;
+
+    public FindCommand(Predicate<Recipe> predicate) {
         this.predicate = predicate;
     }
 
@@ -33,6 +44,11 @@ public class FindCommand extends Command {
                 String.format(Messages.MESSAGE_RECIPES_LISTED_OVERVIEW, model.getFilteredRecipeList().size()));
     }
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -28,6 +28,11 @@ public class HelpCommand extends Command {
         return new CommandResult(SHOWING_HELP_MESSAGE, true, false);
     }
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
     public String getCommandWord () {
         return commandDescription;
     }
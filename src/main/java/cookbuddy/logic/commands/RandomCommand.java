@@ -57,6 +57,11 @@ public class RandomCommand extends Command {
         return new CommandResult(String.format(MESSAGE_VIEW_RECIPE_SUCCESS, recipeToView.getName()));
     }
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
     public Index getTargetIndex() {
         return targetIndex;
     }
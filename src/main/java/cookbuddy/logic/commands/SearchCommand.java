@@ -0,0 +1,49 @@
+package cookbuddy.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import cookbuddy.commons.core.Messages;
+import cookbuddy.model.Model;
+import cookbuddy.model.recipe.RelevantKeywordsPredicate;
+
+/**
+ * Lists the recipes in recipe book that are most relevant to the argument keywords, from the most relevant to the
+ * least. Keyword matching is case insensitive.
+ */
+public class SearchCommand extends Command {
+
+    public static final String COMMAND_WORD = "search";
+    public static final int MAX_RESULTS = 50;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Searches the names, ingredients, instructions and "
+            + "tags of all recipes for the specified keywords (case-insensitive) and displays the " + MAX_RESULTS
+            + " most relevant recipes as a list with index numbers, best match first.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " ham bread";
+
+    private final RelevantKeywordsPredicate predicate;
+
+    public SearchCommand(RelevantKeywordsPredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredRecipeList(predicate);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_RECIPES_LISTED_OVERVIEW, model.getFilteredRecipeList().size()));
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SearchCommand // instanceof handles nulls
+                && predicate.equals(((SearchCommand) other).predicate)); // state check
+    }
+}
@@ -0,0 +1,68 @@
+package cookbuddy.logic.commands;
+
+import static cookbuddy.model.Model.PREDICATE_SHOW_ALL_RECIPES;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import cookbuddy.commons.core.Messages;
+import cookbuddy.model.Model;
+import cookbuddy.model.query.TagQuery;
+import cookbuddy.model.recipe.attribute.Tag;
+
+/**
+ * Lists all recipes in recipe book that have all of the argument tags, with the number of those recipes that have
+ * each of their other tags. Tag matching is case sensitive.
+ */
+public class TagsCommand extends Command {
+
+    public static final String COMMAND_WORD = "tags";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the recipes that have all of the specified "
+            + "tags (case-sensitive), and how many of them have each of their other tags. With no tags, lists all "
+            + "recipes and how many have each tag.\n"
+            + "Parameters: [TAG]...\n"
+            + "Example: " + COMMAND_WORD + " lunch quick";
+
+    public static final String MESSAGE_TAG_COUNTS = "Tags: %1$s";
+    public static final String MESSAGE_NO_OTHER_TAGS = "No other tags.";
+
+    private final Set<Tag> tags;
+
+    public TagsCommand(Set<Tag> tags) {
+        requireNonNull(tags);
+        this.tags = tags;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredRecipeList(tags.isEmpty() ? PREDICATE_SHOW_ALL_RECIPES : new TagQuery(tags));
+
+        Map<Tag, Integer> tagCounts = model.getTagCounts(tags);
+        String otherTags = tagCounts.entrySet().stream()
+                .filter(entry -> !tags.contains(entry.getKey()))
+                .sorted(Map.Entry.<Tag, Integer>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(entry -> entry.getKey().tagName))
+                .map(entry -> entry.getKey().tagName + " (" + entry.getValue() + ")")
+                .collect(Collectors.joining(", "));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_RECIPES_LISTED_OVERVIEW, model.getFilteredRecipeList().size()) + "\n"
+                + (otherTags.isEmpty() ? MESSAGE_NO_OTHER_TAGS : String.format(MESSAGE_TAG_COUNTS, otherTags)));
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TagsCommand // instanceof handles nulls
+                && tags.equals(((TagsCommand) other).tags)); // state check
+    }
+}
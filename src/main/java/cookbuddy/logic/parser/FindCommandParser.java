@@ -1,32 +1,84 @@
 package cookbuddy.logic.parser;
 
 import static cookbuddy.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static cookbuddy.logic.parser.CliSyntax.PREFIX_CALORIE;
+import static cookbuddy.logic.parser.CliSyntax.PREFIX_DIFFICULTY;
 import static cookbuddy.logic.parser.CliSyntax.PREFIX_INGREDIENTS;
 import static cookbuddy.logic.parser.CliSyntax.PREFIX_INSTRUCTIONS;
 import static cookbuddy.logic.parser.CliSyntax.PREFIX_NAME;
+import static cookbuddy.logic.parser.CliSyntax.PREFIX_RATING;
+import static cookbuddy.logic.parser.CliSyntax.PREFIX_SERVING;
+import static cookbuddy.logic.parser.CliSyntax.PREFIX_TAG;
+import static cookbuddy.logic.parser.CliSyntax.PREFIX_TIME;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import cookbuddy.logic.commands.FindCommand;
 import cookbuddy.logic.parser.exceptions.ParseException;
+import cookbuddy.model.index.FuzzyKeyword;
+import cookbuddy.model.index.NumericField;
+import cookbuddy.model.index.RecipeField;
+import cookbuddy.model.query.AndQuery;
+import cookbuddy.model.query.KeywordQuery;
+import cookbuddy.model.query.NotQuery;
+import cookbuddy.model.query.OrQuery;
+import cookbuddy.model.query.Query;
+import cookbuddy.model.query.RangeQuery;
+import cookbuddy.model.recipe.ContainsKeywordsPredicate;
+import cookbuddy.model.recipe.FuzzyKeywordsPredicate;
 import cookbuddy.model.recipe.IngredientContainsKeywordsPredicate;
 import cookbuddy.model.recipe.InstructionContainsKeywordsPredicate;
 import cookbuddy.model.recipe.NameContainsKeywordsPredicate;
+import cookbuddy.model.recipe.Recipe;
+import cookbuddy.model.recipe.TagContainsKeywordsPredicate;
 import cookbuddy.model.recipe.attribute.Name;
 
 /**
  * Parses input arguments and creates a new FindCommand object
+ * <p>
+ * The arguments are a query of attributes, e.g. {@code n/ chicken AND r/ >=4 AND NOT (t/ spicy OR cal/ >800)}.
+ * {@code NOT} binds tighter than {@code AND}, which binds tighter than {@code OR}, and attributes with no operator
+ * between them must all match. The keywords of a name, ingredient, instruction or tag attribute are the words up to
+ * the next attribute, operator or parenthesis, any of which may match.
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
-    /**
-     * Returns true if only one of the prefixes contains a value in the given
-     * {@code ArgumentMultimap}.
-     */
-    public static boolean isSinglePrefixPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
-        long number = Arrays.stream(prefixes).filter(prefix -> argumentMultimap.getValue(prefix).isPresent()).count();
+    public static final String OPERATOR_AND = "AND";
+    public static final String OPERATOR_OR = "OR";
+    public static final String OPERATOR_NOT = "NOT";
+    public static final String OPEN_PARENTHESIS = "(";
+    public static final String CLOSE_PARENTHESIS = ")";
+
+    public static final String MESSAGE_EXPECTED_ATTRIBUTE = "Expected an attribute to search for, such as n/ or r/, "
+            + "but found: %1$s";
+    public static final String MESSAGE_UNMATCHED_PARENTHESIS = "Every ( in a search must be closed by a )";
+    public static final String MESSAGE_INVALID_RANGE = "%1$s should be followed by a number, a range such as 1-3, "
+            + "or a bound such as >=4 or <500";
+
+    private static final Map<Prefix, KeywordAttribute> KEYWORD_ATTRIBUTES = new LinkedHashMap<>();
+    private static final Map<Prefix, NumericField> NUMERIC_ATTRIBUTES = new LinkedHashMap<>();
+
+    static {
+        KEYWORD_ATTRIBUTES.put(PREFIX_NAME, new KeywordAttribute(RecipeField.NAME,
+                NameContainsKeywordsPredicate::new, Name.MESSAGE_CONSTRAINTS));
+        KEYWORD_ATTRIBUTES.put(PREFIX_INGREDIENTS, new KeywordAttribute(RecipeField.INGREDIENT,
+                IngredientContainsKeywordsPredicate::new, "Enter ingredients to search for."));
+        KEYWORD_ATTRIBUTES.put(PREFIX_INSTRUCTIONS, new KeywordAttribute(RecipeField.INSTRUCTION,
+                InstructionContainsKeywordsPredicate::new, "Enter instruction words to search for."));
+        KEYWORD_ATTRIBUTES.put(PREFIX_TAG, new KeywordAttribute(RecipeField.TAG,
+                TagContainsKeywordsPredicate::new, "Enter tags to search for."));
 
-        return number == 1 ? true : false;
+        NUMERIC_ATTRIBUTES.put(PREFIX_CALORIE, NumericField.CALORIE);
+        NUMERIC_ATTRIBUTES.put(PREFIX_RATING, NumericField.RATING);
+        NUMERIC_ATTRIBUTES.put(PREFIX_DIFFICULTY, NumericField.DIFFICULTY);
+        NUMERIC_ATTRIBUTES.put(PREFIX_SERVING, NumericField.SERVING);
+        NUMERIC_ATTRIBUTES.put(PREFIX_TIME, NumericField.PREP_TIME);
     }
 
     /**
@@ -35,41 +87,262 @@ public class FindCommandParser implements Parser<FindCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
-        ArgumentMultimap argumentMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_INGREDIENTS,
-                PREFIX_INSTRUCTIONS);
+        Tokens tokens = new Tokens(args);
+        if (!tokens.hasNext()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
 
-        // TODO: allow finding via multiple prefixes
-        if (!isSinglePrefixPresent(argumentMultimap, PREFIX_NAME, PREFIX_INGREDIENTS, PREFIX_INSTRUCTIONS)) {
-            throw new ParseException("Please search for 1 attribute at a time!");
+        Query query = parseOr(tokens);
+        if (tokens.hasNext()) {
+            throw new ParseException(tokens.peek().equals(CLOSE_PARENTHESIS)
+                    ? MESSAGE_UNMATCHED_PARENTHESIS
+                    : String.format(MESSAGE_EXPECTED_ATTRIBUTE, tokens.peek()));
+        }
+        return new FindCommand(toPredicate(query));
+    }
+
+    /**
+     * Returns the predicate of a query of a single keyword attribute, so that its matches can be ranked, or else
+     * {@code query} itself.
+     */
+    private static Predicate<Recipe> toPredicate(Query query) {
+        if (query instanceof KeywordQuery) {
+            return ((KeywordQuery) query).getPredicate();
         }
+        return query;
+    }
 
-        String[] keywords;
+    private static Query parseOr(Tokens tokens) throws ParseException {
+        List<Query> parts = new ArrayList<>();
+        parts.add(parseAnd(tokens));
+        while (tokens.nextIs(OPERATOR_OR)) {
+            tokens.next();
+            parts.add(parseAnd(tokens));
+        }
+        return parts.size() == 1 ? parts.get(0) : new OrQuery(parts);
+    }
 
-        if (argumentMultimap.getValue(PREFIX_NAME).isPresent()) {
-            if (argumentMultimap.getValue(PREFIX_NAME).get().isEmpty()) {
-                throw new ParseException(Name.MESSAGE_CONSTRAINTS);
+    private static Query parseAnd(Tokens tokens) throws ParseException {
+        List<Query> parts = new ArrayList<>();
+        parts.add(parseNot(tokens));
+        while (tokens.hasNext() && !tokens.nextIs(OPERATOR_OR) && !tokens.nextIs(CLOSE_PARENTHESIS)) {
+            if (tokens.nextIs(OPERATOR_AND)) {
+                tokens.next();
             }
+            parts.add(parseNot(tokens));
+        }
+        return parts.size() == 1 ? parts.get(0) : new AndQuery(parts);
+    }
 
-            keywords = argumentMultimap.getValue(PREFIX_NAME).get().split("\\s+");
-            return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(keywords)));
+    private static Query parseNot(Tokens tokens) throws ParseException {
+        if (tokens.nextIs(OPERATOR_NOT)) {
+            tokens.next();
+            return new NotQuery(parseNot(tokens));
+        }
+        return parsePrimary(tokens);
+    }
 
-        } else if (argumentMultimap.getValue(PREFIX_INGREDIENTS).isPresent()) {
-            if (argumentMultimap.getValue(PREFIX_INGREDIENTS).get().isEmpty()) {
-                throw new ParseException("Enter ingredients to search for.");
-            }
+    private static Query parsePrimary(Tokens tokens) throws ParseException {
+        if (!tokens.hasNext()) {
+            throw new ParseException(String.format(MESSAGE_EXPECTED_ATTRIBUTE, "the end of the search"));
+        }
 
-            keywords = argumentMultimap.getValue(PREFIX_INGREDIENTS).get().split("\\s+");
-            return new FindCommand(new IngredientContainsKeywordsPredicate(Arrays.asList(keywords)));
-        } else if (argumentMultimap.getValue(PREFIX_INSTRUCTIONS).isPresent()) {
-            if (argumentMultimap.getValue(PREFIX_INSTRUCTIONS).get().isEmpty()) {
-                throw new ParseException("Enter instruction words to search for.");
+        if (tokens.nextIs(OPEN_PARENTHESIS)) {
+            tokens.next();
+            Query query = parseOr(tokens);
+            if (!tokens.nextIs(CLOSE_PARENTHESIS)) {
+                throw new ParseException(MESSAGE_UNMATCHED_PARENTHESIS);
             }
+            tokens.next();
+            return query;
+        }
 
-            keywords = argumentMultimap.getValue(PREFIX_INSTRUCTIONS).get().split("\\s+");
-            return new FindCommand(new InstructionContainsKeywordsPredicate(Arrays.asList(keywords)));
+        String token = tokens.next();
+        Optional<Prefix> prefix = getPrefix(token);
+        if (!prefix.isPresent()) {
+            throw new ParseException(String.format(MESSAGE_EXPECTED_ATTRIBUTE, token));
+        }
+        String value = token.substring(prefix.get().getPrefix().length());
+        if (KEYWORD_ATTRIBUTES.containsKey(prefix.get())) {
+            return parseKeywords(tokens, KEYWORD_ATTRIBUTES.get(prefix.get()), value);
         }
+        return parseRange(tokens, prefix.get(), value);
+    }
 
-        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    /**
+     * Parses the keywords of a keyword attribute, which are {@code firstValue}, if it is not empty, and the words that
+     * follow it up to the next attribute, operator or parenthesis.
+     */
+    private static Query parseKeywords(Tokens tokens, KeywordAttribute attribute, String firstValue)
+            throws ParseException {
+        List<String> keywords = new ArrayList<>();
+        if (!firstValue.isEmpty()) {
+            keywords.add(firstValue);
+        }
+        while (tokens.nextIsWord()) {
+            keywords.add(tokens.next());
+        }
+        if (keywords.isEmpty()) {
+            throw new ParseException(attribute.emptyMessage);
+        }
+        return new KeywordQuery(createPredicate(attribute.field, keywords, attribute.exactPredicate));
     }
 
+    /**
+     * Returns a predicate that searches {@code field} for {@code keywords}, which matches words that start with, or
+     * are close to, the keywords if any of them asks for it, and otherwise is created by {@code exactPredicate}.
+     * @throws ParseException if a keyword is only a marker
+     */
+    private static ContainsKeywordsPredicate createPredicate(RecipeField field, List<String> keywords,
+            Function<List<String>, ContainsKeywordsPredicate> exactPredicate) throws ParseException {
+        if (keywords.stream().noneMatch(FuzzyKeyword::hasMarker)) {
+            return exactPredicate.apply(keywords);
+        }
+        if (!keywords.stream().allMatch(FuzzyKeyword::isValidKeyword)) {
+            throw new ParseException(FuzzyKeyword.MESSAGE_CONSTRAINTS);
+        }
+        return new FuzzyKeywordsPredicate(field, keywords);
+    }
+
+    /**
+     * Parses the range of a numeric attribute, which is {@code value}, or the next word if {@code value} is empty.
+     * A range is a single value, two values separated by {@code -}, or a value after one of {@code <, <=, >, >=, =}.
+     * A {@code -} at the start of a value is its sign, and only a {@code -} that follows a value separates two.
+     */
+    private static Query parseRange(Tokens tokens, Prefix prefix, String value) throws ParseException {
+        String range = value.isEmpty() && tokens.nextIsWord() ? tokens.next() : value;
+        String invalidRangeMessage = String.format(MESSAGE_INVALID_RANGE, prefix);
+        NumericField field = NUMERIC_ATTRIBUTES.get(prefix);
+
+        long min = Long.MIN_VALUE;
+        long max = Long.MAX_VALUE;
+        if (range.startsWith(">=")) {
+            min = parseValue(field, range.substring(2), invalidRangeMessage);
+        } else if (range.startsWith(">")) {
+            min = addExact(parseValue(field, range.substring(1), invalidRangeMessage), 1, invalidRangeMessage);
+        } else if (range.startsWith("<=")) {
+            max = parseValue(field, range.substring(2), invalidRangeMessage);
+        } else if (range.startsWith("<")) {
+            max = addExact(parseValue(field, range.substring(1), invalidRangeMessage), -1, invalidRangeMessage);
+        } else if (range.startsWith("=")) {
+            min = parseValue(field, range.substring(1), invalidRangeMessage);
+            max = min;
+        } else if (range.indexOf('-', 1) >= 0) {
+            int separatorIndex = range.indexOf('-', 1);
+            min = parseValue(field, range.substring(0, separatorIndex), invalidRangeMessage);
+            max = parseValue(field, range.substring(separatorIndex + 1), invalidRangeMessage);
+        } else {
+            min = parseValue(field, range, invalidRangeMessage);
+            max = min;
+        }
+
+        if (min > max) {
+            throw new ParseException(invalidRangeMessage);
+        }
+        return new RangeQuery(field, min, max);
+    }
+
+    /**
+     * Returns {@code value + offset}, the bound of a range that excludes {@code value}.
+     * @throws ParseException if there is no such bound, as {@code value} is the smallest or largest possible value
+     */
+    private static long addExact(long value, long offset, String invalidRangeMessage) throws ParseException {
+        try {
+            return Math.addExact(value, offset);
+        } catch (ArithmeticException e) {
+            throw new ParseException(invalidRangeMessage);
+        }
+    }
+
+    /**
+     * Parses a value of {@code field}, which is a time for the prep time and a whole number otherwise.
+     */
+    private static long parseValue(NumericField field, String value, String invalidRangeMessage)
+            throws ParseException {
+        if (field == NumericField.PREP_TIME) {
+            return ParserUtil.parseTime(value).getTotalSeconds();
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new ParseException(invalidRangeMessage);
+        }
+    }
+
+    private static Optional<Prefix> getPrefix(String token) {
+        return KEYWORD_ATTRIBUTES.keySet().stream()
+                .filter(prefix -> token.startsWith(prefix.getPrefix()))
+                .findFirst()
+                .or(() -> NUMERIC_ATTRIBUTES.keySet().stream()
+                        .filter(prefix -> token.startsWith(prefix.getPrefix()))
+                        .findFirst());
+    }
+
+    /**
+     * A keyword attribute of a recipe, with the predicate that exactly matches keywords in it.
+     */
+    private static class KeywordAttribute {
+        private final RecipeField field;
+        private final Function<List<String>, ContainsKeywordsPredicate> exactPredicate;
+        private final String emptyMessage;
+
+        KeywordAttribute(RecipeField field, Function<List<String>, ContainsKeywordsPredicate> exactPredicate,
+                String emptyMessage) {
+            this.field = field;
+            this.exactPredicate = exactPredicate;
+            this.emptyMessage = emptyMessage;
+        }
+    }
+
+    /**
+     * The words of a query, with parentheses split off from the words they are attached to.
+     */
+    private static class Tokens {
+        private final List<String> tokens = new ArrayList<>();
+        private int position = 0;
+
+        Tokens(String args) {
+            for (String word : args.trim().split("\\s+")) {
+                int start = 0;
+                int end = word.length();
+                while (start < end && word.startsWith(OPEN_PARENTHESIS, start)) {
+                    tokens.add(OPEN_PARENTHESIS);
+                    start++;
+                }
+                while (end > start && word.startsWith(CLOSE_PARENTHESIS, end - 1)) {
+                    end--;
+                }
+                if (start < end) {
+                    tokens.add(word.substring(start, end));
+                }
+                for (int i = end; i < word.length(); i++) {
+                    tokens.add(CLOSE_PARENTHESIS);
+                }
+            }
+        }
+
+        boolean hasNext() {
+            return position < tokens.size();
+        }
+
+        String peek() {
+            return tokens.get(position);
+        }
+
+        String next() {
+            return tokens.get(position++);
+        }
+
+        boolean nextIs(String token) {
+            return hasNext() && peek().equals(token);
+        }
+
+        /**
+         * Returns true if the next token is a word, rather than an attribute, operator or parenthesis.
+         */
+        boolean nextIsWord() {
+            return hasNext() && !nextIs(OPERATOR_AND) && !nextIs(OPERATOR_OR) && !nextIs(OPERATOR_NOT)
+                    && !nextIs(OPEN_PARENTHESIS) && !nextIs(CLOSE_PARENTHESIS) && !getPrefix(peek()).isPresent();
+        }
+    }
 }
@@ -15,6 +15,8 @@ import cookbuddy.logic.commands.ModifyCommand;
 import cookbuddy.logic.commands.NewCommand;
 import cookbuddy.logic.commands.RandomCommand;
 import cookbuddy.logic.commands.ResetCommand;
+import cookbuddy.logic.commands.SearchCommand;
+import cookbuddy.logic.commands.TagsCommand;
 import cookbuddy.logic.commands.TimeCommand;
 import cookbuddy.logic.commands.UnFavCommand;
 import cookbuddy.logic.commands.UndoCommand;
@@ -74,6 +76,12 @@ public class HelpCommandParser implements Parser<HelpCommand> {
             case FindCommand.COMMAND_WORD:
                 return new HelpCommand(preface + FindCommand.MESSAGE_USAGE + ending);
 
+            case SearchCommand.COMMAND_WORD:
+                return new HelpCommand(preface + SearchCommand.MESSAGE_USAGE + ending);
+
+            case TagsCommand.COMMAND_WORD:
+                return new HelpCommand(preface + TagsCommand.MESSAGE_USAGE + ending);
+
             case ListCommand.COMMAND_WORD:
                 return new HelpCommand(preface + ListCommand.MESSAGE_USAGE + ending);
 
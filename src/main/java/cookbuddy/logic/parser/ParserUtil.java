@@ -135,7 +135,7 @@ public class ParserUtil {
             return Photograph.PLACEHOLDER_PHOTOGRAPH;
         }
         try {
-            return new Photograph(trimmedPath);
+            return Photograph.intern(new Photograph(trimmedPath));
         } catch (IOException e) {
             throw new ParseException(MESSAGE_INVALID_FILEPATH);
         }
@@ -228,7 +228,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
 
@@ -20,6 +20,8 @@ import cookbuddy.logic.commands.ModifyCommand;
 import cookbuddy.logic.commands.NewCommand;
 import cookbuddy.logic.commands.RandomCommand;
 import cookbuddy.logic.commands.ResetCommand;
+import cookbuddy.logic.commands.SearchCommand;
+import cookbuddy.logic.commands.TagsCommand;
 import cookbuddy.logic.commands.TimeCommand;
 import cookbuddy.logic.commands.UnFavCommand;
 import cookbuddy.logic.commands.UndoCommand;
@@ -89,6 +91,12 @@ public class RecipeBookParser {
         case FindCommand.COMMAND_WORD:
             return new FindCommandParser().parse(arguments);
 
+        case SearchCommand.COMMAND_WORD:
+            return new SearchCommandParser().parse(arguments);
+
+        case TagsCommand.COMMAND_WORD:
+            return new TagsCommandParser().parse(arguments);
+
         case ListCommand.COMMAND_WORD:
             return new ListCommand();
 
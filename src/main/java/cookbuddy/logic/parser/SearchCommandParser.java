@@ -0,0 +1,31 @@
+package cookbuddy.logic.parser;
+
+import static cookbuddy.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Arrays;
+
+import cookbuddy.logic.commands.SearchCommand;
+import cookbuddy.logic.parser.exceptions.ParseException;
+import cookbuddy.model.recipe.RelevantKeywordsPredicate;
+
+/**
+ * Parses input arguments and creates a new SearchCommand object
+ */
+public class SearchCommandParser implements Parser<SearchCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SearchCommand
+     * and returns a SearchCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SearchCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
+        }
+
+        String[] keywords = trimmedArgs.split("\\s+");
+        return new SearchCommand(new RelevantKeywordsPredicate(Arrays.asList(keywords), SearchCommand.MAX_RESULTS));
+    }
+
+}
@@ -0,0 +1,31 @@
+package cookbuddy.logic.parser;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import cookbuddy.logic.commands.TagsCommand;
+import cookbuddy.logic.parser.exceptions.ParseException;
+import cookbuddy.model.recipe.attribute.Tag;
+
+/**
+ * Parses input arguments and creates a new TagsCommand object
+ */
+public class TagsCommandParser implements Parser<TagsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the TagsCommand
+     * and returns a TagsCommand object for execution.
+     * @throws ParseException if any of the tags is invalid
+     */
+    public TagsCommand parse(String args) throws ParseException {
+        Set<Tag> tags = new HashSet<>();
+        String trimmedArgs = args.trim();
+        if (!trimmedArgs.isEmpty()) {
+            for (String tagName : trimmedArgs.split("\\s+")) {
+                tags.add(ParserUtil.parseTag(tagName));
+            }
+        }
+        return new TagsCommand(tags);
+    }
+
+}
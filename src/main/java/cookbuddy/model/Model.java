@@ -1,10 +1,14 @@
 package cookbuddy.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import cookbuddy.commons.core.GuiSettings;
 import cookbuddy.model.recipe.Recipe;
+import cookbuddy.model.recipe.attribute.Tag;
 import cookbuddy.model.recipe.attribute.Time;
 import javafx.collections.ObservableList;
 
@@ -109,6 +113,12 @@ public interface Model {
      */
     void addRecipe(Recipe recipe);
 
+    /**
+     * Adds the given recipes in a single change, keeping the current filter of the filtered recipe list.
+     * None of the {@code recipes} may already exist in the recipe book or be repeated.
+     */
+    void addRecipes(List<Recipe> recipes);
+
     /**
      * Replaces the given recipe {@code target} with {@code editedRecipe}.
      * {@code target} must exist in the recipe book.
@@ -116,6 +126,12 @@ public interface Model {
      */
     void setRecipe(Recipe target, Recipe editedRecipe);
 
+    /**
+     * Returns, for every tag of the recipes that have all of {@code tags}, the number of those recipes that have it.
+     * If {@code tags} is empty, every tag in the recipe book is counted over all recipes.
+     */
+    Map<Tag, Integer> getTagCounts(Set<Tag> tags);
+
     /** Returns an unmodifiable view of the filtered recipe list */
     ObservableList<Recipe> getFilteredRecipeList();
 
@@ -4,15 +4,28 @@ import static cookbuddy.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import cookbuddy.commons.core.GuiSettings;
 import cookbuddy.commons.core.LogsCenter;
+import cookbuddy.model.index.IndexedKeywordsPredicate;
+import cookbuddy.model.index.RankedKeywordsPredicate;
+import cookbuddy.model.index.RecipeIndexes;
+import cookbuddy.model.query.Query;
+import cookbuddy.model.query.QueryPlan;
+import cookbuddy.model.recipe.ContainsKeywordsPredicate;
 import cookbuddy.model.recipe.Recipe;
+import cookbuddy.model.recipe.RelevantKeywordsPredicate;
+import cookbuddy.model.recipe.attribute.Tag;
 import cookbuddy.model.recipe.attribute.Time;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 
 /**
  * Represents the in-memory model of the recipe book data.
@@ -22,7 +35,10 @@ public class ModelManager implements Model {
 
     private final RecipeBook recipeBook;
     private final UserPrefs userPrefs;
+    private final RecipeIndexes indexes;
     private final FilteredList<Recipe> filteredRecipes;
+    private final SortedList<Recipe> sortedRecipes;
+    private RankedKeywordsPredicate rankedPredicate;
 
     /**
      * Initializes a ModelManager with the given recipeBook and userPrefs.
@@ -35,7 +51,13 @@ public class ModelManager implements Model {
 
         this.recipeBook = new RecipeBook(recipeBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        // the indexes must be updated before the filtered list is, as the filter may look recipes up in them
+        indexes = new RecipeIndexes(this.recipeBook.getRecipeIds(), this.recipeBook.getRecipeList());
+        this.recipeBook.getRecipeList().addListener(indexes::onChanged);
         filteredRecipes = new FilteredList<>(this.recipeBook.getRecipeList());
+        sortedRecipes = new SortedList<>(filteredRecipes);
+        // the filtered list has handled the change by now, so a stale ranking can be replaced as a whole
+        this.recipeBook.getRecipeList().addListener((ListChangeListener<Recipe>) change -> rerankIfIndexChanged());
     }
 
     public ModelManager() {
@@ -98,29 +120,21 @@ public class ModelManager implements Model {
     @Override
     public void attemptRecipe(Recipe recipe) {
         recipeBook.attempt(recipe);
-        updateFilteredRecipeList(PREDICATE_SHOW_NO_RECIPES);
-        updateFilteredRecipeList(PREDICATE_SHOW_ALL_RECIPES);
     }
 
     @Override
     public void unAttemptRecipe(Recipe recipe) {
         recipeBook.unAttempt(recipe);
-        updateFilteredRecipeList(PREDICATE_SHOW_NO_RECIPES);
-        updateFilteredRecipeList(PREDICATE_SHOW_ALL_RECIPES);
     }
 
     @Override
     public void favRecipe(Recipe recipe) {
         recipeBook.fav(recipe);
-        updateFilteredRecipeList(PREDICATE_SHOW_NO_RECIPES);
-        updateFilteredRecipeList(PREDICATE_SHOW_ALL_RECIPES);
     }
 
     @Override
     public void unFavRecipe(Recipe recipe) {
         recipeBook.unFav(recipe);
-        updateFilteredRecipeList(PREDICATE_SHOW_NO_RECIPES);
-        updateFilteredRecipeList(PREDICATE_SHOW_ALL_RECIPES);
     }
 
     @Override
@@ -131,8 +145,6 @@ public class ModelManager implements Model {
     @Override
     public void setTime(Recipe recipe, Time time) {
         recipe.setTime(time);
-        updateFilteredRecipeList(PREDICATE_SHOW_NO_RECIPES);
-        updateFilteredRecipeList(PREDICATE_SHOW_ALL_RECIPES);
     }
 
     @Override
@@ -146,27 +158,72 @@ public class ModelManager implements Model {
         updateFilteredRecipeList(PREDICATE_SHOW_ALL_RECIPES);
     }
 
+    @Override
+    public void addRecipes(List<Recipe> recipes) {
+        recipeBook.addRecipes(recipes);
+    }
+
     @Override
     public void setRecipe(Recipe target, Recipe editedRecipe) {
         requireAllNonNull(target, editedRecipe);
         recipeBook.setRecipe(target, editedRecipe);
     }
 
+    @Override
+    public Map<Tag, Integer> getTagCounts(Set<Tag> tags) {
+        requireNonNull(tags);
+        return indexes.getTagIndex().getTagCounts(tags);
+    }
+
     //=========== Filtered Recipe List Accessors =============================================================
 
     /**
      * Returns an unmodifiable view of the list of {@code Recipe} backed by the internal list of
-     * {@code versionedAddressBook}
+     * {@code versionedAddressBook}, ranked by relevance if the current predicate ranks its matches.
      */
     @Override
     public ObservableList<Recipe> getFilteredRecipeList() {
-        return filteredRecipes;
+        return sortedRecipes;
     }
 
+    /**
+     * {@inheritDoc}
+     * A {@code ContainsKeywordsPredicate} is resolved through the keyword index, rather than by testing the words of
+     * every recipe, and its matches are ranked from the closest to the furthest if it allows inexact matches.
+     * A {@code RelevantKeywordsPredicate} only lets its most relevant recipes through, from the most relevant to the
+     * least. A {@code Query} is optimized and answered from the indexes where possible.
+     */
     @Override
     public void updateFilteredRecipeList(Predicate<Recipe> predicate) {
         requireNonNull(predicate);
-        filteredRecipes.setPredicate(predicate);
+        rankedPredicate = null;
+        if (predicate instanceof RelevantKeywordsPredicate) {
+            rankedPredicate =
+                new RankedKeywordsPredicate(indexes.getKeywordIndex(), (RelevantKeywordsPredicate) predicate);
+            filteredRecipes.setPredicate(rankedPredicate);
+            sortedRecipes.setComparator(rankedPredicate.getComparator());
+        } else if (predicate instanceof ContainsKeywordsPredicate) {
+            IndexedKeywordsPredicate indexedPredicate =
+                new IndexedKeywordsPredicate(indexes.getKeywordIndex(), (ContainsKeywordsPredicate) predicate);
+            filteredRecipes.setPredicate(indexedPredicate);
+            sortedRecipes.setComparator(indexedPredicate.getComparator());
+        } else if (predicate instanceof Query) {
+            filteredRecipes.setPredicate(new QueryPlan(indexes, (Query) predicate));
+            sortedRecipes.setComparator(null);
+        } else {
+            filteredRecipes.setPredicate(predicate);
+            sortedRecipes.setComparator(null);
+        }
+    }
+
+    /**
+     * Ranks the recipes again if a ranked search is shown and the keyword index has changed since it was ranked, as
+     * the change may move any recipe into or out of the most relevant ones, or change their order.
+     */
+    private void rerankIfIndexChanged() {
+        if (rankedPredicate != null && rankedPredicate.getIndexVersion() != indexes.getKeywordIndex().getVersion()) {
+            updateFilteredRecipeList(rankedPredicate.getPredicate());
+        }
     }
 
     @Override
@@ -185,7 +242,7 @@ public class ModelManager implements Model {
         ModelManager other = (ModelManager) obj;
         return recipeBook.equals(other.recipeBook)
                && userPrefs.equals(other.userPrefs)
-               && filteredRecipes.equals(other.filteredRecipes);
+               && sortedRecipes.equals(other.sortedRecipes);
     }
 
 }
@@ -3,6 +3,7 @@ package cookbuddy.model;
 import java.nio.file.Path;
 
 import cookbuddy.commons.core.GuiSettings;
+import cookbuddy.commons.core.StorageFormat;
 
 /**
  * Unmodifiable view of user prefs.
@@ -15,4 +16,27 @@ public interface ReadOnlyUserPrefs {
 
     Path getImagesPath();
 
+    /**
+     * Returns the time, in milliseconds, that changes to the recipe book are held back so that they can be saved
+     * together.
+     */
+    long getSaveDelay();
+
+    /**
+     * Returns the format that the recipe book is stored in.
+     */
+    StorageFormat getStorageFormat();
+
+    /**
+     * Returns the number of threads that recipes are converted on when the recipe book is read, or 0 for one thread
+     * per available processor.
+     */
+    int getImportThreadCount();
+
+    /**
+     * Returns true if the main window is shown before the recipe book has been loaded, with the recipes added to it
+     * as they are loaded.
+     */
+    boolean isProgressiveStartup();
+
 }
@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.List;
 
 import cookbuddy.model.recipe.Recipe;
+import cookbuddy.model.recipe.RecipeIds;
 import cookbuddy.model.recipe.UniqueRecipeList;
 import javafx.collections.ObservableList;
 
@@ -119,6 +120,14 @@ public class RecipeBook implements ReadOnlyRecipeBook {
         recipes.add(recipe);
     }
 
+    /**
+     * Adds {@code recipes} to the recipe book in a single change.
+     * None of the recipes may already exist in the recipe book or be repeated in {@code recipes}.
+     */
+    public void addRecipes(List<Recipe> recipes) {
+        this.recipes.addAll(recipes);
+    }
+
     /**
      * Replaces the given recipe {@code target} in the list with {@code editedRecipe}.
      * {@code target} must exist in the recipe book.
@@ -157,6 +166,13 @@ public class RecipeBook implements ReadOnlyRecipeBook {
         return recipes.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the ids of the recipes in this recipe book.
+     */
+    public RecipeIds getRecipeIds() {
+        return recipes.getRecipeIds();
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
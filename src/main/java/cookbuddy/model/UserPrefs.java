@@ -1,5 +1,6 @@
 package cookbuddy.model;
 
+import static cookbuddy.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
@@ -7,6 +8,7 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import cookbuddy.commons.core.GuiSettings;
+import cookbuddy.commons.core.StorageFormat;
 import cookbuddy.commons.util.PhotographUtil;
 
 /**
@@ -14,9 +16,20 @@ import cookbuddy.commons.util.PhotographUtil;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final long DEFAULT_SAVE_DELAY = 500;
+    public static final String MESSAGE_SAVE_DELAY_CONSTRAINTS = "The save delay cannot be negative.";
+    /** The number of import threads that stands for one thread per available processor. */
+    public static final int DEFAULT_IMPORT_THREAD_COUNT = 0;
+    public static final String MESSAGE_IMPORT_THREAD_COUNT_CONSTRAINTS =
+            "The number of import threads cannot be negative.";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path dataFilePath = Paths.get("data" , "recipebook.json");
     private Path recipeImagePath = PhotographUtil.imageUtil().defaultStoragePath;
+    private long saveDelay = DEFAULT_SAVE_DELAY;
+    private StorageFormat storageFormat = StorageFormat.JOURNALED;
+    private int importThreadCount = DEFAULT_IMPORT_THREAD_COUNT;
+    private boolean progressiveStartup = true;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -39,6 +52,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setGuiSettings(newUserPrefs.getGuiSettings());
         setDataFilePath(newUserPrefs.getDataFilePath());
         setImagesPath(newUserPrefs.getImagesPath());
+        setSaveDelay(newUserPrefs.getSaveDelay());
+        setStorageFormat(newUserPrefs.getStorageFormat());
+        setImportThreadCount(newUserPrefs.getImportThreadCount());
+        setProgressiveStartup(newUserPrefs.isProgressiveStartup());
     }
 
 
@@ -70,6 +87,56 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.recipeImagePath = recipeImagePath;
     }
 
+    @Override
+    public long getSaveDelay() {
+        return saveDelay;
+    }
+
+    /**
+     * Sets the time, in milliseconds, that changes to the recipe book are held back so that they can be saved together.
+     */
+    public void setSaveDelay(long saveDelay) {
+        checkArgument(saveDelay >= 0, MESSAGE_SAVE_DELAY_CONSTRAINTS);
+        this.saveDelay = saveDelay;
+    }
+
+    @Override
+    public StorageFormat getStorageFormat() {
+        return storageFormat;
+    }
+
+    public void setStorageFormat(StorageFormat storageFormat) {
+        requireNonNull(storageFormat);
+        this.storageFormat = storageFormat;
+    }
+
+    @Override
+    public int getImportThreadCount() {
+        return importThreadCount;
+    }
+
+    /**
+     * Sets the number of threads that recipes are converted on when the recipe book is read, where
+     * {@link #DEFAULT_IMPORT_THREAD_COUNT} stands for one thread per available processor.
+     */
+    public void setImportThreadCount(int importThreadCount) {
+        checkArgument(importThreadCount >= 0, MESSAGE_IMPORT_THREAD_COUNT_CONSTRAINTS);
+        this.importThreadCount = importThreadCount;
+    }
+
+    @Override
+    public boolean isProgressiveStartup() {
+        return progressiveStartup;
+    }
+
+    /**
+     * Sets whether the main window is shown before the recipe book has been loaded, with the recipes added to it as
+     * they are loaded.
+     */
+    public void setProgressiveStartup(boolean progressiveStartup) {
+        this.progressiveStartup = progressiveStartup;
+    }
+
 
     @Override
     public boolean equals(Object other) {
@@ -84,12 +151,17 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         return guiSettings.equals(o.guiSettings)
                && dataFilePath.equals(o.dataFilePath)
-               && recipeImagePath.equals(o.recipeImagePath);
+               && recipeImagePath.equals(o.recipeImagePath)
+               && saveDelay == o.saveDelay
+               && storageFormat == o.storageFormat
+               && importThreadCount == o.importThreadCount
+               && progressiveStartup == o.progressiveStartup;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, dataFilePath, recipeImagePath);
+        return Objects.hash(guiSettings, dataFilePath, recipeImagePath, saveDelay, storageFormat,
+                importThreadCount, progressiveStartup);
     }
 
     @Override
@@ -98,6 +170,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + dataFilePath);
         sb.append("\nRecipes image location : " + recipeImagePath);
+        sb.append("\nSave delay : " + saveDelay + "ms");
+        sb.append("\nStorage format : " + storageFormat);
+        sb.append("\nImport threads : " + importThreadCount);
+        sb.append("\nProgressive startup : " + progressiveStartup);
         return sb.toString();
     }
 
@@ -0,0 +1,106 @@
+package cookbuddy.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import cookbuddy.commons.util.StringUtil;
+import cookbuddy.model.recipe.Recipe;
+
+/**
+ * Scores recipes by their relevance to keywords with Okapi BM25, summed over the fields of each recipe.
+ * <p>
+ * A keyword adds more to the score of a recipe the rarer it is among all recipes, the more often it appears in a
+ * field, and the shorter that field is compared to the same field of other recipes. Matches in fields that describe
+ * a recipe more closely, such as its name, are boosted over matches in its instructions.
+ */
+public class Bm25Scorer {
+
+    /** How quickly repeated occurrences of a keyword in a field stop adding to the score. */
+    public static final double TERM_FREQUENCY_SATURATION = 1.2;
+    /** How much a field's length, relative to the average, scales down the score of a match in it. */
+    public static final double LENGTH_NORMALIZATION = 0.75;
+
+    private static final Map<RecipeField, Double> FIELD_BOOSTS = new EnumMap<>(Map.of(
+            RecipeField.NAME, 3.0,
+            RecipeField.TAG, 2.0,
+            RecipeField.INGREDIENT, 1.5,
+            RecipeField.INSTRUCTION, 1.0));
+
+    private final KeywordIndex keywordIndex;
+
+    /**
+     * Constructs a {@code Bm25Scorer} that scores the recipes in {@code keywordIndex}.
+     */
+    public Bm25Scorer(KeywordIndex keywordIndex) {
+        requireNonNull(keywordIndex);
+        this.keywordIndex = keywordIndex;
+    }
+
+    /**
+     * Returns the score of every recipe that contains any of {@code keywords}.
+     * Only the recipes in the posting lists of the keywords are visited.
+     */
+    public Map<Recipe, Double> getScores(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Map<Recipe, Double> scores = new IdentityHashMap<>();
+        int recipeCount = keywordIndex.getRecipeCount();
+        for (RecipeField field : RecipeField.values()) {
+            double boost = FIELD_BOOSTS.get(field);
+            double averageLength = keywordIndex.getAverageLength(field);
+            for (String keyword : keywords) {
+                String word = StringUtil.normalizeWord(keyword);
+                Collection<Recipe> recipes = keywordIndex.getRecipesContaining(field, word);
+                double inverseDocumentFrequency = getInverseDocumentFrequency(recipeCount, recipes.size());
+                for (Recipe recipe : recipes) {
+                    double termFrequency = field.getFrequency(recipe, word);
+                    double lengthRatio = averageLength == 0 ? 1 : field.getLength(recipe) / averageLength;
+                    double score = boost * inverseDocumentFrequency * termFrequency * (TERM_FREQUENCY_SATURATION + 1)
+                            / (termFrequency + TERM_FREQUENCY_SATURATION
+                                * (1 - LENGTH_NORMALIZATION + LENGTH_NORMALIZATION * lengthRatio));
+                    scores.merge(recipe, score, Double::sum);
+                }
+            }
+        }
+        return scores;
+    }
+
+    /**
+     * Returns at most {@code limit} of the recipes that contain any of {@code keywords}, from the most relevant to the
+     * least. The best recipes are kept in a heap of at most {@code limit} recipes, so that choosing them takes
+     * O(m log limit) time for m matching recipes.
+     */
+    public List<Recipe> getMostRelevant(Collection<String> keywords, int limit) {
+        requireNonNull(keywords);
+        if (limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        Map<Recipe, Double> scores = getScores(keywords);
+        Comparator<Recipe> byRelevance = Comparator.<Recipe>comparingDouble(scores::get)
+                .thenComparing(recipe -> recipe.getName().getName(), Comparator.reverseOrder());
+        PriorityQueue<Recipe> mostRelevant = new PriorityQueue<>(Math.min(limit, scores.size()) + 1, byRelevance);
+        for (Recipe recipe : scores.keySet()) {
+            mostRelevant.add(recipe);
+            if (mostRelevant.size() > limit) {
+                mostRelevant.poll();
+            }
+        }
+
+        List<Recipe> recipes = new ArrayList<>(mostRelevant);
+        recipes.sort(byRelevance.reversed());
+        return recipes;
+    }
+
+    private static double getInverseDocumentFrequency(int recipeCount, int matchCount) {
+        return Math.log(1 + (recipeCount - matchCount + 0.5) / (matchCount + 0.5));
+    }
+}
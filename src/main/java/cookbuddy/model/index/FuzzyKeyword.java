@@ -0,0 +1,140 @@
+package cookbuddy.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import cookbuddy.commons.util.StringUtil;
+
+/**
+ * A keyword to search for, which may match words that start with it or that are misspellings of it.
+ * <p>
+ * A keyword that ends with {@value #PREFIX_MARKER} matches words that start with it, e.g. {@code chick*} matches
+ * "chicken". A keyword that ends with {@value #FUZZY_MARKER} matches words that are a few edits away from it, e.g.
+ * {@code tomatoe~} matches "tomato". Any other keyword only matches itself, ignoring case.
+ */
+public class FuzzyKeyword {
+
+    public static final char PREFIX_MARKER = '*';
+    public static final char FUZZY_MARKER = '~';
+    public static final int NO_MATCH = -1;
+
+    public static final String MESSAGE_CONSTRAINTS = "Keywords ending with " + PREFIX_MARKER + " or " + FUZZY_MARKER
+            + " should have at least one other character, e.g. chick" + PREFIX_MARKER + " or tomatoe" + FUZZY_MARKER;
+
+    /**
+     * How a keyword is matched against words.
+     */
+    public enum MatchType {
+        EXACT, PREFIX, FUZZY
+    }
+
+    private final String word;
+    private final MatchType matchType;
+
+    /**
+     * Constructs a {@code FuzzyKeyword} from a {@code keyword} entered by the user.
+     *
+     * @param keyword A valid keyword, as declared in {@link #isValidKeyword(String)}.
+     */
+    public FuzzyKeyword(String keyword) {
+        requireNonNull(keyword);
+        String trimmedKeyword = keyword.trim();
+        matchType = getMatchType(trimmedKeyword);
+        word = StringUtil.normalizeWord(matchType == MatchType.EXACT
+                ? trimmedKeyword
+                : trimmedKeyword.substring(0, trimmedKeyword.length() - 1));
+    }
+
+    /**
+     * Returns true if {@code keyword} ends with {@link #PREFIX_MARKER} or {@link #FUZZY_MARKER}.
+     */
+    public static boolean hasMarker(String keyword) {
+        return getMatchType(keyword.trim()) != MatchType.EXACT;
+    }
+
+    /**
+     * Returns true if {@code keyword} is a single word, with at least one character before its marker, if any.
+     */
+    public static boolean isValidKeyword(String keyword) {
+        String trimmedKeyword = keyword.trim();
+        int markerLength = getMatchType(trimmedKeyword) == MatchType.EXACT ? 0 : 1;
+        return trimmedKeyword.length() > markerLength && trimmedKeyword.chars().noneMatch(Character::isWhitespace);
+    }
+
+    private static MatchType getMatchType(String trimmedKeyword) {
+        if (trimmedKeyword.endsWith(String.valueOf(PREFIX_MARKER))) {
+            return MatchType.PREFIX;
+        } else if (trimmedKeyword.endsWith(String.valueOf(FUZZY_MARKER))) {
+            return MatchType.FUZZY;
+        } else {
+            return MatchType.EXACT;
+        }
+    }
+
+    /**
+     * Returns the keyword without its marker, in lowercase.
+     */
+    public String getWord() {
+        return word;
+    }
+
+    public MatchType getMatchType() {
+        return matchType;
+    }
+
+    /**
+     * Returns the largest edit distance of a word that this keyword matches.
+     * Short keywords allow fewer edits, so that they do not match most other short words.
+     */
+    public int getMaxDistance() {
+        if (matchType != MatchType.FUZZY || word.length() <= 2) {
+            return 0;
+        }
+        return word.length() <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Returns the edit distance from this keyword to {@code lowercaseWord}, or {@link #NO_MATCH} if this keyword
+     * does not match it. A prefix is as far from a word as the number of characters it leaves out.
+     */
+    public int getDistanceTo(String lowercaseWord) {
+        switch (matchType) {
+        case PREFIX:
+            return lowercaseWord.startsWith(word) ? lowercaseWord.length() - word.length() : NO_MATCH;
+        case FUZZY:
+            if (Math.abs(lowercaseWord.length() - word.length()) > getMaxDistance()) {
+                return NO_MATCH;
+            }
+            int distance = StringUtil.getEditDistance(word, lowercaseWord);
+            return distance <= getMaxDistance() ? distance : NO_MATCH;
+        default:
+            return lowercaseWord.equals(word) ? 0 : NO_MATCH;
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FuzzyKeyword // instanceof handles nulls
+                    && word.equals(((FuzzyKeyword) other).word)
+                    && matchType == ((FuzzyKeyword) other).matchType); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(word, matchType);
+    }
+
+    @Override
+    public String toString() {
+        switch (matchType) {
+        case PREFIX:
+            return word + PREFIX_MARKER;
+        case FUZZY:
+            return word + FUZZY_MARKER;
+        default:
+            return word;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package cookbuddy.model.index;
+
+import static cookbuddy.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import cookbuddy.model.recipe.ContainsKeywordsPredicate;
+import cookbuddy.model.recipe.FuzzyKeywordsPredicate;
+import cookbuddy.model.recipe.Recipe;
+
+/**
+ * Tests recipes against a {@code ContainsKeywordsPredicate} by looking its keywords up in a {@code KeywordIndex}.
+ * <p>
+ * The matching recipes are looked up once, and again only after the index changes, so that testing each recipe is a
+ * single map lookup instead of a scan over the words of its field. The distance of each match from the keywords is
+ * kept as well, so that the matches of a {@code FuzzyKeywordsPredicate} can be ranked by it.
+ */
+public class IndexedKeywordsPredicate implements Predicate<Recipe> {
+
+    private final KeywordIndex keywordIndex;
+    private final ContainsKeywordsPredicate predicate;
+    private Map<Recipe, Integer> matchDistances;
+    private long matchDistancesVersion;
+
+    /**
+     * Constructs an {@code IndexedKeywordsPredicate} that tests recipes against {@code predicate}, using
+     * {@code keywordIndex}, which must index all recipes that are tested.
+     */
+    public IndexedKeywordsPredicate(KeywordIndex keywordIndex, ContainsKeywordsPredicate predicate) {
+        requireAllNonNull(keywordIndex, predicate);
+        this.keywordIndex = keywordIndex;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public boolean test(Recipe recipe) {
+        return getMatchDistances().containsKey(recipe);
+    }
+
+    /**
+     * Returns a comparator that orders the matching recipes from the closest match to the furthest, or null if all
+     * matches are exact, in which case they are best left in their original order.
+     */
+    public Comparator<Recipe> getComparator() {
+        if (!(predicate instanceof FuzzyKeywordsPredicate)) {
+            return null;
+        }
+        return Comparator.comparingInt(recipe -> getMatchDistances().getOrDefault(recipe, Integer.MAX_VALUE));
+    }
+
+    private Map<Recipe, Integer> getMatchDistances() {
+        if (matchDistances != null && matchDistancesVersion == keywordIndex.getVersion()) {
+            return matchDistances;
+        }
+
+        if (predicate instanceof FuzzyKeywordsPredicate) {
+            matchDistances = keywordIndex.getRecipesMatchingAny(predicate.getField(),
+                ((FuzzyKeywordsPredicate) predicate).getFuzzyKeywords());
+        } else {
+            matchDistances = new IdentityHashMap<>();
+            for (Recipe recipe : keywordIndex.getRecipesContainingAny(predicate.getField(), predicate.getKeywords())) {
+                matchDistances.put(recipe, 0);
+            }
+        }
+        matchDistancesVersion = keywordIndex.getVersion();
+        return matchDistances;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof IndexedKeywordsPredicate // instanceof handles nulls
+                    && keywordIndex == ((IndexedKeywordsPredicate) other).keywordIndex
+                    && predicate.equals(((IndexedKeywordsPredicate) other).predicate)); // state check
+    }
+}
@@ -0,0 +1,344 @@
+package cookbuddy.model.index;
+
+import static cookbuddy.commons.util.AppUtil.checkArgument;
+import static cookbuddy.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import cookbuddy.commons.util.StringUtil;
+import cookbuddy.model.recipe.Recipe;
+import cookbuddy.model.recipe.RecipeIds;
+import javafx.collections.ListChangeListener;
+
+/**
+ * An inverted index from the words in each {@link RecipeField} of a list of recipes to the recipes containing them.
+ * <p>
+ * Words are the whitespace-separated tokens of a field, compared case-insensitively, as by
+ * {@link StringUtil#containsWordIgnoreCase(String, String)}. Looking up a word therefore takes
+ * time proportional to the number of recipes that contain it, rather than to the number of recipes in the list.
+ * The recipes that contain a word are kept as a {@link RecipeBitmap} of their {@link RecipeIds ids}, so that the
+ * recipes that contain several words are found with word operations on their bitmaps.
+ * <p>
+ * The words of each field are also kept in order, so that the words starting with a prefix form a single range, and
+ * indexed by their trigrams, so that the words close to a misspelled keyword can be found without comparing it to
+ * every word. See {@link FuzzyKeyword}.
+ */
+public class KeywordIndex {
+
+    private static final char TRIGRAM_PADDING = '\0';
+
+    private final RecipeIds recipeIds;
+    private final Map<RecipeField, NavigableMap<String, RecipeBitmap>> postings = new EnumMap<>(RecipeField.class);
+    private final Map<RecipeField, Map<String, Set<String>>> trigramPostings = new EnumMap<>(RecipeField.class);
+    private final Map<RecipeField, Long> totalLengths = new EnumMap<>(RecipeField.class);
+    private int recipeCount = 0;
+    private long version = 0;
+
+    /**
+     * Constructs an empty {@code KeywordIndex} of recipes that have ids in {@code recipeIds}.
+     */
+    public KeywordIndex(RecipeIds recipeIds) {
+        requireNonNull(recipeIds);
+        this.recipeIds = recipeIds;
+        for (RecipeField field : RecipeField.values()) {
+            postings.put(field, new TreeMap<>());
+            trigramPostings.put(field, new HashMap<>());
+            totalLengths.put(field, 0L);
+        }
+    }
+
+    /**
+     * Constructs a {@code KeywordIndex} of {@code recipes}, which have ids in {@code recipeIds}.
+     */
+    public KeywordIndex(RecipeIds recipeIds, Collection<Recipe> recipes) {
+        this(recipeIds);
+        requireNonNull(recipes);
+        recipes.forEach(this::add);
+    }
+
+    /**
+     * Adds the words in all fields of {@code recipe}, which must have an id, to the index.
+     */
+    public void add(Recipe recipe) {
+        int id = getId(recipe);
+        for (RecipeField field : RecipeField.values()) {
+            Map<String, RecipeBitmap> fieldPostings = postings.get(field);
+            for (String word : field.getWords(recipe)) {
+                RecipeBitmap recipes = fieldPostings.get(word);
+                if (recipes == null) {
+                    recipes = new RecipeBitmap();
+                    fieldPostings.put(word, recipes);
+                    addTrigrams(field, word);
+                }
+                recipes.add(id);
+            }
+            totalLengths.merge(field, (long) field.getLength(recipe), Long::sum);
+        }
+        recipeCount++;
+        version++;
+    }
+
+    /**
+     * Removes {@code recipe}, which must still have its id, from the index.
+     */
+    public void remove(Recipe recipe) {
+        int id = getId(recipe);
+        for (RecipeField field : RecipeField.values()) {
+            Map<String, RecipeBitmap> fieldPostings = postings.get(field);
+            for (String word : field.getWords(recipe)) {
+                RecipeBitmap recipes = fieldPostings.get(word);
+                if (recipes == null) {
+                    continue;
+                }
+                recipes.remove(id);
+                if (recipes.isEmpty()) {
+                    fieldPostings.remove(word);
+                    removeTrigrams(field, word);
+                }
+            }
+            totalLengths.merge(field, (long) -field.getLength(recipe), Long::sum);
+        }
+        recipeCount--;
+        version++;
+    }
+
+    /**
+     * Removes all recipes from the index.
+     */
+    public void clear() {
+        postings.values().forEach(Map::clear);
+        trigramPostings.values().forEach(Map::clear);
+        totalLengths.replaceAll((field, length) -> 0L);
+        recipeCount = 0;
+        version++;
+    }
+
+    /**
+     * Updates the index with a {@code change} to the list of recipes that it indexes.
+     */
+    public void onChanged(ListChangeListener.Change<? extends Recipe> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    /**
+     * Returns a number that changes whenever the contents of the index change.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the number of recipes in the index.
+     */
+    public int getRecipeCount() {
+        return recipeCount;
+    }
+
+    /**
+     * Returns the average {@link RecipeField#getLength(Recipe) length} of {@code field} over the recipes in the index.
+     */
+    public double getAverageLength(RecipeField field) {
+        requireNonNull(field);
+        return recipeCount == 0 ? 0 : (double) totalLengths.get(field) / recipeCount;
+    }
+
+    /**
+     * Returns the ids of the recipes whose {@code field} contains {@code keyword}, ignoring case.
+     * The bitmap is the index's own, and changes as the index does.
+     */
+    public RecipeBitmap getIdsContaining(RecipeField field, String keyword) {
+        requireAllNonNull(field, keyword);
+        RecipeBitmap recipes = postings.get(field).get(StringUtil.normalizeWord(keyword));
+        return recipes == null ? new RecipeBitmap() : recipes;
+    }
+
+    /**
+     * Returns the recipes whose {@code field} contains {@code keyword}, ignoring case.
+     */
+    public Set<Recipe> getRecipesContaining(RecipeField field, String keyword) {
+        return getIdsContaining(field, keyword).toRecipes(recipeIds);
+    }
+
+    /**
+     * Returns the ids of the recipes whose {@code field} contains any of {@code keywords}, ignoring case.
+     */
+    public RecipeBitmap getIdsContainingAny(RecipeField field, Collection<String> keywords) {
+        requireAllNonNull(field, keywords);
+        RecipeBitmap recipes = new RecipeBitmap();
+        for (String keyword : keywords) {
+            recipes = recipes.or(getIdsContaining(field, keyword));
+        }
+        return recipes;
+    }
+
+    /**
+     * Returns the recipes whose {@code field} contains any of {@code keywords}, ignoring case.
+     */
+    public Set<Recipe> getRecipesContainingAny(RecipeField field, Collection<String> keywords) {
+        return getIdsContainingAny(field, keywords).toRecipes(recipeIds);
+    }
+
+    /**
+     * Returns the recipes whose {@code field} contains all of {@code keywords}, ignoring case.
+     * The bitmaps are intersected from the smallest one up, so that the intersection is empty as early as possible.
+     */
+    public Set<Recipe> getRecipesContainingAll(RecipeField field, Collection<String> keywords) {
+        requireAllNonNull(field, keywords);
+        List<RecipeBitmap> postingLists = new ArrayList<>();
+        for (String keyword : keywords) {
+            postingLists.add(getIdsContaining(field, keyword));
+        }
+        postingLists.sort(Comparator.comparingInt(RecipeBitmap::cardinality));
+
+        if (postingLists.isEmpty()) {
+            return newRecipeSet();
+        }
+        RecipeBitmap recipes = postingLists.get(0);
+        for (int i = 1; i < postingLists.size() && !recipes.isEmpty(); i++) {
+            recipes = recipes.and(postingLists.get(i));
+        }
+        return recipes.toRecipes(recipeIds);
+    }
+
+    /**
+     * Returns the recipes whose {@code field} has a word matched by any of {@code keywords}, each mapped to the
+     * smallest edit distance from a keyword to a word that it matches.
+     */
+    public Map<Recipe, Integer> getRecipesMatchingAny(RecipeField field, Collection<FuzzyKeyword> keywords) {
+        requireAllNonNull(field, keywords);
+        Map<Recipe, Integer> distances = new IdentityHashMap<>();
+        for (FuzzyKeyword keyword : keywords) {
+            getWordsMatching(field, keyword).forEach((word, distance) -> postings.get(field).get(word).forEach(id ->
+                    distances.merge(recipeIds.getRecipe(id), distance, Math::min)));
+        }
+        return distances;
+    }
+
+    /**
+     * Returns the ids of the recipes whose {@code field} has a word matched by any of {@code keywords}.
+     */
+    public RecipeBitmap getIdsMatchingAny(RecipeField field, Collection<FuzzyKeyword> keywords) {
+        requireAllNonNull(field, keywords);
+        RecipeBitmap recipes = new RecipeBitmap();
+        for (FuzzyKeyword keyword : keywords) {
+            for (String word : getWordsMatching(field, keyword).keySet()) {
+                recipes = recipes.or(postings.get(field).get(word));
+            }
+        }
+        return recipes;
+    }
+
+    /**
+     * Returns the words in {@code field} that {@code keyword} matches, each mapped to its distance from the keyword.
+     */
+    private Map<String, Integer> getWordsMatching(RecipeField field, FuzzyKeyword keyword) {
+        NavigableMap<String, RecipeBitmap> fieldPostings = postings.get(field);
+        String keywordWord = keyword.getWord();
+        Map<String, Integer> words = new HashMap<>();
+        switch (keyword.getMatchType()) {
+        case PREFIX:
+            for (String word : fieldPostings.subMap(keywordWord, true, keywordWord + Character.MAX_VALUE, false)
+                    .keySet()) {
+                words.put(word, keyword.getDistanceTo(word));
+            }
+            break;
+        case FUZZY:
+            for (String word : getFuzzyCandidates(field, keyword)) {
+                int distance = keyword.getDistanceTo(word);
+                if (distance != FuzzyKeyword.NO_MATCH) {
+                    words.put(word, distance);
+                }
+            }
+            break;
+        default:
+            if (fieldPostings.containsKey(keywordWord)) {
+                words.put(keywordWord, 0);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns the words in {@code field} that share enough trigrams with {@code keyword} to be within its maximum
+     * edit distance. Each edit changes at most three trigrams of a word, so a word that is {@code k} edits away from
+     * the keyword shares all but at most {@code 3k} of the keyword's distinct trigrams.
+     */
+    private List<String> getFuzzyCandidates(RecipeField field, FuzzyKeyword keyword) {
+        Set<String> keywordTrigrams = getTrigrams(keyword.getWord());
+        Map<String, Integer> sharedTrigramCounts = new HashMap<>();
+        for (String trigram : keywordTrigrams) {
+            for (String word : trigramPostings.get(field).getOrDefault(trigram, Collections.emptySet())) {
+                sharedTrigramCounts.merge(word, 1, Integer::sum);
+            }
+        }
+
+        int minSharedTrigrams = keywordTrigrams.size() - 3 * keyword.getMaxDistance();
+        List<String> candidates = new ArrayList<>();
+        sharedTrigramCounts.forEach((word, count) -> {
+            if (count >= minSharedTrigrams) {
+                candidates.add(word);
+            }
+        });
+        return candidates;
+    }
+
+    private void addTrigrams(RecipeField field, String word) {
+        Map<String, Set<String>> fieldTrigramPostings = trigramPostings.get(field);
+        for (String trigram : getTrigrams(word)) {
+            fieldTrigramPostings.computeIfAbsent(trigram, unused -> new HashSet<>()).add(word);
+        }
+    }
+
+    private void removeTrigrams(RecipeField field, String word) {
+        Map<String, Set<String>> fieldTrigramPostings = trigramPostings.get(field);
+        for (String trigram : getTrigrams(word)) {
+            Set<String> words = fieldTrigramPostings.get(trigram);
+            if (words != null && words.remove(word) && words.isEmpty()) {
+                fieldTrigramPostings.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code word}, padded at both ends so that every character, including the first
+     * and last, is part of three trigrams.
+     */
+    private static Set<String> getTrigrams(String word) {
+        String padded = "" + TRIGRAM_PADDING + TRIGRAM_PADDING + word + TRIGRAM_PADDING + TRIGRAM_PADDING;
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    private int getId(Recipe recipe) {
+        requireNonNull(recipe);
+        int id = recipeIds.getId(recipe);
+        checkArgument(id != RecipeIds.NO_ID, "Only recipes with ids can be indexed");
+        return id;
+    }
+
+    private static Set<Recipe> newRecipeSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
@@ -0,0 +1,39 @@
+package cookbuddy.model.index;
+
+import java.util.function.ToLongFunction;
+
+import cookbuddy.model.recipe.Recipe;
+
+/**
+ * The numeric attributes of a {@code Recipe} that can be searched for by range.
+ */
+public enum NumericField {
+    CALORIE(recipe -> recipe.getCalorie().getAmount(), true),
+    RATING(recipe -> recipe.getRating().rating, false),
+    DIFFICULTY(recipe -> recipe.getDifficulty().difficulty, true),
+    SERVING(recipe -> recipe.getServing().serving, true),
+    PREP_TIME(recipe -> recipe.getPrepTime().getTotalSeconds(), false);
+
+    private final ToLongFunction<Recipe> valueExtractor;
+    private final boolean isZeroValid;
+
+    NumericField(ToLongFunction<Recipe> valueExtractor, boolean isZeroValid) {
+        this.valueExtractor = valueExtractor;
+        this.isZeroValid = isZeroValid;
+    }
+
+    /**
+     * Returns the value of this attribute of {@code recipe}, e.g. its prep time in seconds.
+     */
+    public long getValue(Recipe recipe) {
+        return valueExtractor.applyAsLong(recipe);
+    }
+
+    /**
+     * Returns true if {@code recipe} has a value for this attribute. A rating or prep time of 0 means that it has not
+     * been set.
+     */
+    public boolean hasValue(Recipe recipe) {
+        return isZeroValid || getValue(recipe) != 0;
+    }
+}
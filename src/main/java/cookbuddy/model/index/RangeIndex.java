@@ -0,0 +1,219 @@
+package cookbuddy.model.index;
+
+import static cookbuddy.commons.util.AppUtil.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.TreeMap;
+
+import cookbuddy.model.recipe.Recipe;
+import cookbuddy.model.recipe.RecipeIds;
+import javafx.collections.ListChangeListener;
+
+/**
+ * A sorted index from the values of each {@link NumericField} of a list of recipes to the recipes with them.
+ * <p>
+ * The recipes with values in a range are found by walking the entries of the range alone, so that finding them takes
+ * time proportional to the number of distinct values and recipes in the range, rather than to the number of recipes in
+ * the list. The recipes with each value are kept as a {@link RecipeBitmap} of their {@link RecipeIds ids}. Recipes
+ * without a value for a field, such as those that have not been timed, are left out of that field.
+ * <p>
+ * Some attributes, such as the prep time, are changed in place rather than by replacing the recipe, so the values that
+ * each recipe was indexed under are remembered, and {@link #update(Recipe)} must be called after such a change.
+ */
+public class RangeIndex {
+
+    private final RecipeIds recipeIds;
+    private final Map<NumericField, NavigableMap<Long, RecipeBitmap>> entries = new EnumMap<>(NumericField.class);
+    private final Map<Recipe, long[]> indexedValues = new IdentityHashMap<>();
+    private long version = 0;
+
+    /**
+     * Constructs an empty {@code RangeIndex} of recipes that have ids in {@code recipeIds}.
+     */
+    public RangeIndex(RecipeIds recipeIds) {
+        requireNonNull(recipeIds);
+        this.recipeIds = recipeIds;
+        for (NumericField field : NumericField.values()) {
+            entries.put(field, new TreeMap<>());
+        }
+    }
+
+    /**
+     * Constructs a {@code RangeIndex} of {@code recipes}, which have ids in {@code recipeIds}.
+     */
+    public RangeIndex(RecipeIds recipeIds, Collection<Recipe> recipes) {
+        this(recipeIds);
+        requireNonNull(recipes);
+        recipes.forEach(this::add);
+    }
+
+    /**
+     * Adds the values of all fields of {@code recipe}, which must have an id, to the index.
+     */
+    public void add(Recipe recipe) {
+        int id = getId(recipe);
+        NumericField[] fields = NumericField.values();
+        long[] values = new long[fields.length];
+        for (NumericField field : fields) {
+            values[field.ordinal()] = field.getValue(recipe);
+            if (field.hasValue(recipe)) {
+                entries.get(field).computeIfAbsent(values[field.ordinal()], unused -> new RecipeBitmap()).add(id);
+            }
+        }
+        indexedValues.put(recipe, values);
+        version++;
+    }
+
+    /**
+     * Removes {@code recipe}, which must still have its id, from the index, under the values that it was added with.
+     */
+    public void remove(Recipe recipe) {
+        int id = getId(recipe);
+        long[] values = indexedValues.remove(recipe);
+        if (values == null) {
+            return;
+        }
+        for (NumericField field : NumericField.values()) {
+            NavigableMap<Long, RecipeBitmap> fieldEntries = entries.get(field);
+            RecipeBitmap recipes = fieldEntries.get(values[field.ordinal()]);
+            if (recipes == null) {
+                continue;
+            }
+            recipes.remove(id);
+            if (recipes.isEmpty()) {
+                fieldEntries.remove(values[field.ordinal()]);
+            }
+        }
+        version++;
+    }
+
+    /**
+     * Moves {@code recipe}, which must be in the index, to its current values after it has been changed in place.
+     */
+    public void update(Recipe recipe) {
+        remove(recipe);
+        add(recipe);
+    }
+
+    /**
+     * Removes all recipes from the index.
+     */
+    public void clear() {
+        entries.values().forEach(Map::clear);
+        indexedValues.clear();
+        version++;
+    }
+
+    /**
+     * Updates the index with a {@code change} to the list of recipes that it indexes, including recipes that were
+     * changed in place.
+     */
+    public void onChanged(ListChangeListener.Change<? extends Recipe> change) {
+        while (change.next()) {
+            if (change.wasUpdated()) {
+                change.getList().subList(change.getFrom(), change.getTo()).forEach(this::update);
+                continue;
+            }
+            if (change.wasPermutated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    /**
+     * Returns a number that changes whenever the contents of the index change.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the ids of the recipes whose {@code field} is at least {@code min} and at most {@code max}.
+     */
+    public RecipeBitmap getIdsInRange(NumericField field, long min, long max) {
+        requireNonNull(field);
+        RecipeBitmap recipes = new RecipeBitmap();
+        for (RecipeBitmap valueRecipes : getEntriesInRange(field, min, max).values()) {
+            recipes = recipes.or(valueRecipes);
+        }
+        return recipes;
+    }
+
+    /**
+     * Returns the recipes whose {@code field} is at least {@code min} and at most {@code max}.
+     */
+    public Set<Recipe> getRecipesInRange(NumericField field, long min, long max) {
+        return getIdsInRange(field, min, max).toRecipes(recipeIds);
+    }
+
+    /**
+     * Returns the number of recipes whose {@code field} is at least {@code min} and at most {@code max}, without
+     * collecting them.
+     */
+    public int countRecipesInRange(NumericField field, long min, long max) {
+        requireNonNull(field);
+        int count = 0;
+        for (RecipeBitmap recipes : getEntriesInRange(field, min, max).values()) {
+            count += recipes.cardinality();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the recipes that have a value for {@code field}, from the lowest value to the highest, or from the
+     * highest to the lowest if {@code isDescending}.
+     */
+    public List<Recipe> getRecipesInOrder(NumericField field, boolean isDescending) {
+        requireNonNull(field);
+        NavigableMap<Long, RecipeBitmap> fieldEntries = entries.get(field);
+        List<Recipe> recipes = new ArrayList<>();
+        for (RecipeBitmap valueRecipes : (isDescending ? fieldEntries.descendingMap() : fieldEntries).values()) {
+            valueRecipes.forEach(id -> recipes.add(recipeIds.getRecipe(id)));
+        }
+        return recipes;
+    }
+
+    /**
+     * Returns the lowest value of {@code field} among the recipes in the index, if any of them has one.
+     */
+    public OptionalLong getLowestValue(NumericField field) {
+        requireNonNull(field);
+        NavigableMap<Long, RecipeBitmap> fieldEntries = entries.get(field);
+        return fieldEntries.isEmpty() ? OptionalLong.empty() : OptionalLong.of(fieldEntries.firstKey());
+    }
+
+    /**
+     * Returns the highest value of {@code field} among the recipes in the index, if any of them has one.
+     */
+    public OptionalLong getHighestValue(NumericField field) {
+        requireNonNull(field);
+        NavigableMap<Long, RecipeBitmap> fieldEntries = entries.get(field);
+        return fieldEntries.isEmpty() ? OptionalLong.empty() : OptionalLong.of(fieldEntries.lastKey());
+    }
+
+    private NavigableMap<Long, RecipeBitmap> getEntriesInRange(NumericField field, long min, long max) {
+        if (min > max) {
+            return Collections.emptyNavigableMap();
+        }
+        return entries.get(field).subMap(min, true, max, true);
+    }
+
+    private int getId(Recipe recipe) {
+        requireNonNull(recipe);
+        int id = recipeIds.getId(recipe);
+        checkArgument(id != RecipeIds.NO_ID, "Only recipes with ids can be indexed");
+        return id;
+    }
+}
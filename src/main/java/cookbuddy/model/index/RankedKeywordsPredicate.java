@@ -0,0 +1,79 @@
+package cookbuddy.model.index;
+
+import static cookbuddy.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import cookbuddy.model.recipe.Recipe;
+import cookbuddy.model.recipe.RelevantKeywordsPredicate;
+
+/**
+ * Accepts only the recipes that a {@code RelevantKeywordsPredicate} ranks among its most relevant, as scored by a
+ * {@code Bm25Scorer} over a {@code KeywordIndex}.
+ * <p>
+ * The ranking is computed once, when the predicate is constructed, so that testing each recipe is a single map lookup.
+ * Its order is exposed through {@link #getComparator()}, for a sorted view over the filtered recipes.
+ * <p>
+ * The ranking is never recomputed, as a filtered list only tests the recipes that changed, and a sorted list does not
+ * re-sort when the order of its comparator changes. A new {@code RankedKeywordsPredicate} must be applied instead once
+ * the index changes, as {@link #getIndexVersion()} tells.
+ */
+public class RankedKeywordsPredicate implements Predicate<Recipe> {
+
+    private final KeywordIndex keywordIndex;
+    private final RelevantKeywordsPredicate predicate;
+    private final Map<Recipe, Integer> ranks = new IdentityHashMap<>();
+    private final long indexVersion;
+
+    /**
+     * Constructs a {@code RankedKeywordsPredicate} that ranks recipes for {@code predicate}, using
+     * {@code keywordIndex}, which must index all recipes that are tested.
+     */
+    public RankedKeywordsPredicate(KeywordIndex keywordIndex, RelevantKeywordsPredicate predicate) {
+        requireAllNonNull(keywordIndex, predicate);
+        this.keywordIndex = keywordIndex;
+        this.predicate = predicate;
+
+        List<Recipe> mostRelevant = new Bm25Scorer(keywordIndex).getMostRelevant(predicate.getKeywords(),
+            predicate.getLimit());
+        for (int i = 0; i < mostRelevant.size(); i++) {
+            ranks.put(mostRelevant.get(i), i);
+        }
+        indexVersion = keywordIndex.getVersion();
+    }
+
+    @Override
+    public boolean test(Recipe recipe) {
+        return ranks.containsKey(recipe);
+    }
+
+    /**
+     * Returns a comparator that orders the accepted recipes from the most relevant to the least.
+     */
+    public Comparator<Recipe> getComparator() {
+        return Comparator.comparingInt(recipe -> ranks.getOrDefault(recipe, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Returns the version of the keyword index that the ranking was computed from.
+     */
+    public long getIndexVersion() {
+        return indexVersion;
+    }
+
+    public RelevantKeywordsPredicate getPredicate() {
+        return predicate;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RankedKeywordsPredicate // instanceof handles nulls
+                    && keywordIndex == ((RankedKeywordsPredicate) other).keywordIndex
+                    && predicate.equals(((RankedKeywordsPredicate) other).predicate)); // state check
+    }
+}
@@ -0,0 +1,446 @@
+package cookbuddy.model.index;
+
+import static cookbuddy.commons.util.AppUtil.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+import cookbuddy.model.recipe.Recipe;
+import cookbuddy.model.recipe.RecipeIds;
+
+/**
+ * A compressed set of recipe ids, as given out by {@link RecipeIds}, that is combined with other sets a machine word
+ * at a time.
+ * <p>
+ * The ids are split into chunks of 65536 by their upper bits. A chunk with few ids keeps them as a sorted array of
+ * their lower 16 bits, and a chunk with many keeps a bitmap of 1024 words, so that a set never takes much more than
+ * two bytes per id, nor more than one bit per id in its range. Intersections, unions and differences of two bitmap
+ * chunks take 1024 word operations, whatever their number of ids. This is the layout of Roaring bitmaps.
+ * <p>
+ * Only the indexes in this package add ids to or remove ids from a set; the sets that they return to others are
+ * combined with {@link #and(RecipeBitmap)}, {@link #or(RecipeBitmap)} and {@link #andNot(RecipeBitmap)}, which
+ * return new sets.
+ */
+public class RecipeBitmap {
+
+    private static final int CHUNK_BITS = 16;
+    private static final int LOW_BITS_MASK = (1 << CHUNK_BITS) - 1;
+    private static final int WORDS_PER_CHUNK = (1 << CHUNK_BITS) / Long.SIZE;
+    /** The most ids that a chunk keeps as an array, above which a bitmap is smaller. */
+    private static final int MAX_ARRAY_SIZE = 4096;
+
+    private Chunk[] chunks;
+    private int cardinality;
+
+    /**
+     * Constructs an empty {@code RecipeBitmap}.
+     */
+    public RecipeBitmap() {
+        this(new Chunk[0]);
+    }
+
+    private RecipeBitmap(Chunk[] chunks) {
+        this.chunks = chunks;
+        for (Chunk chunk : chunks) {
+            cardinality += chunk == null ? 0 : chunk.cardinality();
+        }
+    }
+
+    /**
+     * Returns a {@code RecipeBitmap} of {@code ids}, which must not be negative.
+     */
+    public static RecipeBitmap of(int... ids) {
+        requireNonNull(ids);
+        RecipeBitmap bitmap = new RecipeBitmap();
+        for (int id : ids) {
+            bitmap.add(id);
+        }
+        return bitmap;
+    }
+
+    /**
+     * Adds {@code id}, which must not be negative, to this set.
+     */
+    void add(int id) {
+        checkArgument(id >= 0, "A recipe id cannot be negative");
+        int key = id >>> CHUNK_BITS;
+        if (key >= chunks.length) {
+            chunks = Arrays.copyOf(chunks, key + 1);
+        }
+        if (chunks[key] == null) {
+            chunks[key] = new Chunk();
+        }
+        if (chunks[key].add((char) (id & LOW_BITS_MASK))) {
+            cardinality++;
+        }
+    }
+
+    /**
+     * Removes {@code id} from this set, if it is in it.
+     */
+    void remove(int id) {
+        int key = id >>> CHUNK_BITS;
+        if (id < 0 || key >= chunks.length || chunks[key] == null) {
+            return;
+        }
+        if (chunks[key].remove((char) (id & LOW_BITS_MASK))) {
+            cardinality--;
+            if (chunks[key].cardinality() == 0) {
+                chunks[key] = null;
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@code id} is in this set.
+     */
+    public boolean contains(int id) {
+        int key = id >>> CHUNK_BITS;
+        return id >= 0 && key < chunks.length && chunks[key] != null
+                && chunks[key].contains((char) (id & LOW_BITS_MASK));
+    }
+
+    /**
+     * Returns the number of ids in this set.
+     */
+    public int cardinality() {
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    /**
+     * Returns the ids that are in both this set and {@code other}.
+     */
+    public RecipeBitmap and(RecipeBitmap other) {
+        requireNonNull(other);
+        Chunk[] result = new Chunk[Math.min(chunks.length, other.chunks.length)];
+        for (int key = 0; key < result.length; key++) {
+            if (chunks[key] != null && other.chunks[key] != null) {
+                result[key] = Chunk.and(chunks[key], other.chunks[key]);
+            }
+        }
+        return new RecipeBitmap(result);
+    }
+
+    /**
+     * Returns the ids that are in this set, {@code other} or both.
+     */
+    public RecipeBitmap or(RecipeBitmap other) {
+        requireNonNull(other);
+        Chunk[] result = new Chunk[Math.max(chunks.length, other.chunks.length)];
+        for (int key = 0; key < result.length; key++) {
+            Chunk chunk = key < chunks.length ? chunks[key] : null;
+            Chunk otherChunk = key < other.chunks.length ? other.chunks[key] : null;
+            if (chunk != null && otherChunk != null) {
+                result[key] = Chunk.or(chunk, otherChunk);
+            } else if (chunk != null || otherChunk != null) {
+                result[key] = (chunk != null ? chunk : otherChunk).copy();
+            }
+        }
+        return new RecipeBitmap(result);
+    }
+
+    /**
+     * Returns the ids that are in this set but not in {@code other}.
+     */
+    public RecipeBitmap andNot(RecipeBitmap other) {
+        requireNonNull(other);
+        Chunk[] result = new Chunk[chunks.length];
+        for (int key = 0; key < result.length; key++) {
+            if (chunks[key] == null) {
+                continue;
+            }
+            result[key] = key < other.chunks.length && other.chunks[key] != null
+                    ? Chunk.andNot(chunks[key], other.chunks[key])
+                    : chunks[key].copy();
+        }
+        return new RecipeBitmap(result);
+    }
+
+    /**
+     * Performs {@code action} on each id in this set, from the lowest to the highest.
+     */
+    public void forEach(IntConsumer action) {
+        requireNonNull(action);
+        for (int key = 0; key < chunks.length; key++) {
+            if (chunks[key] != null) {
+                chunks[key].forEach(key << CHUNK_BITS, action);
+            }
+        }
+    }
+
+    /**
+     * Returns the ids in this set, from the lowest to the highest.
+     */
+    public int[] toArray() {
+        int[] ids = new int[cardinality];
+        int[] position = {0};
+        forEach(id -> ids[position[0]++] = id);
+        return ids;
+    }
+
+    /**
+     * Returns the recipes that have the ids in this set in {@code recipeIds}.
+     */
+    public Set<Recipe> toRecipes(RecipeIds recipeIds) {
+        requireNonNull(recipeIds);
+        Set<Recipe> recipes = Collections.newSetFromMap(new IdentityHashMap<>());
+        forEach(id -> recipes.add(recipeIds.getRecipe(id)));
+        return recipes;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RecipeBitmap // instanceof handles nulls
+                    && cardinality == ((RecipeBitmap) other).cardinality
+                    && Arrays.equals(toArray(), ((RecipeBitmap) other).toArray())); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /**
+     * The lower 16 bits of the ids in a chunk, as a sorted array or, if there are more than
+     * {@link #MAX_ARRAY_SIZE} of them, as a bitmap.
+     */
+    private static class Chunk {
+        private char[] values;
+        private int size;
+        private long[] words;
+
+        Chunk() {
+            values = new char[4];
+        }
+
+        private Chunk(char[] values, int size, long[] words) {
+            this.values = values;
+            this.size = size;
+            this.words = words;
+        }
+
+        /**
+         * Returns a chunk of the bits set in {@code words}, of which there are {@code cardinality}, or null if there
+         * are none. The chunk is an array if that is smaller.
+         */
+        private static Chunk fromWords(long[] words, int cardinality) {
+            if (cardinality == 0) {
+                return null;
+            }
+            if (cardinality > MAX_ARRAY_SIZE) {
+                return new Chunk(null, cardinality, words);
+            }
+            char[] values = new char[cardinality];
+            int position = 0;
+            for (int i = 0; i < WORDS_PER_CHUNK; i++) {
+                for (long word = words[i]; word != 0; word &= word - 1) {
+                    values[position++] = (char) (i * Long.SIZE + Long.numberOfTrailingZeros(word));
+                }
+            }
+            return new Chunk(values, cardinality, null);
+        }
+
+        private static Chunk fromValues(char[] values, int size) {
+            return size == 0 ? null : new Chunk(values, size, null);
+        }
+
+        int cardinality() {
+            return size;
+        }
+
+        boolean contains(char value) {
+            if (words != null) {
+                return (words[value >>> 6] & (1L << value)) != 0;
+            }
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+
+        boolean add(char value) {
+            if (words != null) {
+                long bit = 1L << value;
+                if ((words[value >>> 6] & bit) != 0) {
+                    return false;
+                }
+                words[value >>> 6] |= bit;
+                size++;
+                return true;
+            }
+
+            int position = Arrays.binarySearch(values, 0, size, value);
+            if (position >= 0) {
+                return false;
+            }
+            if (size == MAX_ARRAY_SIZE) {
+                words = toWords();
+                values = null;
+                return add(value);
+            }
+            position = -position - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(MAX_ARRAY_SIZE, size * 2));
+            }
+            System.arraycopy(values, position, values, position + 1, size - position);
+            values[position] = value;
+            size++;
+            return true;
+        }
+
+        boolean remove(char value) {
+            if (words != null) {
+                long bit = 1L << value;
+                if ((words[value >>> 6] & bit) == 0) {
+                    return false;
+                }
+                words[value >>> 6] &= ~bit;
+                size--;
+                if (size <= MAX_ARRAY_SIZE) {
+                    Chunk array = fromWords(words, size);
+                    values = array == null ? new char[4] : array.values;
+                    words = null;
+                }
+                return true;
+            }
+
+            int position = Arrays.binarySearch(values, 0, size, value);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(values, position + 1, values, position, size - position - 1);
+            size--;
+            return true;
+        }
+
+        void forEach(int base, IntConsumer action) {
+            if (words == null) {
+                for (int i = 0; i < size; i++) {
+                    action.accept(base | values[i]);
+                }
+                return;
+            }
+            for (int i = 0; i < WORDS_PER_CHUNK; i++) {
+                for (long word = words[i]; word != 0; word &= word - 1) {
+                    action.accept(base | (i * Long.SIZE + Long.numberOfTrailingZeros(word)));
+                }
+            }
+        }
+
+        Chunk copy() {
+            return words != null
+                    ? new Chunk(null, size, words.clone())
+                    : new Chunk(Arrays.copyOf(values, size), size, null);
+        }
+
+        private long[] toWords() {
+            if (words != null) {
+                return words.clone();
+            }
+            long[] result = new long[WORDS_PER_CHUNK];
+            for (int i = 0; i < size; i++) {
+                result[values[i] >>> 6] |= 1L << values[i];
+            }
+            return result;
+        }
+
+        static Chunk and(Chunk a, Chunk b) {
+            if (a.words != null && b.words != null) {
+                long[] result = new long[WORDS_PER_CHUNK];
+                int cardinality = 0;
+                for (int i = 0; i < WORDS_PER_CHUNK; i++) {
+                    result[i] = a.words[i] & b.words[i];
+                    cardinality += Long.bitCount(result[i]);
+                }
+                return fromWords(result, cardinality);
+            }
+
+            Chunk array = a.words == null && (b.words != null || a.size <= b.size) ? a : b;
+            Chunk other = array == a ? b : a;
+            char[] result = new char[array.size];
+            int size = 0;
+            for (int i = 0; i < array.size; i++) {
+                if (other.contains(array.values[i])) {
+                    result[size++] = array.values[i];
+                }
+            }
+            return fromValues(result, size);
+        }
+
+        static Chunk or(Chunk a, Chunk b) {
+            if (a.words == null && b.words == null && a.size + b.size <= MAX_ARRAY_SIZE) {
+                char[] result = new char[a.size + b.size];
+                int size = 0;
+                int i = 0;
+                int j = 0;
+                while (i < a.size || j < b.size) {
+                    if (j == b.size || (i < a.size && a.values[i] < b.values[j])) {
+                        result[size++] = a.values[i++];
+                    } else if (i == a.size || b.values[j] < a.values[i]) {
+                        result[size++] = b.values[j++];
+                    } else {
+                        result[size++] = a.values[i++];
+                        j++;
+                    }
+                }
+                return fromValues(result, size);
+            }
+
+            long[] result = a.toWords();
+            if (b.words != null) {
+                for (int i = 0; i < WORDS_PER_CHUNK; i++) {
+                    result[i] |= b.words[i];
+                }
+            } else {
+                for (int i = 0; i < b.size; i++) {
+                    result[b.values[i] >>> 6] |= 1L << b.values[i];
+                }
+            }
+            return fromWords(result, countBits(result));
+        }
+
+        static Chunk andNot(Chunk a, Chunk b) {
+            if (a.words == null) {
+                char[] result = new char[a.size];
+                int size = 0;
+                for (int i = 0; i < a.size; i++) {
+                    if (!b.contains(a.values[i])) {
+                        result[size++] = a.values[i];
+                    }
+                }
+                return fromValues(result, size);
+            }
+
+            long[] result = a.words.clone();
+            if (b.words != null) {
+                for (int i = 0; i < WORDS_PER_CHUNK; i++) {
+                    result[i] &= ~b.words[i];
+                }
+            } else {
+                for (int i = 0; i < b.size; i++) {
+                    result[b.values[i] >>> 6] &= ~(1L << b.values[i]);
+                }
+            }
+            return fromWords(result, countBits(result));
+        }
+
+        private static int countBits(long[] words) {
+            int count = 0;
+            for (long word : words) {
+                count += Long.bitCount(word);
+            }
+            return count;
+        }
+    }
+}
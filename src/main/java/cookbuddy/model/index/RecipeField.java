@@ -0,0 +1,65 @@
+package cookbuddy.model.index;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import cookbuddy.model.recipe.Recipe;
+
+/**
+ * The fields of a {@code Recipe} whose words can be searched for.
+ */
+public enum RecipeField {
+    NAME(recipe -> List.of(recipe.getName().getWords())),
+    INGREDIENT(recipe -> recipe.getIngredients().ingredientData.stream()
+            .map(ingredient -> ingredient.getWords()).collect(Collectors.toList())),
+    INSTRUCTION(recipe -> recipe.getInstructions().instructionData.stream()
+            .map(instruction -> instruction.getWords()).collect(Collectors.toList())),
+    TAG(recipe -> recipe.getTags().stream().map(tag -> tag.getWords()).collect(Collectors.toList()));
+
+    private final Function<Recipe, List<Set<String>>> wordSetsExtractor;
+
+    RecipeField(Function<Recipe, List<Set<String>>> wordSetsExtractor) {
+        this.wordSetsExtractor = wordSetsExtractor;
+    }
+
+    /**
+     * Returns the distinct lowercase words in this field of {@code recipe}, e.g. in the names of all its ingredients.
+     */
+    public Set<String> getWords(Recipe recipe) {
+        List<Set<String>> wordSets = wordSetsExtractor.apply(recipe);
+        if (wordSets.size() == 1) {
+            return wordSets.get(0);
+        }
+        Set<String> words = new HashSet<>();
+        wordSets.forEach(words::addAll);
+        return words;
+    }
+
+    /**
+     * Returns the number of words in this field of {@code recipe}, counting a word once for each text it is in.
+     */
+    public int getLength(Recipe recipe) {
+        int length = 0;
+        for (Set<String> wordSet : wordSetsExtractor.apply(recipe)) {
+            length += wordSet.size();
+        }
+        return length;
+    }
+
+    /**
+     * Returns the number of texts in this field of {@code recipe} that contain {@code lowercaseWord}, e.g. the number
+     * of its instructions that mention it.
+     */
+    public int getFrequency(Recipe recipe, String lowercaseWord) {
+        int frequency = 0;
+        for (Set<String> wordSet : wordSetsExtractor.apply(recipe)) {
+            if (wordSet.contains(lowercaseWord)) {
+                frequency++;
+            }
+        }
+        return frequency;
+    }
+}
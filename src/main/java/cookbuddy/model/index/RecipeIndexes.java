@@ -0,0 +1,93 @@
+package cookbuddy.model.index;
+
+import static cookbuddy.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+
+import cookbuddy.model.recipe.Recipe;
+import cookbuddy.model.recipe.RecipeIds;
+import javafx.collections.ListChangeListener;
+
+/**
+ * The indexes kept over a list of recipes, which queries look recipes up in instead of testing every recipe.
+ * <p>
+ * All indexes find recipes as bitmaps of the {@link RecipeIds ids} of the list, so that the results of different
+ * indexes can be combined with each other, and with the bitmap of all recipes in the list.
+ */
+public class RecipeIndexes {
+
+    private final RecipeIds recipeIds;
+    private final RecipeBitmap allIds = new RecipeBitmap();
+    private final KeywordIndex keywordIndex;
+    private final RangeIndex rangeIndex;
+    private final TagIndex tagIndex;
+
+    /**
+     * Constructs the indexes of {@code recipes}, which have ids in {@code recipeIds}.
+     */
+    public RecipeIndexes(RecipeIds recipeIds, Collection<Recipe> recipes) {
+        requireAllNonNull(recipeIds, recipes);
+        this.recipeIds = recipeIds;
+        recipes.forEach(recipe -> allIds.add(recipeIds.getId(recipe)));
+        keywordIndex = new KeywordIndex(recipeIds, recipes);
+        rangeIndex = new RangeIndex(recipeIds, recipes);
+        tagIndex = new TagIndex(recipeIds, recipes);
+    }
+
+    /**
+     * Updates the indexes with a {@code change} to the list of recipes that they index, including recipes that were
+     * changed in place.
+     */
+    public void onChanged(ListChangeListener.Change<? extends Recipe> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(recipe -> allIds.remove(recipeIds.getId(recipe)));
+            change.getAddedSubList().forEach(recipe -> allIds.add(recipeIds.getId(recipe)));
+        }
+        change.reset();
+        keywordIndex.onChanged(change);
+        change.reset();
+        rangeIndex.onChanged(change);
+        change.reset();
+        tagIndex.onChanged(change);
+    }
+
+    public RecipeIds getRecipeIds() {
+        return recipeIds;
+    }
+
+    /**
+     * Returns the ids of all recipes in the indexes. The bitmap is the indexes' own, and changes as they do.
+     */
+    public RecipeBitmap getAllIds() {
+        return allIds;
+    }
+
+    public KeywordIndex getKeywordIndex() {
+        return keywordIndex;
+    }
+
+    public RangeIndex getRangeIndex() {
+        return rangeIndex;
+    }
+
+    public TagIndex getTagIndex() {
+        return tagIndex;
+    }
+
+    /**
+     * Returns the number of recipes in the indexes.
+     */
+    public int getRecipeCount() {
+        return allIds.cardinality();
+    }
+
+    /**
+     * Returns a number that changes whenever the contents of any of the indexes change.
+     */
+    public long getVersion() {
+        return keywordIndex.getVersion() + rangeIndex.getVersion() + tagIndex.getVersion();
+    }
+}
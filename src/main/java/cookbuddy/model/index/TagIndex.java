@@ -0,0 +1,179 @@
+package cookbuddy.model.index;
+
+import static cookbuddy.commons.util.AppUtil.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import cookbuddy.model.recipe.Recipe;
+import cookbuddy.model.recipe.RecipeIds;
+import cookbuddy.model.recipe.attribute.Tag;
+import javafx.collections.ListChangeListener;
+
+/**
+ * An index from the tags of a list of recipes to bitmaps of the recipes with them.
+ * <p>
+ * Each tag is mapped to a {@link RecipeBitmap} of the {@link RecipeIds ids} of its recipes. The recipes with all of
+ * several tags are then found by intersecting their bitmaps a word of 64 recipes at a time, and how many of those
+ * recipes have each other tag is counted from their ids, so that neither depends on how many tags there are in total.
+ */
+public class TagIndex {
+
+    private final RecipeIds recipeIds;
+    private final Map<Tag, RecipeBitmap> postings = new HashMap<>();
+    private long version = 0;
+
+    /**
+     * Constructs an empty {@code TagIndex} of recipes that have ids in {@code recipeIds}.
+     */
+    public TagIndex(RecipeIds recipeIds) {
+        requireNonNull(recipeIds);
+        this.recipeIds = recipeIds;
+    }
+
+    /**
+     * Constructs a {@code TagIndex} of {@code recipes}, which have ids in {@code recipeIds}.
+     */
+    public TagIndex(RecipeIds recipeIds, Collection<Recipe> recipes) {
+        this(recipeIds);
+        requireNonNull(recipes);
+        recipes.forEach(this::add);
+    }
+
+    /**
+     * Adds the tags of {@code recipe}, which must have an id, to the index.
+     */
+    public void add(Recipe recipe) {
+        int id = getId(recipe);
+        for (Tag tag : recipe.getTags()) {
+            postings.computeIfAbsent(tag, unused -> new RecipeBitmap()).add(id);
+        }
+        version++;
+    }
+
+    /**
+     * Removes {@code recipe}, which must still have its id, from the index.
+     */
+    public void remove(Recipe recipe) {
+        int id = getId(recipe);
+        for (Tag tag : recipe.getTags()) {
+            RecipeBitmap recipes = postings.get(tag);
+            if (recipes == null) {
+                continue;
+            }
+            recipes.remove(id);
+            if (recipes.isEmpty()) {
+                postings.remove(tag);
+            }
+        }
+        version++;
+    }
+
+    /**
+     * Removes all recipes from the index.
+     */
+    public void clear() {
+        postings.clear();
+        version++;
+    }
+
+    /**
+     * Updates the index with a {@code change} to the list of recipes that it indexes.
+     */
+    public void onChanged(ListChangeListener.Change<? extends Recipe> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    /**
+     * Returns a number that changes whenever the contents of the index change.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the tags of the recipes in the index.
+     */
+    public Set<Tag> getTags() {
+        return Collections.unmodifiableSet(postings.keySet());
+    }
+
+    /**
+     * Returns the ids of the recipes that have all of {@code tags}, of which there is at least one. The bitmaps are
+     * intersected from the rarest tag up, so that the intersection shrinks as early as possible.
+     */
+    public RecipeBitmap getIdsTaggedWithAll(Collection<Tag> tags) {
+        requireNonNull(tags);
+        checkArgument(!tags.isEmpty(), "At least one tag must be given");
+        List<RecipeBitmap> bitmaps = new ArrayList<>();
+        for (Tag tag : tags) {
+            RecipeBitmap recipes = postings.get(tag);
+            if (recipes == null) {
+                return new RecipeBitmap();
+            }
+            bitmaps.add(recipes);
+        }
+        bitmaps.sort(Comparator.comparingInt(RecipeBitmap::cardinality));
+
+        RecipeBitmap matches = bitmaps.get(0);
+        for (int i = 1; i < bitmaps.size() && !matches.isEmpty(); i++) {
+            matches = matches.and(bitmaps.get(i));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the recipes that have all of {@code tags}, of which there is at least one.
+     */
+    public Set<Recipe> getRecipesTaggedWithAll(Collection<Tag> tags) {
+        return getIdsTaggedWithAll(tags).toRecipes(recipeIds);
+    }
+
+    /**
+     * Returns the number of recipes that have all of {@code tags}, of which there is at least one.
+     */
+    public int countRecipesTaggedWithAll(Collection<Tag> tags) {
+        return getIdsTaggedWithAll(tags).cardinality();
+    }
+
+    /**
+     * Returns, for every tag of the recipes that have all of {@code tags}, the number of those recipes that have it.
+     * The tags in {@code tags} are included, with the number of matching recipes. If {@code tags} is empty, every tag
+     * is counted over all recipes.
+     */
+    public Map<Tag, Integer> getTagCounts(Collection<Tag> tags) {
+        requireNonNull(tags);
+        Map<Tag, Integer> counts = new HashMap<>();
+        if (tags.isEmpty()) {
+            postings.forEach((tag, recipes) -> counts.put(tag, recipes.cardinality()));
+            return counts;
+        }
+
+        getIdsTaggedWithAll(tags).forEach(id -> {
+            for (Tag tag : recipeIds.getRecipe(id).getTags()) {
+                counts.merge(tag, 1, Integer::sum);
+            }
+        });
+        return counts;
+    }
+
+    private int getId(Recipe recipe) {
+        requireNonNull(recipe);
+        int id = recipeIds.getId(recipe);
+        checkArgument(id != RecipeIds.NO_ID, "Only recipes with ids can be indexed");
+        return id;
+    }
+}
@@ -0,0 +1,112 @@
+package cookbuddy.model.query;
+
+import static cookbuddy.commons.util.AppUtil.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import cookbuddy.model.index.RecipeBitmap;
+import cookbuddy.model.index.RecipeIndexes;
+import cookbuddy.model.recipe.Recipe;
+
+/**
+ * Matches the recipes that match all of its parts.
+ */
+public class AndQuery extends Query {
+
+    private final List<Query> parts;
+
+    /**
+     * Constructs an {@code AndQuery} of at least one part.
+     */
+    public AndQuery(List<Query> parts) {
+        requireNonNull(parts);
+        checkArgument(!parts.isEmpty(), "A query must have at least one part");
+        this.parts = List.copyOf(parts);
+    }
+
+    public List<Query> getParts() {
+        return parts;
+    }
+
+    @Override
+    public boolean test(Recipe recipe) {
+        for (Query part : parts) {
+            if (!part.test(recipe)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int estimateMatches(RecipeIndexes indexes) {
+        int estimate = indexes.getRecipeCount();
+        for (Query part : parts) {
+            estimate = Math.min(estimate, part.estimateMatches(indexes));
+        }
+        return estimate;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The matches of the parts that can be looked up are intersected, in order, and only the recipes left are tested
+     * against the other parts.
+     */
+    @Override
+    public Optional<RecipeBitmap> findMatches(RecipeIndexes indexes) {
+        RecipeBitmap candidates = null;
+        List<Query> unindexedParts = new ArrayList<>();
+        for (Query part : parts) {
+            if (candidates != null && candidates.isEmpty()) {
+                break;
+            }
+            Optional<RecipeBitmap> partMatches = part.findMatches(indexes);
+            if (!partMatches.isPresent()) {
+                unindexedParts.add(part);
+            } else {
+                candidates = candidates == null ? partMatches.get() : candidates.and(partMatches.get());
+            }
+        }
+        if (candidates == null) {
+            return Optional.empty();
+        }
+        if (unindexedParts.isEmpty()) {
+            return Optional.of(candidates);
+        }
+
+        int[] matches = IntStream.of(candidates.toArray())
+                .filter(id -> {
+                    Recipe recipe = indexes.getRecipeIds().getRecipe(id);
+                    return unindexedParts.stream().allMatch(part -> part.test(recipe));
+                })
+                .toArray();
+        return Optional.of(RecipeBitmap.of(matches));
+    }
+
+    /**
+     * {@inheritDoc}
+     * The parts that match the fewest recipes come first, so that most recipes fail on the first part they are tested
+     * against.
+     */
+    @Override
+    public Query optimize(RecipeIndexes indexes) {
+        List<Query> optimizedParts = parts.stream()
+                .map(part -> part.optimize(indexes))
+                .sorted(Comparator.comparingInt(part -> part.estimateMatches(indexes)))
+                .collect(Collectors.toList());
+        return new AndQuery(optimizedParts);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AndQuery // instanceof handles nulls
+                    && parts.equals(((AndQuery) other).parts)); // state check
+    }
+}
@@ -0,0 +1,69 @@
+package cookbuddy.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+import cookbuddy.model.index.KeywordIndex;
+import cookbuddy.model.index.RecipeBitmap;
+import cookbuddy.model.index.RecipeIndexes;
+import cookbuddy.model.recipe.ContainsKeywordsPredicate;
+import cookbuddy.model.recipe.FuzzyKeywordsPredicate;
+import cookbuddy.model.recipe.Recipe;
+
+/**
+ * Matches the recipes that pass a {@code ContainsKeywordsPredicate}, which are looked up in the keyword index.
+ */
+public class KeywordQuery extends Query {
+
+    private final ContainsKeywordsPredicate predicate;
+    private RecipeBitmap matches;
+    private long matchesVersion;
+
+    public KeywordQuery(ContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+    }
+
+    public ContainsKeywordsPredicate getPredicate() {
+        return predicate;
+    }
+
+    @Override
+    public boolean test(Recipe recipe) {
+        return predicate.test(recipe);
+    }
+
+    @Override
+    public int estimateMatches(RecipeIndexes indexes) {
+        return getMatches(indexes).cardinality();
+    }
+
+    @Override
+    public Optional<RecipeBitmap> findMatches(RecipeIndexes indexes) {
+        return Optional.of(getMatches(indexes));
+    }
+
+    private RecipeBitmap getMatches(RecipeIndexes indexes) {
+        if (matches != null && matchesVersion == indexes.getVersion()) {
+            return matches;
+        }
+
+        KeywordIndex keywordIndex = indexes.getKeywordIndex();
+        if (predicate instanceof FuzzyKeywordsPredicate) {
+            matches = keywordIndex.getIdsMatchingAny(predicate.getField(),
+                ((FuzzyKeywordsPredicate) predicate).getFuzzyKeywords());
+        } else {
+            matches = keywordIndex.getIdsContainingAny(predicate.getField(), predicate.getKeywords());
+        }
+        matchesVersion = indexes.getVersion();
+        return matches;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof KeywordQuery // instanceof handles nulls
+                    && predicate.equals(((KeywordQuery) other).predicate)); // state check
+    }
+}
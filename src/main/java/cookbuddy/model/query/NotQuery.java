@@ -0,0 +1,61 @@
+package cookbuddy.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+import cookbuddy.model.index.RecipeBitmap;
+import cookbuddy.model.index.RecipeIndexes;
+import cookbuddy.model.recipe.Recipe;
+
+/**
+ * Matches the recipes that do not match its part.
+ */
+public class NotQuery extends Query {
+
+    private final Query part;
+
+    public NotQuery(Query part) {
+        requireNonNull(part);
+        this.part = part;
+    }
+
+    public Query getPart() {
+        return part;
+    }
+
+    @Override
+    public boolean test(Recipe recipe) {
+        return !part.test(recipe);
+    }
+
+    /**
+     * {@inheritDoc}
+     * As an estimate of the matches of its part is only an upper bound, any number of recipes may not match it.
+     */
+    @Override
+    public int estimateMatches(RecipeIndexes indexes) {
+        return indexes.getRecipeCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The matches are all recipes but those of its part, if those can be looked up.
+     */
+    @Override
+    public Optional<RecipeBitmap> findMatches(RecipeIndexes indexes) {
+        return part.findMatches(indexes).map(partMatches -> indexes.getAllIds().andNot(partMatches));
+    }
+
+    @Override
+    public Query optimize(RecipeIndexes indexes) {
+        return new NotQuery(part.optimize(indexes));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NotQuery // instanceof handles nulls
+                    && part.equals(((NotQuery) other).part)); // state check
+    }
+}
@@ -0,0 +1,91 @@
+package cookbuddy.model.query;
+
+import static cookbuddy.commons.util.AppUtil.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import cookbuddy.model.index.RecipeBitmap;
+import cookbuddy.model.index.RecipeIndexes;
+import cookbuddy.model.recipe.Recipe;
+
+/**
+ * Matches the recipes that match any of its parts.
+ */
+public class OrQuery extends Query {
+
+    private final List<Query> parts;
+
+    /**
+     * Constructs an {@code OrQuery} of at least one part.
+     */
+    public OrQuery(List<Query> parts) {
+        requireNonNull(parts);
+        checkArgument(!parts.isEmpty(), "A query must have at least one part");
+        this.parts = List.copyOf(parts);
+    }
+
+    public List<Query> getParts() {
+        return parts;
+    }
+
+    @Override
+    public boolean test(Recipe recipe) {
+        for (Query part : parts) {
+            if (part.test(recipe)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int estimateMatches(RecipeIndexes indexes) {
+        long estimate = 0;
+        for (Query part : parts) {
+            estimate += part.estimateMatches(indexes);
+        }
+        return (int) Math.min(estimate, indexes.getRecipeCount());
+    }
+
+    /**
+     * {@inheritDoc}
+     * The matches can only be looked up if the matches of every part can be.
+     */
+    @Override
+    public Optional<RecipeBitmap> findMatches(RecipeIndexes indexes) {
+        RecipeBitmap matches = new RecipeBitmap();
+        for (Query part : parts) {
+            Optional<RecipeBitmap> partMatches = part.findMatches(indexes);
+            if (!partMatches.isPresent()) {
+                return Optional.empty();
+            }
+            matches = matches.or(partMatches.get());
+        }
+        return Optional.of(matches);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The parts that match the most recipes come first, so that most recipes pass on the first part they are tested
+     * against.
+     */
+    @Override
+    public Query optimize(RecipeIndexes indexes) {
+        List<Query> optimizedParts = parts.stream()
+                .map(part -> part.optimize(indexes))
+                .sorted(Comparator.comparingInt((Query part) -> part.estimateMatches(indexes)).reversed())
+                .collect(Collectors.toList());
+        return new OrQuery(optimizedParts);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof OrQuery // instanceof handles nulls
+                    && parts.equals(((OrQuery) other).parts)); // state check
+    }
+}
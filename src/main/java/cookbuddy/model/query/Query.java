@@ -0,0 +1,38 @@
+package cookbuddy.model.query;
+
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import cookbuddy.model.index.RecipeBitmap;
+import cookbuddy.model.index.RecipeIndexes;
+import cookbuddy.model.recipe.Recipe;
+
+/**
+ * A node of a compiled {@code find} query, which tests recipes and may also look its matches up in indexes.
+ * <p>
+ * Queries are combined into a tree with {@link AndQuery}, {@link OrQuery} and {@link NotQuery}. Before a tree is
+ * evaluated, {@link #optimize(RecipeIndexes)} reorders it so that the cheapest and most selective queries are tried
+ * first, and {@link #findMatches(RecipeIndexes)} answers as much of it as it can from the indexes, combining the
+ * bitmaps of the recipes that they find instead of testing recipes one at a time.
+ */
+public abstract class Query implements Predicate<Recipe> {
+
+    /**
+     * Returns an upper bound on the number of recipes in {@code indexes} that match this query.
+     */
+    public abstract int estimateMatches(RecipeIndexes indexes);
+
+    /**
+     * Returns the ids of the recipes in {@code indexes} that match this query, or an empty {@code Optional} if they
+     * cannot be found without testing every recipe.
+     */
+    public abstract Optional<RecipeBitmap> findMatches(RecipeIndexes indexes);
+
+    /**
+     * Returns a query with the same matches as this query, whose parts are ordered so that recipes are tested against
+     * the most selective ones first.
+     */
+    public Query optimize(RecipeIndexes indexes) {
+        return this;
+    }
+}
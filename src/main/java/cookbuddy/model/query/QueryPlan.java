@@ -0,0 +1,58 @@
+package cookbuddy.model.query;
+
+import static cookbuddy.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.function.Predicate;
+
+import cookbuddy.model.index.RecipeBitmap;
+import cookbuddy.model.index.RecipeIndexes;
+import cookbuddy.model.recipe.Recipe;
+
+/**
+ * Tests recipes against a {@code Query}, after optimizing it and looking up as many of its matches as possible in
+ * {@code RecipeIndexes}.
+ * <p>
+ * The query is planned once, and again only after the indexes change. If its matches could be looked up, testing each
+ * recipe is a single bit lookup of its id in their bitmap; otherwise each recipe is tested against the optimized query.
+ * <p>
+ * The matches are used as a predicate of the filtered recipe list, rather than to build the list from their ids, as
+ * the list must keep the order of the recipe book, which commands refer to recipes by, and ids say nothing about the
+ * position of a recipe. Finding the positions of the matches would take a pass over the recipe book too, or an index
+ * of positions that every insertion and deletion would have to shift, so the filtered list's own pass is kept.
+ */
+public class QueryPlan implements Predicate<Recipe> {
+
+    private final RecipeIndexes indexes;
+    private final Query query;
+    private Query optimizedQuery;
+    private RecipeBitmap matches;
+    private long planVersion;
+
+    /**
+     * Constructs a {@code QueryPlan} that tests recipes against {@code query}, using {@code indexes}, which must index
+     * all recipes that are tested.
+     */
+    public QueryPlan(RecipeIndexes indexes, Query query) {
+        requireAllNonNull(indexes, query);
+        this.indexes = indexes;
+        this.query = query;
+    }
+
+    @Override
+    public boolean test(Recipe recipe) {
+        if (optimizedQuery == null || planVersion != indexes.getVersion()) {
+            optimizedQuery = query.optimize(indexes);
+            matches = optimizedQuery.findMatches(indexes).orElse(null);
+            planVersion = indexes.getVersion();
+        }
+        return matches != null ? matches.contains(indexes.getRecipeIds().getId(recipe)) : optimizedQuery.test(recipe);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof QueryPlan // instanceof handles nulls
+                    && indexes == ((QueryPlan) other).indexes
+                    && query.equals(((QueryPlan) other).query)); // state check
+    }
+}
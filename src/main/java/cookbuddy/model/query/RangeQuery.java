@@ -0,0 +1,74 @@
+package cookbuddy.model.query;
+
+import static cookbuddy.commons.util.AppUtil.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+import cookbuddy.model.index.NumericField;
+import cookbuddy.model.index.RecipeBitmap;
+import cookbuddy.model.index.RecipeIndexes;
+import cookbuddy.model.recipe.Recipe;
+
+/**
+ * Matches the recipes whose value of a {@code NumericField} is between two bounds, inclusive, which are looked up in
+ * the range index.
+ */
+public class RangeQuery extends Query {
+
+    private final NumericField field;
+    private final long min;
+    private final long max;
+
+    /**
+     * Constructs a {@code RangeQuery} for the recipes whose {@code field} is at least {@code min} and at most
+     * {@code max}.
+     */
+    public RangeQuery(NumericField field, long min, long max) {
+        requireNonNull(field);
+        checkArgument(min <= max, "The lower bound of a range cannot be above its upper bound");
+        this.field = field;
+        this.min = min;
+        this.max = max;
+    }
+
+    public NumericField getField() {
+        return field;
+    }
+
+    public long getMin() {
+        return min;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    @Override
+    public boolean test(Recipe recipe) {
+        if (!field.hasValue(recipe)) {
+            return false;
+        }
+        long value = field.getValue(recipe);
+        return value >= min && value <= max;
+    }
+
+    @Override
+    public int estimateMatches(RecipeIndexes indexes) {
+        return indexes.getRangeIndex().countRecipesInRange(field, min, max);
+    }
+
+    @Override
+    public Optional<RecipeBitmap> findMatches(RecipeIndexes indexes) {
+        return Optional.of(indexes.getRangeIndex().getIdsInRange(field, min, max));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RangeQuery // instanceof handles nulls
+                    && field == ((RangeQuery) other).field
+                    && min == ((RangeQuery) other).min
+                    && max == ((RangeQuery) other).max); // state check
+    }
+}
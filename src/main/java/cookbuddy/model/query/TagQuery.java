@@ -0,0 +1,55 @@
+package cookbuddy.model.query;
+
+import static cookbuddy.commons.util.AppUtil.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.Set;
+
+import cookbuddy.model.index.RecipeBitmap;
+import cookbuddy.model.index.RecipeIndexes;
+import cookbuddy.model.recipe.Recipe;
+import cookbuddy.model.recipe.attribute.Tag;
+
+/**
+ * Matches the recipes that have all of a set of tags, which are looked up in the tag index.
+ */
+public class TagQuery extends Query {
+
+    private final Set<Tag> tags;
+
+    /**
+     * Constructs a {@code TagQuery} for the recipes that have all of {@code tags}, of which there is at least one.
+     */
+    public TagQuery(Set<Tag> tags) {
+        requireNonNull(tags);
+        checkArgument(!tags.isEmpty(), "A tag query must have at least one tag");
+        this.tags = Set.copyOf(tags);
+    }
+
+    public Set<Tag> getTags() {
+        return tags;
+    }
+
+    @Override
+    public boolean test(Recipe recipe) {
+        return recipe.getTags().containsAll(tags);
+    }
+
+    @Override
+    public int estimateMatches(RecipeIndexes indexes) {
+        return indexes.getTagIndex().countRecipesTaggedWithAll(tags);
+    }
+
+    @Override
+    public Optional<RecipeBitmap> findMatches(RecipeIndexes indexes) {
+        return Optional.of(indexes.getTagIndex().getIdsTaggedWithAll(tags));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TagQuery // instanceof handles nulls
+                    && tags.equals(((TagQuery) other).tags)); // state check
+    }
+}
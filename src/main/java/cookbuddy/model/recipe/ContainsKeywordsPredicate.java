@@ -1,10 +1,23 @@
 package cookbuddy.model.recipe;
 
+import java.util.List;
 import java.util.function.Predicate;
 
+import cookbuddy.model.index.RecipeField;
+
 /**
  * Predicate to test for.
  */
 public interface ContainsKeywordsPredicate extends Predicate<Recipe> {
     boolean test(Recipe recipe);
+
+    /**
+     * Returns the field of a recipe that is searched for the keywords.
+     */
+    RecipeField getField();
+
+    /**
+     * Returns the keywords, any of which a recipe's field must contain to pass this predicate.
+     */
+    List<String> getKeywords();
 }
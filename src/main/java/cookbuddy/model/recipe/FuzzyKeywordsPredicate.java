@@ -0,0 +1,76 @@
+package cookbuddy.model.recipe;
+
+import static cookbuddy.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import cookbuddy.model.index.FuzzyKeyword;
+import cookbuddy.model.index.RecipeField;
+
+/**
+ * Tests that a word in a field of a {@code Recipe} starts with, or is close to, any of the keywords given.
+ * See {@link FuzzyKeyword} for how each keyword is matched.
+ */
+public class FuzzyKeywordsPredicate implements ContainsKeywordsPredicate {
+    private final RecipeField field;
+    private final List<String> keywords;
+    private final List<FuzzyKeyword> fuzzyKeywords;
+
+    /**
+     * Constructs a {@code FuzzyKeywordsPredicate} that searches {@code field} for {@code keywords}, which must be valid
+     * as declared in {@link FuzzyKeyword#isValidKeyword(String)}.
+     */
+    public FuzzyKeywordsPredicate(RecipeField field, List<String> keywords) {
+        requireAllNonNull(field, keywords);
+        this.field = field;
+        this.keywords = keywords;
+        this.fuzzyKeywords = keywords.stream().map(FuzzyKeyword::new).collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean test(Recipe recipe) {
+        return getDistance(recipe) != FuzzyKeyword.NO_MATCH;
+    }
+
+    /**
+     * Returns the smallest edit distance from any of the keywords to a word that it matches in {@code recipe}, or
+     * {@link FuzzyKeyword#NO_MATCH} if none of them match.
+     */
+    public int getDistance(Recipe recipe) {
+        int smallestDistance = FuzzyKeyword.NO_MATCH;
+        for (String word : field.getWords(recipe)) {
+            for (FuzzyKeyword keyword : fuzzyKeywords) {
+                int distance = keyword.getDistanceTo(word);
+                if (distance != FuzzyKeyword.NO_MATCH
+                        && (smallestDistance == FuzzyKeyword.NO_MATCH || distance < smallestDistance)) {
+                    smallestDistance = distance;
+                }
+            }
+        }
+        return smallestDistance;
+    }
+
+    public List<FuzzyKeyword> getFuzzyKeywords() {
+        return fuzzyKeywords;
+    }
+
+    @Override
+    public RecipeField getField() {
+        return field;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FuzzyKeywordsPredicate // instanceof handles nulls
+                    && field == ((FuzzyKeywordsPredicate) other).field
+                    && keywords.equals(((FuzzyKeywordsPredicate) other).keywords)); // state check
+    }
+
+}
@@ -4,25 +4,39 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import cookbuddy.commons.util.StringUtil;
+import cookbuddy.model.index.RecipeField;
+import cookbuddy.model.recipe.attribute.Ingredient;
 
 /**
  * Tests that a {@code Recipe}'s {@code IngredientList} matches any of the keywords given.
  */
 public class IngredientContainsKeywordsPredicate implements ContainsKeywordsPredicate {
     private final List<String> keywords;
+    private final List<String> normalizedKeywords;
 
     public IngredientContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.normalizedKeywords = keywords.stream().map(StringUtil::normalizeWord).collect(Collectors.toList());
     }
 
     @Override
     public boolean test(Recipe recipe) {
-        List<String> ingredients = recipe.getIngredients().ingredientData.stream()
-                .map(x -> x.name)
-                .collect(Collectors.toList());
+        for (Ingredient ingredient : recipe.getIngredients().ingredientData) {
+            if (StringUtil.containsAnyWord(ingredient.getWords(), normalizedKeywords)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        return keywords.stream().anyMatch(keyword -> ingredients.stream()
-                .anyMatch(ingredient -> StringUtil.containsWordIgnoreCase(ingredient, keyword)));
+    @Override
+    public RecipeField getField() {
+        return RecipeField.INGREDIENT;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
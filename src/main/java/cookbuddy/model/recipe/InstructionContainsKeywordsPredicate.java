@@ -4,25 +4,39 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import cookbuddy.commons.util.StringUtil;
+import cookbuddy.model.index.RecipeField;
+import cookbuddy.model.recipe.attribute.Instruction;
 
 /**
  * Tests that a {@code Recipe}'s {@code IngredientList} matches any of the keywords given.
  */
 public class InstructionContainsKeywordsPredicate implements ContainsKeywordsPredicate {
     private final List<String> keywords;
+    private final List<String> normalizedKeywords;
 
     public InstructionContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.normalizedKeywords = keywords.stream().map(StringUtil::normalizeWord).collect(Collectors.toList());
     }
 
     @Override
     public boolean test(Recipe recipe) {
-        List<String> instructions = recipe.getInstructions().instructionData.stream()
-                .map(x -> x.instructionString)
-                .collect(Collectors.toList());
+        for (Instruction instruction : recipe.getInstructions().instructionData) {
+            if (StringUtil.containsAnyWord(instruction.getWords(), normalizedKeywords)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        return keywords.stream().anyMatch(keyword -> instructions.stream()
-                .anyMatch(instruction -> StringUtil.containsWordIgnoreCase(instruction, keyword)));
+    @Override
+    public RecipeField getField() {
+        return RecipeField.INSTRUCTION;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
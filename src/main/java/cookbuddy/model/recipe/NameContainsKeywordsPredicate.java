@@ -1,23 +1,36 @@
 package cookbuddy.model.recipe;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import cookbuddy.commons.util.StringUtil;
+import cookbuddy.model.index.RecipeField;
 
 /**
  * Tests that a {@code Recipe}'s {@code Name} matches any of the keywords given.
  */
 public class NameContainsKeywordsPredicate implements ContainsKeywordsPredicate {
     private final List<String> keywords;
+    private final List<String> normalizedKeywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.normalizedKeywords = keywords.stream().map(StringUtil::normalizeWord).collect(Collectors.toList());
     }
 
     @Override
     public boolean test(Recipe recipe) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(recipe.getName().toString(), keyword));
+        return StringUtil.containsAnyWord(recipe.getName().getWords(), normalizedKeywords);
+    }
+
+    @Override
+    public RecipeField getField() {
+        return RecipeField.NAME;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
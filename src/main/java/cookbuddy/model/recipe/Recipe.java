@@ -19,10 +19,14 @@ import cookbuddy.model.recipe.attribute.Rating;
 import cookbuddy.model.recipe.attribute.Serving;
 import cookbuddy.model.recipe.attribute.Tag;
 import cookbuddy.model.recipe.attribute.Time;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
 
 /**
  * Represents a Recipe in the recipe book. Guarantees: details are present and
  * not null, field values are validated, immutable.
+ * The favourite and done statuses and the preparation time are the exception, and are changed in place. Each such
+ * change increments {@link #versionProperty()}, so that lists of recipes can tell their listeners which recipe changed.
  */
 public class Recipe {
 
@@ -40,6 +44,7 @@ public class Recipe {
     private final Time prepTime = new Time(0, 0, 0);
     // Data fields
     private final Set<Tag> tags = new HashSet<>();
+    private final ReadOnlyIntegerWrapper version = new ReadOnlyIntegerWrapper();
 
     /**
      * Every field must be present and not null.
@@ -102,6 +107,13 @@ public class Recipe {
         return prepTime;
     }
 
+    /**
+     * Returns a property that is incremented whenever this recipe is changed in place.
+     */
+    public ReadOnlyIntegerProperty versionProperty() {
+        return version.getReadOnlyProperty();
+    }
+
     /**
      * Returns an immutable tag set, which throws
      * {@code UnsupportedOperationException} if modification is attempted.
@@ -127,22 +139,27 @@ public class Recipe {
 
     public void favRecipe() {
         favStatus.fav();
+        version.set(version.get() + 1);
     }
 
     public void unFavRecipe() {
         favStatus.unFav();
+        version.set(version.get() + 1);
     }
 
     public void attemptRecipe() {
         doneStatus.attempt();
+        version.set(version.get() + 1);
     }
 
     public void unAttemptRecipe() {
         doneStatus.unAttempt();
+        version.set(version.get() + 1);
     }
 
     public void setTime(Time time) {
         prepTime.setTime(time);
+        version.set(version.get() + 1);
     }
 
     /**
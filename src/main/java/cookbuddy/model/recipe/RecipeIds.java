@@ -0,0 +1,74 @@
+package cookbuddy.model.recipe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Gives each recipe in a list a dense integer id, so that sets of recipes can be kept as bitmaps of their ids.
+ * <p>
+ * An id is the smallest one not in use when the recipe is added, and is given out again once the recipe is removed,
+ * so that the ids in use stay close to the number of recipes in the list. Recipes are told apart by identity, as
+ * recipes are replaced rather than changed when they are modified.
+ */
+public class RecipeIds {
+
+    /** The id of a recipe that is not in the list. */
+    public static final int NO_ID = -1;
+
+    private final Map<Recipe, Integer> ids = new IdentityHashMap<>();
+    private final List<Recipe> recipes = new ArrayList<>();
+    private final BitSet usedIds = new BitSet();
+
+    /**
+     * Returns the id of {@code recipe}, giving it the smallest unused id if it does not have one yet.
+     */
+    public int assign(Recipe recipe) {
+        requireNonNull(recipe);
+        Integer id = ids.get(recipe);
+        if (id != null) {
+            return id;
+        }
+
+        int newId = usedIds.nextClearBit(0);
+        if (newId == recipes.size()) {
+            recipes.add(recipe);
+        } else {
+            recipes.set(newId, recipe);
+        }
+        usedIds.set(newId);
+        ids.put(recipe, newId);
+        return newId;
+    }
+
+    /**
+     * Frees the id of {@code recipe}, if it has one, so that it can be given to another recipe.
+     */
+    public void release(Recipe recipe) {
+        requireNonNull(recipe);
+        Integer id = ids.remove(recipe);
+        if (id != null) {
+            recipes.set(id, null);
+            usedIds.clear(id);
+        }
+    }
+
+    /**
+     * Returns the id of {@code recipe}, or {@link #NO_ID} if it does not have one.
+     */
+    public int getId(Recipe recipe) {
+        requireNonNull(recipe);
+        return ids.getOrDefault(recipe, NO_ID);
+    }
+
+    /**
+     * Returns the recipe with the id {@code id}, or null if no recipe has it.
+     */
+    public Recipe getRecipe(int id) {
+        return id >= 0 && id < recipes.size() ? recipes.get(id) : null;
+    }
+}
@@ -0,0 +1,59 @@
+package cookbuddy.model.recipe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import cookbuddy.commons.util.StringUtil;
+import cookbuddy.model.index.RecipeField;
+
+/**
+ * Tests that any field of a {@code Recipe} matches any of the keywords given.
+ * <p>
+ * The model lists only the {@code limit} recipes that are most relevant to the keywords, from the most relevant to the
+ * least; on its own, this predicate accepts every recipe that matches.
+ */
+public class RelevantKeywordsPredicate implements Predicate<Recipe> {
+    private final List<String> keywords;
+    private final List<String> normalizedKeywords;
+    private final int limit;
+
+    /**
+     * Constructs a {@code RelevantKeywordsPredicate} for the {@code limit} recipes most relevant to {@code keywords}.
+     */
+    public RelevantKeywordsPredicate(List<String> keywords, int limit) {
+        requireNonNull(keywords);
+        this.keywords = keywords;
+        this.normalizedKeywords = keywords.stream().map(StringUtil::normalizeWord).collect(Collectors.toList());
+        this.limit = limit;
+    }
+
+    @Override
+    public boolean test(Recipe recipe) {
+        for (RecipeField field : RecipeField.values()) {
+            if (StringUtil.containsAnyWord(field.getWords(recipe), normalizedKeywords)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RelevantKeywordsPredicate // instanceof handles nulls
+                    && keywords.equals(((RelevantKeywordsPredicate) other).keywords)
+                    && limit == ((RelevantKeywordsPredicate) other).limit); // state check
+    }
+
+}
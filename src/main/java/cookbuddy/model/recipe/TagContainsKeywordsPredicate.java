@@ -0,0 +1,49 @@
+package cookbuddy.model.recipe;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import cookbuddy.commons.util.StringUtil;
+import cookbuddy.model.index.RecipeField;
+import cookbuddy.model.recipe.attribute.Tag;
+
+/**
+ * Tests that any of a {@code Recipe}'s {@code Tag}s matches any of the keywords given.
+ */
+public class TagContainsKeywordsPredicate implements ContainsKeywordsPredicate {
+    private final List<String> keywords;
+    private final List<String> normalizedKeywords;
+
+    public TagContainsKeywordsPredicate(List<String> keywords) {
+        this.keywords = keywords;
+        this.normalizedKeywords = keywords.stream().map(StringUtil::normalizeWord).collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean test(Recipe recipe) {
+        for (Tag tag : recipe.getTags()) {
+            if (StringUtil.containsAnyWord(tag.getWords(), normalizedKeywords)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public RecipeField getField() {
+        return RecipeField.TAG;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TagContainsKeywordsPredicate // instanceof handles nulls
+                    && keywords.equals(((TagContainsKeywordsPredicate) other).keywords)); // state check
+    }
+
+}
@@ -3,11 +3,18 @@ package cookbuddy.model.recipe;
 import static cookbuddy.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
 import cookbuddy.model.recipe.exceptions.DuplicateRecipeException;
 import cookbuddy.model.recipe.exceptions.RecipeNotFoundException;
+import javafx.beans.Observable;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
@@ -18,22 +25,35 @@ import javafx.collections.ObservableList;
  * unique in terms of identity in the UniqueRecipeList. However, the removal of a recipe uses Recipe#equals(Object) so
  * as to ensure that the recipe with exactly the same fields will be removed.
  *
+ * The identities of all recipes in the list are additionally kept in a hash-based index, so that identity lookups
+ * do not need to scan the whole list.
+ *
+ * Each recipe in the list has a dense integer id from {@link #getRecipeIds()}. A recipe gets its id before it is added
+ * to the backing list and keeps it until after it has been removed, so that listeners to the list can look up the ids
+ * of both the added and the removed recipes.
+ *
+ * A recipe that is changed in place, such as by being favourited, is reported to listeners of the list as an update
+ * of that recipe alone, through its {@link Recipe#versionProperty()}.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Recipe#isSameRecipe(Recipe)
  */
 public class UniqueRecipeList implements Iterable<Recipe> {
 
-    private final ObservableList<Recipe> internalList = FXCollections.observableArrayList();
+    private final ObservableList<Recipe> internalList =
+            FXCollections.observableArrayList(recipe -> new Observable[] {recipe.versionProperty()});
     private final ObservableList<Recipe> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Set<RecipeIdentity> identities = new HashSet<>();
+    private final RecipeIds recipeIds = new RecipeIds();
 
     /**
      * Returns true if the list contains an equivalent recipe as the given argument.
      */
     public boolean contains(Recipe toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameRecipe);
+        return identities.contains(new RecipeIdentity(toCheck));
     }
 
     /**
@@ -49,12 +69,38 @@ public class UniqueRecipeList implements Iterable<Recipe> {
      */
     public void add(Recipe toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (!identities.add(new RecipeIdentity(toAdd))) {
             throw new DuplicateRecipeException();
         }
+        recipeIds.assign(toAdd);
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds {@code recipes} to the end of the list in a single change.
+     * None of the recipes may already exist in the list or be repeated in {@code recipes}; if any are, all
+     * conflicting recipes are reported together in the thrown {@code DuplicateRecipeException} and this list is left
+     * unchanged.
+     */
+    public void addAll(List<Recipe> recipes) {
+        requireAllNonNull(recipes);
+        Set<RecipeIdentity> addedIdentities = new HashSet<>();
+        List<Recipe> duplicates = new ArrayList<>();
+        for (Recipe recipe : recipes) {
+            RecipeIdentity identity = new RecipeIdentity(recipe);
+            if (identities.contains(identity) || !addedIdentities.add(identity)) {
+                duplicates.add(recipe);
+            }
+        }
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateRecipeException(duplicates);
+        }
+
+        identities.addAll(addedIdentities);
+        recipes.forEach(recipeIds::assign);
+        internalList.addAll(recipes);
+    }
+
     /**
      * Replaces the recipe {@code target} in the list with {@code editedRecipe}.
      * {@code target} must exist in the list.
@@ -75,8 +121,13 @@ public class UniqueRecipeList implements Iterable<Recipe> {
             editedRecipe.favRecipe();
         }
 
-        internalList.set(index, editedRecipe);
-
+        identities.remove(new RecipeIdentity(target));
+        identities.add(new RecipeIdentity(editedRecipe));
+        recipeIds.assign(editedRecipe);
+        Recipe replacedRecipe = internalList.set(index, editedRecipe);
+        if (replacedRecipe != editedRecipe) {
+            recipeIds.release(replacedRecipe);
+        }
     }
 
     /**
@@ -85,27 +136,70 @@ public class UniqueRecipeList implements Iterable<Recipe> {
      */
     public void remove(Recipe toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new RecipeNotFoundException();
         }
+        recipeIds.release(internalList.remove(index));
+        identities.remove(new RecipeIdentity(toRemove));
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setRecipes(UniqueRecipeList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        identities.clear();
+        identities.addAll(replacement.identities);
+        replaceAll(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code recipes}.
-     * {@code recipes} must not contain duplicate recipes.
+     * {@code recipes} must not contain duplicate recipes; if it does, all conflicting recipes are reported
+     * together in the thrown {@code DuplicateRecipeException} and this list is left unchanged.
      */
     public void setRecipes(List<Recipe> recipes) {
         requireAllNonNull(recipes);
-        if (!recipesAreUnique(recipes)) {
-            throw new DuplicateRecipeException();
+        Set<RecipeIdentity> replacementIdentities = new HashSet<>();
+        List<Recipe> duplicates = new ArrayList<>();
+        for (Recipe recipe : recipes) {
+            if (!replacementIdentities.add(new RecipeIdentity(recipe))) {
+                duplicates.add(recipe);
+            }
         }
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateRecipeException(duplicates);
+        }
+
+        identities.clear();
+        identities.addAll(replacementIdentities);
+        replaceAll(recipes);
+    }
 
+    /**
+     * Replaces the backing list with {@code recipes}, giving ids to the new recipes first and freeing the ids of the
+     * replaced recipes last.
+     */
+    private void replaceAll(List<Recipe> recipes) {
+        recipes.forEach(recipeIds::assign);
+        List<Recipe> replacedRecipes = new ArrayList<>(internalList);
         internalList.setAll(recipes);
+
+        Set<Recipe> keptRecipes = Collections.newSetFromMap(new IdentityHashMap<>());
+        keptRecipes.addAll(recipes);
+        for (Recipe recipe : replacedRecipes) {
+            if (!keptRecipes.contains(recipe)) {
+                recipeIds.release(recipe);
+            }
+        }
+    }
+
+    /**
+     * Returns the ids of the recipes in the list.
+     */
+    public RecipeIds getRecipeIds() {
+        return recipeIds;
     }
 
     /**
@@ -133,16 +227,31 @@ public class UniqueRecipeList implements Iterable<Recipe> {
     }
 
     /**
-     * Returns true if {@code recipes} contains only unique recipes.
+     * Wraps a {@code Recipe} so that it can be stored in hash-based collections by its identity, as defined by
+     * {@link Recipe#isSameRecipe(Recipe)}. The hash is computed once, from the identity fields only.
+     * This relies on the identity fields of a recipe not changing while it is in the list.
      */
-    private boolean recipesAreUnique(List<Recipe> recipes) {
-        for (int i = 0; i < recipes.size() - 1; i++) {
-            for (int j = i + 1; j < recipes.size(); j++) {
-                if (recipes.get(i).isSameRecipe(recipes.get(j))) {
-                    return false;
-                }
-            }
+    private static class RecipeIdentity {
+        private final Recipe recipe;
+        private final int hash;
+
+        RecipeIdentity(Recipe recipe) {
+            this.recipe = recipe;
+            this.hash = Objects.hash(recipe.getName(), recipe.getIngredients(), recipe.getInstructions(),
+                    recipe.getPhotograph());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof RecipeIdentity // instanceof handles nulls
+                    && hash == ((RecipeIdentity) other).hash
+                    && recipe.isSameRecipe(((RecipeIdentity) other).recipe)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
         }
-        return true;
     }
 }
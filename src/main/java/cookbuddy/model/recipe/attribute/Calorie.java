@@ -13,6 +13,7 @@ public class Calorie {
     public static final String VALIDATION_REGEX = "\\d+";
 
     public final String calorie;
+    private final long amount;
 
     /**
      * Constructs a {@code Calorie}.
@@ -23,6 +24,18 @@ public class Calorie {
         requireNonNull(calorie);
         checkArgument(isValidCalorieAmount(calorie), MESSAGE_CONSTRAINTS);
         this.calorie = calorie;
+        this.amount = parseAmount(calorie);
+    }
+
+    /**
+     * Returns the calorie amount in {@code calorie}, or {@code Long.MAX_VALUE} if it is too large to be a long.
+     */
+    private static long parseAmount(String calorie) {
+        try {
+            return Long.parseLong(calorie);
+        } catch (NumberFormatException e) {
+            return Long.MAX_VALUE;
+        }
     }
 
     /**
@@ -32,6 +45,13 @@ public class Calorie {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the calorie amount as a number, so that it can be compared without parsing it again.
+     */
+    public long getAmount() {
+        return amount;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
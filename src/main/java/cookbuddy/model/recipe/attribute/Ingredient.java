@@ -5,8 +5,11 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import cookbuddy.commons.util.StringUtil;
+
 /**
  * Represents a Recipe's ingredient in its {@code IngredientList}. Guarantees:
  * immutable; is valid as declared in {@link #isValidName(String)}
@@ -19,6 +22,7 @@ public class Ingredient {
             + "Example: 'ing/bread, 2 slices; ham, 3 slices'";
 
     public final String name;
+    private final Set<String> words;
     private String quantity;
     private Quantity quantity2;
 
@@ -40,6 +44,7 @@ public class Ingredient {
 
         this.name = ingredientParts.get(0);
         this.quantity = ingredientParts.get(1);
+        this.words = StringUtil.getWordsIgnoreCase(name);
         // new Quantity(ingredientParts.get(1));
     }
 
@@ -52,6 +57,13 @@ public class Ingredient {
         return !nameString.isBlank();
     }
 
+    /**
+     * Returns the words in the name of this ingredient, in lowercase.
+     */
+    public Set<String> getWords() {
+        return words;
+    }
+
     public String getQuantity() {
         return this.quantity;
     }
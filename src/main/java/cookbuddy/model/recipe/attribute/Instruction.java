@@ -3,6 +3,10 @@ package cookbuddy.model.recipe.attribute;
 import static cookbuddy.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import java.util.Set;
+
+import cookbuddy.commons.util.StringUtil;
+
 /**
  * Represents a Recipe's instruction in the recipe book. Guarantees: immutable;
  * is valid as declared in {@link #isValidInstructions(String)}
@@ -13,6 +17,7 @@ public class Instruction {
             + "a non-blank string.";
 
     public final String instructionString;
+    private final Set<String> words;
 
     /**
      * Constructs an {@code Instruction}.
@@ -24,6 +29,7 @@ public class Instruction {
         requireNonNull(instructionString);
         checkArgument(isValidInstruction(instructionString), MESSAGE_CONSTRAINTS);
         this.instructionString = instructionString;
+        this.words = StringUtil.getWordsIgnoreCase(instructionString);
     }
 
     /**
@@ -34,6 +40,13 @@ public class Instruction {
         return !instructionString.isBlank();
     }
 
+    /**
+     * Returns the words in this instruction, in lowercase.
+     */
+    public Set<String> getWords() {
+        return words;
+    }
+
     @Override
     public String toString() {
         return this.instructionString;
@@ -3,6 +3,10 @@ package cookbuddy.model.recipe.attribute;
 import static cookbuddy.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import java.util.Set;
+
+import cookbuddy.commons.util.StringUtil;
+
 /**
  * Represents a Recipe's name in the recipe book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -19,6 +23,7 @@ public class Name {
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
     private final String name;
+    private final Set<String> words;
 
     /**
      * Constructs a {@code Name}.
@@ -29,6 +34,7 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         this.name = name;
+        this.words = StringUtil.getWordsIgnoreCase(name);
     }
 
     /**
@@ -42,6 +48,13 @@ public class Name {
         return name;
     }
 
+    /**
+     * Returns the words in this name, in lowercase.
+     */
+    public Set<String> getWords() {
+        return words;
+    }
+
     @Override
     public String toString() {
         return name;
@@ -4,26 +4,58 @@ import static cookbuddy.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
 import java.awt.image.BufferedImage;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.net.URL;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
 
+import javax.imageio.ImageIO;
+
+import cookbuddy.commons.core.LogsCenter;
 import cookbuddy.commons.util.FileUtil;
+import cookbuddy.commons.util.ImageCache;
 import cookbuddy.commons.util.PhotographUtil;
 import cookbuddy.model.recipe.Recipe;
 
 /**
  * Wrapper class for {@link BufferedImage}. Represents a photo of a
  * {@link Recipe} that a user can possibly provide to the application.
+ * <p>
+ * Each {@code Photograph} is identified by a digest of its pixel data, which is
+ * computed once on creation and used for equality, hashing and file naming.
+ * <p>
+ * A {@code Photograph} read from a file only holds the path and digest of the
+ * image; the pixels are decoded on demand through a shared, size-bounded
+ * {@link ImageCache}. Images that do not come from a file are kept in memory.
+ * <p>
+ * Photographs can be {@link #intern(Photograph) interned}, so that all recipes
+ * with the same image share one {@code Photograph}, and so one copy of its
+ * pixels.
  */
 public class Photograph {
 
     public static final PhotographUtil IMAGE_UTIL = PhotographUtil.imageUtil();
     public static final String MESSAGE_CONSTRAINTS = IMAGE_UTIL.messageConstraints;
     public static final Photograph PLACEHOLDER_PHOTOGRAPH = new Photograph(IMAGE_UTIL.placeholderImage);
+    public static final long DEFAULT_CACHE_CAPACITY_IN_BYTES = 64L * 1024 * 1024;
+
+    private static final ImageCache IMAGE_CACHE = new ImageCache(DEFAULT_CACHE_CAPACITY_IN_BYTES);
+    private static final Logger logger = LogsCenter.getLogger(Photograph.class);
+    private static final Map<String, InternedPhotograph> INTERNED_PHOTOGRAPHS = new HashMap<>();
+    private static final ReferenceQueue<Photograph> COLLECTED_PHOTOGRAPHS = new ReferenceQueue<>();
 
+    private final Path imagePath;
     private final BufferedImage photoData;
+    private final String digest;
+    private volatile boolean isSaved;
 
     /**
      * Constructs a {@code Photograph}, by reading from {@code relativePath}, and
@@ -39,14 +71,44 @@ public class Photograph {
 
     /**
      * Constructs a {@code Photograph}, by reading from {@code imagePath}, and
-     * parsing the file at the path.
+     * parsing the file at the path. The file is decoded once to compute the
+     * digest of the image; afterwards, it is only read again when the pixels
+     * are needed and are not in the cache.
      *
      * @param imagePath A {@link Path} that directs to the photograph file in
      *                  question.
-     * @throws IOException
+     * @throws IOException if the file cannot be read or is not an image.
      */
     public Photograph(Path imagePath) throws IOException {
-        this(FileUtil.streamFromPath(imagePath));
+        requireNonNull(imagePath);
+        BufferedImage image = readImage(imagePath);
+        this.imagePath = imagePath;
+        this.photoData = null;
+        this.digest = IMAGE_UTIL.digestImage(image);
+        IMAGE_CACHE.put(digest, image);
+    }
+
+    /**
+     * Constructs a {@code Photograph} backed by the file at {@code imagePath},
+     * whose digest is already known to be {@code digest}. The digest is trusted
+     * and the file is not read until the pixels are needed. Such a photograph
+     * is considered to be already saved, see {@link #isSaved()}.
+     *
+     * @param imagePath A {@link Path} that directs to the photograph file in
+     *                  question.
+     * @param digest    The digest of the photograph, as previously returned by
+     *                  {@link #getDigest()}.
+     * @throws IOException if there is no file at {@code imagePath}.
+     */
+    public Photograph(Path imagePath, String digest) throws IOException {
+        requireAllNonNull(imagePath, digest);
+        if (!FileUtil.isFileExists(imagePath)) {
+            throw new FileNotFoundException(imagePath.toString());
+        }
+        this.imagePath = imagePath;
+        this.photoData = null;
+        this.digest = digest;
+        this.isSaved = true;
     }
 
     /**
@@ -61,7 +123,9 @@ public class Photograph {
 
     private Photograph(BufferedImage image) {
         requireNonNull(image);
+        this.imagePath = null;
         this.photoData = image;
+        this.digest = IMAGE_UTIL.digestImage(image);
     }
 
     /**
@@ -70,31 +134,111 @@ public class Photograph {
      * @param url The {@link URL} that this recipe's photograph is located at.
      */
     public Photograph(URL url) {
-        requireAllNonNull(url);
-        this.photoData = IMAGE_UTIL.getImage(url);
+        this(IMAGE_UTIL.getImage(requireNonNull(url)));
     }
 
     /**
-     * Returns the {@link Path} that {@code recipe}'s {@link Photograph} is to be
-     * stored as, for use by CookBuddy. Uses the recipe name to generate an image.
+     * Returns the {@link Photograph} with the same image as {@code photograph}
+     * that is shared by all recipes, which is {@code photograph} itself if there
+     * is none yet. A shared photograph whose file has since been deleted is
+     * replaced by {@code photograph}, so that its pixels are not lost.
      * <p>
-     * If {@code recipe} only has a placeholder image, then a default path is
-     * returned.
+     * Shared photographs are only held weakly, and are forgotten once no recipe
+     * uses them any more.
+     */
+    public static Photograph intern(Photograph photograph) {
+        requireNonNull(photograph);
+        if (photograph.isPlaceholder()) {
+            return PLACEHOLDER_PHOTOGRAPH;
+        }
+
+        synchronized (INTERNED_PHOTOGRAPHS) {
+            removeCollectedPhotographs();
+            Photograph interned = getInterned(photograph.digest);
+            if (interned != null && interned.isReadable()) {
+                return interned;
+            }
+            INTERNED_PHOTOGRAPHS.put(photograph.digest, new InternedPhotograph(photograph));
+            return photograph;
+        }
+    }
+
+    /**
+     * Records that the stored file of the photograph with {@code digest} has
+     * been deleted, so that the shared photograph with that digest, if there is
+     * one, is no longer considered to be saved and is written again once a
+     * recipe uses it.
+     */
+    public static void markDeleted(String digest) {
+        requireNonNull(digest);
+        synchronized (INTERNED_PHOTOGRAPHS) {
+            Photograph interned = getInterned(digest);
+            if (interned != null) {
+                interned.isSaved = false;
+            }
+        }
+    }
+
+    private static Photograph getInterned(String digest) {
+        InternedPhotograph reference = INTERNED_PHOTOGRAPHS.get(digest);
+        return reference == null ? null : reference.get();
+    }
+
+    /**
+     * Removes the entries of shared photographs that have been garbage collected.
+     */
+    private static void removeCollectedPhotographs() {
+        Reference<? extends Photograph> reference;
+        while ((reference = COLLECTED_PHOTOGRAPHS.poll()) != null) {
+            InternedPhotograph collected = (InternedPhotograph) reference;
+            // the digest may have been given to another photograph since
+            INTERNED_PHOTOGRAPHS.remove(collected.digest, collected);
+        }
+    }
+
+    /**
+     * Returns {@code true} if the pixels of this {@link Photograph} are in
+     * memory, or the file that they are decoded from still exists.
+     */
+    private boolean isReadable() {
+        return photoData != null || FileUtil.isFileExists(imagePath);
+    }
+
+    /**
+     * Returns the {@link Path} that this {@link Photograph} is to be stored as,
+     * for use by CookBuddy. The file is named after the digest of the image, so
+     * identical images share a single file.
+     * <p>
+     * If this is the placeholder image, then a default path is returned.
      *
-     * @param recipe The {@link Recipe} whose photograph file path is to be
-     *               returned.
      * @return The file name that this {@link Photograph} is to be stored on disk
      *         as.
      */
-    public Path getImageFileName(Recipe recipe) {
-        if (IMAGE_UTIL.isSameImage(this.photoData, IMAGE_UTIL.placeholderImage)) {
+    public Path getImageFileName() {
+        if (isPlaceholder()) {
             return FileUtil.relativePathFrom("placeholder");
         } else {
-            return FileUtil.relativePathFrom(
-                    recipe.getName().toString().replaceAll("\\s+", "").toLowerCase() + "_" + this.hashCode() + ".png");
+            return getImageFileName(digest);
         }
     }
 
+    /**
+     * Returns the {@link Path} that a {@link Photograph} with the given
+     * {@code digest} is stored as, relative to the image storage directory.
+     */
+    public static Path getImageFileName(String digest) {
+        requireNonNull(digest);
+        return FileUtil.relativePathFrom(digest + ".png");
+    }
+
+    /**
+     * Returns {@code true} if this {@link Photograph} has the same image as the
+     * placeholder.
+     */
+    public boolean isPlaceholder() {
+        return this.equals(PLACEHOLDER_PHOTOGRAPH);
+    }
+
     /**
      * Returns an {@link InputStream} from this {@link Photograph}'s image data, by
      * calling {@link PhotographUtil#getImageInputStream(BufferedImage)}.
@@ -103,11 +247,111 @@ public class Photograph {
      *         high-performance.
      */
     public InputStream getInputStream() {
-        return IMAGE_UTIL.getImageInputStream(this.photoData);
+        return IMAGE_UTIL.getImageInputStream(getData());
     }
 
+    /**
+     * Returns the pixels of this {@link Photograph}, decoding them from its file
+     * if they are not already in memory.
+     * <p>
+     * If the file can no longer be read, the placeholder image is returned.
+     */
     public BufferedImage getData() {
-        return this.photoData;
+        try {
+            return readData();
+        } catch (IOException e) {
+            logger.warning("Unable to read photograph at " + imagePath + ". Using placeholder image instead.");
+            return IMAGE_UTIL.placeholderImage;
+        }
+    }
+
+    /**
+     * Returns the pixels of this {@link Photograph}, decoding them from its file
+     * if they are not already in memory.
+     * <p>
+     * Unlike {@link #getData()}, this never falls back to the placeholder image,
+     * so it is safe to use when the pixels are to be stored under this
+     * photograph's digest.
+     *
+     * @throws IOException if the file can no longer be read, or no longer holds
+     *                     the image that this photograph was created from.
+     */
+    public BufferedImage readData() throws IOException {
+        if (photoData != null) {
+            return photoData;
+        }
+
+        Optional<BufferedImage> cachedImage = IMAGE_CACHE.get(digest);
+        if (cachedImage.isPresent()) {
+            return cachedImage.get();
+        }
+
+        BufferedImage image = readImage(imagePath);
+        if (!isSaved && !IMAGE_UTIL.digestImage(image).equals(digest)) {
+            // a file outside the image storage may have been replaced since it was added
+            throw new IOException(imagePath + " no longer holds the image that was added");
+        }
+        IMAGE_CACHE.put(digest, image);
+        return image;
+    }
+
+    public String getDigest() {
+        return this.digest;
+    }
+
+    /**
+     * Returns {@code true} if this {@link Photograph} is known to be stored in
+     * CookBuddy's image storage, i.e. it does not need to be written again.
+     */
+    public boolean isSaved() {
+        return this.isSaved;
+    }
+
+    /**
+     * Records that this {@link Photograph} has been stored in CookBuddy's image
+     * storage.
+     */
+    public void markSaved() {
+        this.isSaved = true;
+    }
+
+    /**
+     * Returns the cache through which the pixels of file-backed photographs are
+     * decoded.
+     */
+    public static ImageCache getImageCache() {
+        return IMAGE_CACHE;
+    }
+
+    /**
+     * Decodes the image in the file at {@code imagePath}.
+     *
+     * @throws IOException if the file cannot be read or is not an image.
+     */
+    private static BufferedImage readImage(Path imagePath) throws IOException {
+        try (InputStream imageInputStream = FileUtil.streamFromPath(imagePath)) {
+            BufferedImage image = ImageIO.read(imageInputStream);
+            if (image == null) {
+                throw new IOException(imagePath + " is not a supported image file");
+            }
+            return image;
+        } catch (RuntimeException e) {
+            // image readers may fail with unchecked exceptions on corrupted files
+            throw new IOException(imagePath + " is not a valid image file", e);
+        }
+    }
+
+    /**
+     * A weak reference to a shared photograph, which remembers the digest that
+     * it is shared under after the photograph has been collected.
+     */
+    private static class InternedPhotograph extends WeakReference<Photograph> {
+        private final String digest;
+
+        InternedPhotograph(Photograph photograph) {
+            super(photograph, COLLECTED_PHOTOGRAPHS);
+            this.digest = photograph.digest;
+        }
     }
 
     @Override
@@ -121,11 +365,11 @@ public class Photograph {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Photograph // instanceof handles nulls
-                        && IMAGE_UTIL.isSameImage(this.photoData, ((Photograph) other).photoData)); // state check
+                        && digest.equals(((Photograph) other).digest)); // state check
     }
 
     @Override
     public int hashCode() {
-        return IMAGE_UTIL.hashImage(this.photoData);
+        return digest.hashCode();
     }
 }
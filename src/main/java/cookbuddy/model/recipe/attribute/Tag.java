@@ -3,6 +3,15 @@ package cookbuddy.model.recipe.attribute;
 import static cookbuddy.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import cookbuddy.commons.util.StringUtil;
+
 /**
  * Represents a Tag in the recipe book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -12,7 +21,11 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final Map<String, InternedTag> INTERNED_TAGS = new HashMap<>();
+    private static final ReferenceQueue<Tag> COLLECTED_TAGS = new ReferenceQueue<>();
+
     public final String tagName;
+    private final Set<String> words;
 
     /**
      * Constructs a {@code Tag}.
@@ -23,6 +36,42 @@ public class Tag {
         requireNonNull(tagName);
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
         this.tagName = tagName;
+        this.words = StringUtil.getWordsIgnoreCase(tagName);
+    }
+
+    /**
+     * Returns the one shared {@code Tag} with the name {@code tagName}, so that the many recipes with the same tag
+     * do not each keep a copy of it.
+     * <p>
+     * Shared tags are only held weakly, and are forgotten once nothing uses them any more, so that the tags of
+     * searches and of deleted recipes do not stay in memory.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        synchronized (INTERNED_TAGS) {
+            removeCollectedTags();
+            InternedTag reference = INTERNED_TAGS.get(tagName);
+            Tag tag = reference == null ? null : reference.get();
+            if (tag == null) {
+                tag = new Tag(tagName);
+                INTERNED_TAGS.put(tagName, new InternedTag(tag));
+            }
+            return tag;
+        }
+    }
+
+    /**
+     * Removes the entries of shared tags that have been garbage collected.
+     */
+    private static void removeCollectedTags() {
+        Reference<? extends Tag> reference;
+        while ((reference = COLLECTED_TAGS.poll()) != null) {
+            InternedTag collected = (InternedTag) reference;
+            // the name may have been given to another tag since
+            INTERNED_TAGS.remove(collected.tagName, collected);
+        }
     }
 
     /**
@@ -32,6 +81,13 @@ public class Tag {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the words in this tag's name, in lowercase.
+     */
+    public Set<String> getWords() {
+        return words;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -51,4 +107,16 @@ public class Tag {
         return '[' + tagName + ']';
     }
 
+    /**
+     * A weak reference to a shared tag, which remembers the name that it is shared under after the tag has been
+     * collected.
+     */
+    private static class InternedTag extends WeakReference<Tag> {
+        private final String tagName;
+
+        InternedTag(Tag tag) {
+            super(tag, COLLECTED_TAGS);
+            this.tagName = tag.tagName;
+        }
+    }
 }
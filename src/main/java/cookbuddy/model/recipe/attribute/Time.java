@@ -74,6 +74,13 @@ public class Time {
         return sec;
     }
 
+    /**
+     * Returns the length of this time in seconds, which is 0 if no time has been set.
+     */
+    public int getTotalSeconds() {
+        return hour * 3600 + min * 60 + sec;
+    }
+
     @Override
     public String toString() {
         String toReturn = "";
@@ -1,12 +1,39 @@
 package cookbuddy.model.recipe.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import cookbuddy.model.recipe.Recipe;
+
 /**
  * Signals that the operation will result in duplicate Recipes (Recipes are considered duplicates if they have the same
  * identity).
  */
 @SuppressWarnings("serial")
 public class DuplicateRecipeException extends RuntimeException {
+    private final List<Recipe> duplicates;
+
     public DuplicateRecipeException() {
         super("Operation would result in duplicate recipes");
+        duplicates = Collections.emptyList();
+    }
+
+    /**
+     * Constructs a {@code DuplicateRecipeException} that reports every recipe in {@code duplicates} as conflicting
+     * with a recipe that came before it.
+     */
+    public DuplicateRecipeException(List<Recipe> duplicates) {
+        super("Operation would result in duplicate recipes: " + duplicates.stream()
+                .map(recipe -> recipe.getName().toString())
+                .collect(Collectors.joining(", ")));
+        this.duplicates = Collections.unmodifiableList(duplicates);
+    }
+
+    /**
+     * Returns the recipes that caused this exception, or an empty list if they were not recorded.
+     */
+    public List<Recipe> getDuplicates() {
+        return duplicates;
     }
 }
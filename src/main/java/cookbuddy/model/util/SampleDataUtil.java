@@ -33,7 +33,8 @@ public class SampleDataUtil {
                 List.of(new Ingredient("bread, 2 slices"), new Ingredient("ham, 1 slice")));
         InstructionList insList1 = new InstructionList(
                 List.of(new Instruction("put ham between bread"), new Instruction("serve on plate")));
-        Photograph image1 = new Photograph(getResourceAsInputStream("/images/hamsandwich_recipe.jpg"));
+        Photograph image1 = Photograph.intern(
+                new Photograph(getResourceAsInputStream("/images/hamsandwich_recipe.jpg")));
         Calorie calorie1 = new Calorie("169");
         Serving serving1 = new Serving(3);
         Rating rating1 = new Rating(2);
@@ -47,7 +48,8 @@ public class SampleDataUtil {
         IngredientList ingList2 = new IngredientList(List.of(new Ingredient("bread, 2 slices")));
         InstructionList insList2 = new InstructionList(List.of(new Instruction("put bread to opposite sides of head"),
                 new Instruction("Yell 'I am an idiot sandwich!'")));
-        Photograph image2 = new Photograph(getResourceAsInputStream("/images/idiotsandwich_recipe.jpg"));
+        Photograph image2 = Photograph.intern(
+                new Photograph(getResourceAsInputStream("/images/idiotsandwich_recipe.jpg")));
         Calorie calorie2 = new Calorie("0");
         Serving serving2 = new Serving(2);
         Rating rating2 = new Rating(4);
@@ -0,0 +1,388 @@
+package cookbuddy.storage;
+
+import static cookbuddy.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import cookbuddy.commons.core.LogsCenter;
+import cookbuddy.commons.exceptions.DataConversionException;
+import cookbuddy.commons.exceptions.IllegalValueException;
+import cookbuddy.commons.util.FileUtil;
+import cookbuddy.model.ReadOnlyRecipeBook;
+import cookbuddy.model.RecipeBook;
+import cookbuddy.model.recipe.Recipe;
+import cookbuddy.model.recipe.attribute.Calorie;
+import cookbuddy.model.recipe.attribute.Difficulty;
+import cookbuddy.model.recipe.attribute.Ingredient;
+import cookbuddy.model.recipe.attribute.IngredientList;
+import cookbuddy.model.recipe.attribute.Instruction;
+import cookbuddy.model.recipe.attribute.InstructionList;
+import cookbuddy.model.recipe.attribute.Name;
+import cookbuddy.model.recipe.attribute.Photograph;
+import cookbuddy.model.recipe.attribute.Rating;
+import cookbuddy.model.recipe.attribute.Serving;
+import cookbuddy.model.recipe.attribute.Tag;
+import cookbuddy.model.recipe.attribute.Time;
+import cookbuddy.model.recipe.exceptions.DuplicateRecipeException;
+
+/**
+ * A class to access RecipeBook data stored as a compact binary file on the hard disk.
+ * <p>
+ * The file starts with a magic number and a format version, followed by a table of all distinct strings in the recipe
+ * book, and then the recipes. Recipes refer to strings, such as ingredient and tag names and photograph digests, by
+ * their index in the table, so that strings shared by several recipes are stored once; all other fields are stored as
+ * fixed-size or length-prefixed values. The file is written in a single pass over the recipes, without building an
+ * intermediate document.
+ */
+public class BinaryRecipeBookStorage implements RecipeBookStorage {
+
+    public static final int MAGIC_NUMBER = 0x43425242; // "CBRB"
+    public static final int FORMAT_VERSION = 1;
+    public static final String FILE_EXTENSION = ".bin";
+
+    public static final String MESSAGE_INVALID_FORMAT = "File is not a CookBuddy binary recipe book.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary recipe book version %d is not supported.";
+    public static final String MESSAGE_INVALID_STRING_REFERENCE = "Recipe refers to a string that does not exist: %d";
+    public static final String MESSAGE_TRUNCATED_FILE = "Binary recipe book ends unexpectedly.";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryRecipeBookStorage.class);
+
+    /** The string reference that stands for the placeholder photograph. */
+    private static final int NO_STRING = -1;
+
+    private final Path filePath;
+    private final Path imagesPath;
+    private final PhotographStorage photographStorage;
+
+    public BinaryRecipeBookStorage(Path filePath, Path imagesPath) {
+        requireAllNonNull(filePath, imagesPath);
+        this.filePath = filePath;
+        this.imagesPath = imagesPath;
+        this.photographStorage = new PhotographStorage(imagesPath);
+    }
+
+    /**
+     * Returns the path of the binary recipe book that corresponds to the json recipe book at {@code jsonFilePath},
+     * i.e. the sibling file of the same name with the {@link #FILE_EXTENSION} extension.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return jsonFilePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getRecipeBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyRecipeBook> readRecipeBook() throws DataConversionException, IOException {
+        return readRecipeBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readRecipeBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyRecipeBook> readRecipeBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (!FileUtil.isFileExists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            RecipeBook recipeBook = new RecipeBook();
+            recipeBook.setRecipes(readRecipes(in, Files.size(filePath)));
+            if (filePath.equals(this.filePath)) {
+                photographStorage.setReferences(recipeBook.getRecipeList());
+            }
+            return Optional.of(recipeBook);
+        } catch (EOFException e) {
+            logger.info("Illegal values found in " + filePath + ": " + MESSAGE_TRUNCATED_FILE);
+            throw new DataConversionException(new IllegalValueException(MESSAGE_TRUNCATED_FILE));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (DuplicateRecipeException dre) {
+            logger.info("Illegal values found in " + filePath + ": " + dre.getMessage());
+            throw new DataConversionException(JsonSerializableRecipeBook.duplicateRecipes(dre));
+        }
+    }
+
+    @Override
+    public void saveRecipeBook(ReadOnlyRecipeBook recipeBook) throws IOException {
+        saveRecipeBook(recipeBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveRecipeBook(ReadOnlyRecipeBook)}.
+     */
+    @Override
+    public void saveRecipeBook(ReadOnlyRecipeBook recipeBook, Path filePath) throws IOException {
+        requireAllNonNull(recipeBook, filePath);
+        List<Recipe> recipes = recipeBook.getRecipeList();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeRecipes(out, recipes);
+        }
+        FileUtil.writeToFileAtomically(filePath, bytes.toByteArray());
+        photographStorage.savePhotographs(recipes);
+        if (filePath.equals(this.filePath)) {
+            photographStorage.setReferences(recipes);
+        }
+    }
+
+    @Override
+    public void flush() {
+        photographStorage.flush();
+    }
+
+    /**
+     * Writes the header, the string table and then {@code recipes} to {@code out}.
+     */
+    private static void writeRecipes(DataOutputStream out, List<Recipe> recipes) throws IOException {
+        Map<String, Integer> stringTable = new LinkedHashMap<>();
+        for (Recipe recipe : recipes) {
+            addStrings(stringTable, recipe);
+        }
+
+        out.writeInt(MAGIC_NUMBER);
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(stringTable.size());
+        for (String string : stringTable.keySet()) {
+            byte[] encodedString = string.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(encodedString.length);
+            out.write(encodedString);
+        }
+
+        out.writeInt(recipes.size());
+        for (Recipe recipe : recipes) {
+            writeRecipe(out, stringTable, recipe);
+        }
+    }
+
+    /**
+     * Adds the strings of {@code recipe} that are stored by reference to {@code stringTable}, numbering them in the
+     * order that they are first added.
+     */
+    private static void addStrings(Map<String, Integer> stringTable, Recipe recipe) {
+        addString(stringTable, recipe.getName().getName());
+        for (Ingredient ingredient : recipe.getIngredients().ingredientData) {
+            addString(stringTable, ingredient.name);
+            addString(stringTable, ingredient.getQuantity());
+        }
+        for (Instruction instruction : recipe.getInstructions().instructionData) {
+            addString(stringTable, instruction.instructionString);
+        }
+        if (!recipe.getPhotograph().isPlaceholder()) {
+            addString(stringTable, recipe.getPhotograph().getDigest());
+        }
+        addString(stringTable, recipe.getCalorie().calorie);
+        for (Tag tag : recipe.getTags()) {
+            addString(stringTable, tag.tagName);
+        }
+    }
+
+    private static void addString(Map<String, Integer> stringTable, String string) {
+        stringTable.putIfAbsent(string, stringTable.size());
+    }
+
+    private static void writeRecipe(DataOutputStream out, Map<String, Integer> stringTable, Recipe recipe)
+            throws IOException {
+        out.writeInt(stringTable.get(recipe.getName().getName()));
+
+        List<Ingredient> ingredients = recipe.getIngredients().ingredientData;
+        out.writeInt(ingredients.size());
+        for (Ingredient ingredient : ingredients) {
+            out.writeInt(stringTable.get(ingredient.name));
+            out.writeInt(stringTable.get(ingredient.getQuantity()));
+        }
+
+        List<Instruction> instructions = recipe.getInstructions().instructionData;
+        out.writeInt(instructions.size());
+        for (Instruction instruction : instructions) {
+            out.writeInt(stringTable.get(instruction.instructionString));
+        }
+
+        Photograph photograph = recipe.getPhotograph();
+        out.writeInt(photograph.isPlaceholder() ? NO_STRING : stringTable.get(photograph.getDigest()));
+        out.writeInt(stringTable.get(recipe.getCalorie().calorie));
+        out.writeInt(recipe.getServing().serving);
+        out.writeInt(recipe.getRating().rating);
+        out.writeInt(recipe.getDifficulty().difficulty);
+        out.writeBoolean(recipe.getFavStatus().getfavStatus());
+        out.writeBoolean(recipe.getDoneStatus().getDoneStatus());
+
+        Time prepTime = recipe.getPrepTime();
+        out.writeByte(prepTime.getHour());
+        out.writeByte(prepTime.getMin());
+        out.writeByte(prepTime.getSec());
+
+        out.writeInt(recipe.getTags().size());
+        for (Tag tag : recipe.getTags()) {
+            out.writeInt(stringTable.get(tag.tagName));
+        }
+    }
+
+    /**
+     * Reads the header, the string table and then the recipes from {@code in}, which holds {@code size} bytes.
+     *
+     * @throws IllegalValueException if the data does not form a valid recipe book.
+     */
+    private List<Recipe> readRecipes(DataInputStream in, long size) throws IllegalValueException, IOException {
+        if (in.readInt() != MAGIC_NUMBER) {
+            throw new IllegalValueException(MESSAGE_INVALID_FORMAT);
+        }
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        String[] stringTable = new String[readCount(in, size)];
+        for (int i = 0; i < stringTable.length; i++) {
+            byte[] encodedString = new byte[readCount(in, size)];
+            in.readFully(encodedString);
+            stringTable[i] = new String(encodedString, StandardCharsets.UTF_8);
+        }
+
+        int recipeCount = readCount(in, size);
+        List<Recipe> recipes = new ArrayList<>(recipeCount);
+        for (int i = 0; i < recipeCount; i++) {
+            recipes.add(readRecipe(in, size, stringTable));
+        }
+        return recipes;
+    }
+
+    private Recipe readRecipe(DataInputStream in, long size, String[] stringTable)
+            throws IllegalValueException, IOException {
+        String name = readString(in, stringTable);
+
+        int ingredientCount = readCount(in, size);
+        List<String> ingredients = new ArrayList<>(ingredientCount);
+        for (int i = 0; i < ingredientCount; i++) {
+            ingredients.add(readString(in, stringTable) + ", " + readString(in, stringTable));
+        }
+
+        int instructionCount = readCount(in, size);
+        List<String> instructions = new ArrayList<>(instructionCount);
+        for (int i = 0; i < instructionCount; i++) {
+            instructions.add(readString(in, stringTable));
+        }
+
+        int digestReference = in.readInt();
+        Photograph photograph = digestReference == NO_STRING
+                ? Photograph.PLACEHOLDER_PHOTOGRAPH
+                : toPhotograph(getString(stringTable, digestReference));
+        String calorie = readString(in, stringTable);
+        int serving = in.readInt();
+        int rating = in.readInt();
+        int difficulty = in.readInt();
+        boolean isFavourite = in.readBoolean();
+        boolean isDone = in.readBoolean();
+        int hour = in.readUnsignedByte();
+        int min = in.readUnsignedByte();
+        int sec = in.readUnsignedByte();
+
+        int tagCount = readCount(in, size);
+        Set<String> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(readString(in, stringTable));
+        }
+
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        if (!Calorie.isValidCalorieAmount(calorie)) {
+            throw new IllegalValueException(Calorie.MESSAGE_CONSTRAINTS);
+        }
+        try {
+            Set<Tag> modelTags = new HashSet<>();
+            for (String tag : tags) {
+                modelTags.add(Tag.of(tag));
+            }
+            List<Ingredient> modelIngredients = new ArrayList<>();
+            for (String ingredient : ingredients) {
+                modelIngredients.add(new Ingredient(ingredient));
+            }
+            List<Instruction> modelInstructions = new ArrayList<>();
+            for (String instruction : instructions) {
+                modelInstructions.add(new Instruction(instruction));
+            }
+
+            Recipe recipe = new Recipe(new Name(name), new IngredientList(modelIngredients),
+                    new InstructionList(modelInstructions), photograph, new Calorie(calorie), new Serving(serving),
+                    new Rating(rating), new Difficulty(difficulty), modelTags);
+            if (isFavourite) {
+                recipe.favRecipe();
+            }
+            if (isDone) {
+                recipe.attemptRecipe();
+            }
+            recipe.setTime(new Time(hour, min, sec));
+            return recipe;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the photograph with the given {@code digest} in {@link #imagesPath}, or the placeholder photograph if
+     * its file is missing.
+     */
+    private Photograph toPhotograph(String digest) {
+        Path photographPath = FileUtil.joinPaths(imagesPath, Photograph.getImageFileName(digest));
+        try {
+            return Photograph.intern(new Photograph(photographPath, digest));
+        } catch (IOException e) {
+            logger.warning("Photograph " + photographPath + " is missing, using the placeholder instead");
+            return Photograph.PLACEHOLDER_PHOTOGRAPH;
+        }
+    }
+
+    private static String readString(DataInputStream in, String[] stringTable)
+            throws IllegalValueException, IOException {
+        return getString(stringTable, in.readInt());
+    }
+
+    private static String getString(String[] stringTable, int reference) throws IllegalValueException {
+        if (reference < 0 || reference >= stringTable.length) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_STRING_REFERENCE, reference));
+        }
+        return stringTable[reference];
+    }
+
+    /**
+     * Reads a count of items or bytes. As each of them takes at least a byte, the count cannot exceed {@code size},
+     * the size of the whole file; this keeps a corrupted count from being used to size an array.
+     */
+    private static int readCount(DataInputStream in, long size) throws IllegalValueException, IOException {
+        int count = in.readInt();
+        if (count < 0 || count > size) {
+            throw new IllegalValueException(MESSAGE_INVALID_FORMAT);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,418 @@
+package cookbuddy.storage;
+
+import static cookbuddy.commons.util.AppUtil.checkArgument;
+import static cookbuddy.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import cookbuddy.commons.core.LogsCenter;
+import cookbuddy.commons.exceptions.DataConversionException;
+import cookbuddy.commons.exceptions.IllegalValueException;
+import cookbuddy.commons.util.FileUtil;
+import cookbuddy.commons.util.JsonUtil;
+import cookbuddy.model.ReadOnlyRecipeBook;
+import cookbuddy.model.RecipeBook;
+import cookbuddy.model.recipe.Recipe;
+import cookbuddy.model.recipe.attribute.Time;
+import cookbuddy.model.recipe.exceptions.DuplicateRecipeException;
+
+/**
+ * A class to access RecipeBook data stored as a json snapshot plus an append-only journal of changes on the hard disk.
+ * <p>
+ * Saving a recipe book compares its recipes against those last saved, and appends one compact json line per change to
+ * the journal, instead of rewriting the whole book. Reading a recipe book replays the journal on top of the snapshot;
+ * a partially-written last line, as left behind by a crash, is ignored. Once the journal grows beyond a threshold, the
+ * journal is compacted, i.e. a new snapshot is written and the journal is started afresh.
+ * <p>
+ * Each snapshot has a generation number, and its journal is named after it, so that a journal is never replayed on
+ * top of a snapshot that it has been compacted into. The snapshot is in the same format as that of
+ * {@link JsonRecipeBookStorage}, and is likewise read and written as a stream of recipes.
+ * <p>
+ * Compaction happens on the thread that saves the recipe book; wrap this storage in a
+ * {@link WriteBehindRecipeBookStorage} to keep it off the UI thread.
+ */
+public class JournaledRecipeBookStorage implements RecipeBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+    public static final String MESSAGE_THRESHOLD_CONSTRAINTS = "The compaction threshold must be positive.";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledRecipeBookStorage.class);
+
+    private final Path filePath;
+    private final Path imagesPath;
+    private final int compactionThreshold;
+    private final PhotographStorage photographStorage;
+    private final RecipeImporter recipeImporter;
+
+    private long generation = 0;
+    private int journalSize = 0;
+    private List<SavedRecipe> savedRecipes = null;
+
+    public JournaledRecipeBookStorage(Path filePath, Path imagesPath) {
+        this(filePath, imagesPath, DEFAULT_COMPACTION_THRESHOLD, new RecipeImporter());
+    }
+
+    /**
+     * Constructs a {@code JournaledRecipeBookStorage} that converts the recipes of its snapshot with
+     * {@code recipeImporter}.
+     */
+    public JournaledRecipeBookStorage(Path filePath, Path imagesPath, RecipeImporter recipeImporter) {
+        this(filePath, imagesPath, DEFAULT_COMPACTION_THRESHOLD, recipeImporter);
+    }
+
+    /**
+     * Constructs a {@code JournaledRecipeBookStorage} that compacts its journal once it holds more than
+     * {@code compactionThreshold} entries.
+     */
+    public JournaledRecipeBookStorage(Path filePath, Path imagesPath, int compactionThreshold) {
+        this(filePath, imagesPath, compactionThreshold, new RecipeImporter());
+    }
+
+    /**
+     * Constructs a {@code JournaledRecipeBookStorage} that compacts its journal once it holds more than
+     * {@code compactionThreshold} entries, and converts the recipes of its snapshot with {@code recipeImporter}.
+     */
+    public JournaledRecipeBookStorage(Path filePath, Path imagesPath, int compactionThreshold,
+            RecipeImporter recipeImporter) {
+        requireAllNonNull(filePath, imagesPath, recipeImporter);
+        checkArgument(compactionThreshold > 0, MESSAGE_THRESHOLD_CONSTRAINTS);
+        this.filePath = filePath;
+        this.imagesPath = imagesPath;
+        this.compactionThreshold = compactionThreshold;
+        this.photographStorage = new PhotographStorage(imagesPath);
+        this.recipeImporter = recipeImporter;
+    }
+
+    @Override
+    public Path getRecipeBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal of the given {@code generation} of the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath, long generation) {
+        return filePath.resolveSibling(filePath.getFileName() + "." + generation + ".journal");
+    }
+
+    @Override
+    public Optional<ReadOnlyRecipeBook> readRecipeBook() throws DataConversionException, IOException {
+        return readRecipeBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readRecipeBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or journal is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyRecipeBook> readRecipeBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        JsonRecipeBookStorage.Snapshot snapshot;
+        RecipeBook recipeBook;
+        int replayedEntryCount;
+        try {
+            try {
+                snapshot = JsonRecipeBookStorage.readSnapshot(filePath, imagesPath, recipeImporter);
+            } catch (IOException e) {
+                logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+                throw new DataConversionException(e);
+            }
+            List<Recipe> recipes = new ArrayList<>(snapshot.recipes);
+            replayedEntryCount = replayJournal(getJournalFilePath(filePath, snapshot.generation), recipes);
+
+            recipeBook = new RecipeBook();
+            recipeBook.setRecipes(recipes);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (DuplicateRecipeException dre) {
+            logger.info("Illegal values found in " + filePath + ": " + dre.getMessage());
+            throw new DataConversionException(JsonSerializableRecipeBook.duplicateRecipes(dre));
+        }
+
+        if (filePath.equals(this.filePath)) {
+            generation = snapshot.generation;
+            journalSize = replayedEntryCount;
+            savedRecipes = toSavedRecipes(recipeBook.getRecipeList());
+            photographStorage.setReferences(recipeBook.getRecipeList());
+            if (replayedEntryCount < 0) {
+                compact(recipeBook.getRecipeList());
+            }
+        }
+        return Optional.of(recipeBook);
+    }
+
+    @Override
+    public void saveRecipeBook(ReadOnlyRecipeBook recipeBook) throws IOException {
+        saveRecipeBook(recipeBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveRecipeBook(ReadOnlyRecipeBook)}. Only changes to the recipe book at the file path of this
+     * storage are journaled; a recipe book saved anywhere else is written as a full snapshot.
+     */
+    @Override
+    public synchronized void saveRecipeBook(ReadOnlyRecipeBook recipeBook, Path filePath) throws IOException {
+        requireAllNonNull(recipeBook, filePath);
+        List<Recipe> recipes = recipeBook.getRecipeList();
+
+        if (!filePath.equals(this.filePath)) {
+            JsonRecipeBookStorage.writeSnapshot(filePath, recipes, 0);
+            photographStorage.savePhotographs(recipes);
+            return;
+        }
+        if (savedRecipes == null) {
+            compact(recipes);
+            return;
+        }
+
+        List<Recipe> changedRecipes = new ArrayList<>();
+        List<Recipe> replacedRecipes = new ArrayList<>();
+        List<JsonAdaptedJournalEntry> entries = updateSavedRecipes(recipes, changedRecipes, replacedRecipes);
+        if (entries.isEmpty()) {
+            return;
+        }
+        if (journalSize + entries.size() > compactionThreshold) {
+            compact(recipes);
+            return;
+        }
+
+        try {
+            appendToJournal(entries);
+        } catch (IOException e) {
+            // the journal may be incomplete, so the next save writes a full snapshot instead
+            savedRecipes = null;
+            throw e;
+        }
+        photographStorage.savePhotographs(changedRecipes);
+        photographStorage.updateReferences(replacedRecipes, changedRecipes);
+    }
+
+    /**
+     * Compacts the journal, if it is not empty, and blocks until all photographs are written.
+     */
+    @Override
+    public synchronized void flush() {
+        if (journalSize > 0) {
+            try {
+                compact(savedRecipes.stream().map(savedRecipe -> savedRecipe.recipe).collect(Collectors.toList()));
+            } catch (IOException e) {
+                logger.warning("Failed to compact journal of " + filePath + ": " + e);
+            }
+        }
+        photographStorage.flush();
+    }
+
+    /**
+     * Updates the last saved recipes to {@code recipes}, and returns the journal entries that record the update.
+     * The recipes that are new or modified are added to {@code changedRecipes}, and the last saved recipes that they
+     * replace, or that were deleted, to {@code replacedRecipes}.
+     * <p>
+     * Recipes are matched by reference, as recipes are replaced when they are modified, or else by content, so that a
+     * copy of a recipe, such as the ones saved by {@link WriteBehindRecipeBookStorage}, matches the recipe that it was
+     * copied from. Their favourite and done status and preparation time are changed in place instead, and are
+     * compared separately. The recipes that changed lie between a common prefix and suffix of both lists, so a single
+     * change only results in a few entries.
+     */
+    private List<JsonAdaptedJournalEntry> updateSavedRecipes(List<Recipe> recipes, List<Recipe> changedRecipes,
+            List<Recipe> replacedRecipes) {
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+
+        int start = 0;
+        while (start < savedRecipes.size() && start < recipes.size()
+                && savedRecipes.get(start).matches(recipes.get(start))) {
+            start++;
+        }
+        int savedEnd = savedRecipes.size();
+        int end = recipes.size();
+        while (savedEnd > start && end > start && savedRecipes.get(savedEnd - 1).matches(recipes.get(end - 1))) {
+            savedEnd--;
+            end--;
+        }
+
+        int modifiedCount = Math.min(savedEnd - start, end - start);
+        for (int i = start; i < start + modifiedCount; i++) {
+            entries.add(JsonAdaptedJournalEntry.modify(i, recipes.get(i)));
+        }
+        for (int i = start + modifiedCount; i < savedEnd; i++) {
+            entries.add(JsonAdaptedJournalEntry.delete(start + modifiedCount));
+        }
+        for (int i = start + modifiedCount; i < end; i++) {
+            entries.add(JsonAdaptedJournalEntry.add(i, recipes.get(i)));
+        }
+        changedRecipes.addAll(recipes.subList(start, end));
+        savedRecipes.subList(start, savedEnd).forEach(savedRecipe -> replacedRecipes.add(savedRecipe.recipe));
+        savedRecipes.subList(start, savedEnd).clear();
+        savedRecipes.addAll(start, toSavedRecipes(recipes.subList(start, end)));
+
+        for (int i = 0; i < start; i++) {
+            updateSavedStatus(entries, i, recipes.get(i));
+        }
+        for (int i = end; i < recipes.size(); i++) {
+            updateSavedStatus(entries, i, recipes.get(i));
+        }
+        return entries;
+    }
+
+    /**
+     * Updates the status of the last saved recipe at {@code index} to that of {@code recipe}, and adds entries for the
+     * differences in the favourite and done status and preparation time to {@code entries}.
+     */
+    private void updateSavedStatus(List<JsonAdaptedJournalEntry> entries, int index, Recipe recipe) {
+        SavedRecipe savedRecipe = savedRecipes.get(index);
+        if (savedRecipe.hasSameStatus(recipe)) {
+            return;
+        }
+
+        if (!savedRecipe.favStatus.equals(recipe.getFavStatus().toString())) {
+            entries.add(JsonAdaptedJournalEntry.fav(index, recipe));
+        }
+        if (!savedRecipe.doneStatus.equals(recipe.getDoneStatus().toString())) {
+            entries.add(JsonAdaptedJournalEntry.done(index, recipe));
+        }
+        if (!savedRecipe.prepTime.equals(recipe.getPrepTime())) {
+            entries.add(JsonAdaptedJournalEntry.time(index, recipe));
+        }
+        savedRecipes.set(index, new SavedRecipe(recipe));
+    }
+
+    /**
+     * Appends {@code entries} to the journal, one json line each, and forces them to the storage device.
+     */
+    private void appendToJournal(List<JsonAdaptedJournalEntry> entries) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            lines.append(JsonUtil.toCompactJsonString(entry)).append('\n');
+        }
+
+        Path journalFilePath = getJournalFilePath(filePath, generation);
+        FileUtil.createParentDirsOfFile(journalFilePath);
+        try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        journalSize += entries.size();
+    }
+
+    /**
+     * Applies the entries in the journal at {@code journalFilePath}, if it exists, to {@code recipes}.
+     *
+     * @return the number of entries applied, or -1 if the journal ends with an incomplete entry, which is ignored.
+     * @throws IllegalValueException if any complete entry is invalid.
+     * @throws DataConversionException if an entry other than the last cannot be parsed, in which case the journal is
+     *     corrupt rather than torn by a crash, and must be kept for the entries after it.
+     */
+    private int replayJournal(Path journalFilePath, List<Recipe> recipes)
+            throws IllegalValueException, DataConversionException, IOException {
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return 0;
+        }
+
+        int entryCount = 0;
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                JsonAdaptedJournalEntry entry;
+                try {
+                    entry = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+                } catch (IOException e) {
+                    if (reader.readLine() != null) {
+                        logger.warning("Corrupt entry " + (entryCount + 1) + " in " + journalFilePath + ": " + e);
+                        throw new DataConversionException(e);
+                    }
+                    logger.warning("Ignoring incomplete entry at the end of " + journalFilePath + ": " + e);
+                    return -1;
+                }
+                entry.applyTo(recipes, imagesPath);
+                entryCount++;
+            }
+        }
+        return entryCount;
+    }
+
+    /**
+     * Writes {@code recipes} as the snapshot of the next generation, and deletes the journal of the current one.
+     * The snapshot is replaced atomically, so that the old snapshot and its journal remain valid until then.
+     */
+    private void compact(List<Recipe> recipes) throws IOException {
+        long nextGeneration = generation + 1;
+        // a journal left behind by an earlier snapshot of the same generation must not be replayed on this one
+        Files.deleteIfExists(getJournalFilePath(filePath, nextGeneration));
+        JsonRecipeBookStorage.writeSnapshot(filePath, recipes, nextGeneration);
+        Files.deleteIfExists(getJournalFilePath(filePath, generation));
+
+        logger.fine("Compacted " + journalSize + " journal entries into " + filePath);
+        generation = nextGeneration;
+        journalSize = 0;
+        savedRecipes = toSavedRecipes(recipes);
+        photographStorage.savePhotographs(recipes);
+        photographStorage.setReferences(recipes);
+    }
+
+    private static List<SavedRecipe> toSavedRecipes(List<Recipe> recipes) {
+        List<SavedRecipe> savedRecipes = new ArrayList<>(recipes.size());
+        for (Recipe recipe : recipes) {
+            savedRecipes.add(new SavedRecipe(recipe));
+        }
+        return savedRecipes;
+    }
+
+    /**
+     * A recipe as it was last saved, along with its status at that time.
+     * The status is copied, as it is changed in place when the recipe is favourited, attempted or timed.
+     */
+    private static class SavedRecipe {
+        private final Recipe recipe;
+        private final String favStatus;
+        private final String doneStatus;
+        private final Time prepTime;
+
+        SavedRecipe(Recipe recipe) {
+            this.recipe = recipe;
+            this.favStatus = recipe.getFavStatus().toString();
+            this.doneStatus = recipe.getDoneStatus().toString();
+            Time time = recipe.getPrepTime();
+            this.prepTime = new Time(time.getHour(), time.getMin(), time.getSec());
+        }
+
+        /**
+         * Returns true if {@code recipe} is this saved recipe, or a copy of it, whatever the status of either.
+         */
+        boolean matches(Recipe recipe) {
+            return recipe == this.recipe
+                    || (recipe.equals(this.recipe) && recipe.getServing().equals(this.recipe.getServing()));
+        }
+
+        boolean hasSameStatus(Recipe recipe) {
+            return favStatus.equals(recipe.getFavStatus().toString())
+                    && doneStatus.equals(recipe.getDoneStatus().toString())
+                    && prepTime.equals(recipe.getPrepTime());
+        }
+    }
+}
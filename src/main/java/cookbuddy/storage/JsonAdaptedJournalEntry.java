@@ -0,0 +1,160 @@
+package cookbuddy.storage;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import cookbuddy.commons.exceptions.IllegalValueException;
+import cookbuddy.logic.parser.ParserUtil;
+import cookbuddy.model.recipe.Recipe;
+import cookbuddy.model.recipe.attribute.Time;
+
+/**
+ * Jackson-friendly version of a single change to the list of recipes in a recipe book, as recorded in the journal of
+ * a {@link JournaledRecipeBookStorage}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String OPERATION_ADD = "add";
+    public static final String OPERATION_MODIFY = "modify";
+    public static final String OPERATION_DELETE = "delete";
+    public static final String OPERATION_FAV = "fav";
+    public static final String OPERATION_DONE = "done";
+    public static final String OPERATION_TIME = "time";
+
+    public static final String MESSAGE_INVALID_OPERATION = "Journal entry has an invalid operation: %s";
+    public static final String MESSAGE_INVALID_INDEX = "Journal entry refers to a recipe that does not exist: %d";
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+
+    private static final String FAV_STATUS = "\u2665";
+    private static final String DONE_STATUS = "Yes";
+    private static final String NO_TIME = "-";
+
+    private final String operation;
+    private final int index;
+    private final JsonAdaptedRecipe recipe;
+    private final String value;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("operation") String operation, @JsonProperty("index") int index,
+            @JsonProperty("recipe") JsonAdaptedRecipe recipe, @JsonProperty("value") String value) {
+        this.operation = operation;
+        this.index = index;
+        this.recipe = recipe;
+        this.value = value;
+    }
+
+    /**
+     * Returns an entry that records {@code recipe} being inserted at {@code index}.
+     */
+    public static JsonAdaptedJournalEntry add(int index, Recipe recipe) {
+        return new JsonAdaptedJournalEntry(OPERATION_ADD, index, new JsonAdaptedRecipe(recipe), null);
+    }
+
+    /**
+     * Returns an entry that records the recipe at {@code index} being replaced by {@code recipe}.
+     */
+    public static JsonAdaptedJournalEntry modify(int index, Recipe recipe) {
+        return new JsonAdaptedJournalEntry(OPERATION_MODIFY, index, new JsonAdaptedRecipe(recipe), null);
+    }
+
+    /**
+     * Returns an entry that records the recipe at {@code index} being deleted.
+     */
+    public static JsonAdaptedJournalEntry delete(int index) {
+        return new JsonAdaptedJournalEntry(OPERATION_DELETE, index, null, null);
+    }
+
+    /**
+     * Returns an entry that records the favourite status of the recipe at {@code index} being set to that of
+     * {@code recipe}.
+     */
+    public static JsonAdaptedJournalEntry fav(int index, Recipe recipe) {
+        return new JsonAdaptedJournalEntry(OPERATION_FAV, index, null, recipe.getFavStatus().toString());
+    }
+
+    /**
+     * Returns an entry that records the done status of the recipe at {@code index} being set to that of
+     * {@code recipe}.
+     */
+    public static JsonAdaptedJournalEntry done(int index, Recipe recipe) {
+        return new JsonAdaptedJournalEntry(OPERATION_DONE, index, null, recipe.getDoneStatus().toString());
+    }
+
+    /**
+     * Returns an entry that records the preparation time of the recipe at {@code index} being set to that of
+     * {@code recipe}.
+     */
+    public static JsonAdaptedJournalEntry time(int index, Recipe recipe) {
+        return new JsonAdaptedJournalEntry(OPERATION_TIME, index, null, recipe.getPrepTime().toString());
+    }
+
+    /**
+     * Applies the change recorded in this entry to {@code recipes}.
+     *
+     * @param imageStoragePath the directory that the photographs of added or modified recipes are stored in.
+     * @throws IllegalValueException if this entry is invalid, or does not apply to {@code recipes}.
+     */
+    public void applyTo(List<Recipe> recipes, Path imageStoragePath) throws IllegalValueException {
+        if (operation == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "operation"));
+        }
+        int maxIndex = operation.equals(OPERATION_ADD) ? recipes.size() : recipes.size() - 1;
+        if (index < 0 || index > maxIndex) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_INDEX, index));
+        }
+
+        switch (operation) {
+        case OPERATION_ADD:
+            recipes.add(index, toModelRecipe(imageStoragePath));
+            break;
+        case OPERATION_MODIFY:
+            recipes.set(index, toModelRecipe(imageStoragePath));
+            break;
+        case OPERATION_DELETE:
+            recipes.remove(index);
+            break;
+        case OPERATION_FAV:
+            if (requireValue().equals(FAV_STATUS)) {
+                recipes.get(index).favRecipe();
+            } else {
+                recipes.get(index).unFavRecipe();
+            }
+            break;
+        case OPERATION_DONE:
+            if (requireValue().equals(DONE_STATUS)) {
+                recipes.get(index).attemptRecipe();
+            } else {
+                recipes.get(index).unAttemptRecipe();
+            }
+            break;
+        case OPERATION_TIME:
+            recipes.get(index).setTime(requireValue().equals(NO_TIME) ? new Time(0, 0, 0)
+                    : ParserUtil.parseTime(value));
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_OPERATION, operation));
+        }
+    }
+
+    private Recipe toModelRecipe(Path imageStoragePath) throws IllegalValueException {
+        if (recipe == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "recipe"));
+        }
+        return recipe.toModelType(imageStoragePath);
+    }
+
+    private String requireValue() throws IllegalValueException {
+        if (value == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "value"));
+        }
+        return value;
+    }
+}
@@ -36,6 +36,7 @@ class JsonAdaptedRecipe {
     private final String ingredients;
     private final String instructions;
     private final Path imageFilePath;
+    private final String photoDigest;
     private final String calorie;
     private final int serving;
     private final int rating;
@@ -51,14 +52,16 @@ class JsonAdaptedRecipe {
     @JsonCreator
     public JsonAdaptedRecipe(@JsonProperty("name") String name, @JsonProperty("ingredients") String ingredients,
             @JsonProperty("instructions") String instructions, @JsonProperty("filePath") Path imageFilePath,
-            @JsonProperty("calorie") String calorie, @JsonProperty("serving") int serving,
-            @JsonProperty("rating") int rating, @JsonProperty("difficulty") int difficulty,
-            @JsonProperty("fav") String fav, @JsonProperty("done") String done, @JsonProperty("time") String time,
+            @JsonProperty("photoDigest") String photoDigest, @JsonProperty("calorie") String calorie,
+            @JsonProperty("serving") int serving, @JsonProperty("rating") int rating,
+            @JsonProperty("difficulty") int difficulty, @JsonProperty("fav") String fav,
+            @JsonProperty("done") String done, @JsonProperty("time") String time,
             @JsonProperty("tagged") List<JsonAdaptedTag> tagged) {
         this.name = name;
         this.ingredients = ingredients;
         this.instructions = instructions;
         this.imageFilePath = imageFilePath;
+        this.photoDigest = photoDigest;
         this.calorie = calorie;
         this.serving = serving;
         this.rating = rating;
@@ -78,7 +81,8 @@ class JsonAdaptedRecipe {
         name = source.getName().toString();
         ingredients = source.getIngredients().toString();
         instructions = source.getInstructions().toString();
-        imageFilePath = source.getPhotograph().getImageFileName(source);
+        imageFilePath = source.getPhotograph().getImageFileName();
+        photoDigest = source.getPhotograph().getDigest();
         calorie = source.getCalorie().calorie;
         serving = source.getServing().serving;
         rating = source.getRating().rating;
@@ -138,10 +142,16 @@ class JsonAdaptedRecipe {
         }
 
         Photograph modelPhotograph;
+        Path photographPath = FileUtil.joinPaths(imageStoragePath, imageFilePath);
         try {
-            modelPhotograph = Photograph.IMAGE_UTIL.isPlaceHolderImage(
-                    FileUtil.joinPaths(imageStoragePath, imageFilePath)) ? Photograph.PLACEHOLDER_PHOTOGRAPH
-                            : new Photograph(FileUtil.joinPaths(imageStoragePath, imageFilePath));
+            if (Photograph.IMAGE_UTIL.isPlaceHolderImage(photographPath)) {
+                modelPhotograph = Photograph.PLACEHOLDER_PHOTOGRAPH;
+            } else if (photoDigest != null) {
+                modelPhotograph = Photograph.intern(new Photograph(photographPath, photoDigest));
+            } else {
+                // recipe books saved before photograph digests were stored
+                modelPhotograph = Photograph.intern(new Photograph(photographPath));
+            }
         } catch (IOException e) {
             modelPhotograph = Photograph.PLACEHOLDER_PHOTOGRAPH;
         }
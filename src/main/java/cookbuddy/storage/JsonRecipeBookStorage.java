@@ -2,21 +2,37 @@ package cookbuddy.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
 import cookbuddy.commons.core.LogsCenter;
 import cookbuddy.commons.exceptions.DataConversionException;
 import cookbuddy.commons.exceptions.IllegalValueException;
 import cookbuddy.commons.util.FileUtil;
 import cookbuddy.commons.util.JsonUtil;
-import cookbuddy.commons.util.PhotographUtil;
 import cookbuddy.model.ReadOnlyRecipeBook;
+import cookbuddy.model.RecipeBook;
+import cookbuddy.model.recipe.Recipe;
+import cookbuddy.model.recipe.exceptions.DuplicateRecipeException;
 
 /**
  * A class to access RecipeBook data stored as a json file on the hard disk.
+ * <p>
+ * The file is read and written as a stream of recipes, so that the json form of the whole recipe book is never held
+ * in memory at once.
  */
 public class JsonRecipeBookStorage implements RecipeBookStorage {
 
@@ -24,10 +40,21 @@ public class JsonRecipeBookStorage implements RecipeBookStorage {
 
     private Path filePath;
     private Path imagesPath;
+    private PhotographStorage photographStorage;
+    private RecipeImporter recipeImporter;
 
     public JsonRecipeBookStorage(Path filePath, Path imagesPath) {
+        this(filePath, imagesPath, new RecipeImporter());
+    }
+
+    /**
+     * Constructs a {@code JsonRecipeBookStorage} that converts the recipes that it reads with {@code recipeImporter}.
+     */
+    public JsonRecipeBookStorage(Path filePath, Path imagesPath, RecipeImporter recipeImporter) {
         this.filePath = filePath;
         this.imagesPath = imagesPath;
+        this.photographStorage = new PhotographStorage(imagesPath);
+        this.recipeImporter = recipeImporter;
     }
 
     public Path getRecipeBookFilePath() {
@@ -41,6 +68,8 @@ public class JsonRecipeBookStorage implements RecipeBookStorage {
 
     /**
      * Similar to {@link #readRecipeBook()}.
+     * The file is parsed as a stream, and each recipe is handed to the {@link RecipeImporter} to be converted as soon
+     * as it is parsed, so that recipes are converted while the rest of the file is still being read.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataConversionException if the file is not in the correct format.
@@ -48,17 +77,27 @@ public class JsonRecipeBookStorage implements RecipeBookStorage {
     public Optional<ReadOnlyRecipeBook> readRecipeBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableRecipeBook> jsonRecipeBook = JsonUtil.readJsonFile(
-            filePath, JsonSerializableRecipeBook.class);
-        if (!jsonRecipeBook.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonRecipeBook.get().toModelType(imagesPath));
+            RecipeBook recipeBook = new RecipeBook();
+            recipeBook.setRecipes(readSnapshot(filePath, imagesPath, recipeImporter).recipes);
+            if (filePath.equals(this.filePath)) {
+                photographStorage.setReferences(recipeBook.getRecipeList());
+            }
+            return Optional.of(recipeBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
+        } catch (DuplicateRecipeException dre) {
+            logger.info("Illegal values found in " + filePath + ": " + dre.getMessage());
+            throw new DataConversionException(JsonSerializableRecipeBook.duplicateRecipes(dre));
         }
     }
 
@@ -69,13 +108,112 @@ public class JsonRecipeBookStorage implements RecipeBookStorage {
 
     /**
      * Similar to {@link #saveRecipeBook(ReadOnlyRecipeBook)}.
+     * Each recipe is written to the file as soon as it is converted to its json form.
      */
     public void saveRecipeBook(ReadOnlyRecipeBook recipeBook, Path dataFilePath) throws IOException {
         requireNonNull(recipeBook);
         requireNonNull(dataFilePath);
 
-        FileUtil.createIfMissing(dataFilePath);
-        JsonUtil.saveJsonFile(new JsonSerializableRecipeBook(recipeBook), dataFilePath);
-        PhotographUtil.imageUtil().saveAllImages(recipeBook.getRecipeList(), imagesPath);
+        writeSnapshot(dataFilePath, recipeBook.getRecipeList(), 0);
+        photographStorage.savePhotographs(recipeBook.getRecipeList());
+        if (dataFilePath.equals(filePath)) {
+            photographStorage.setReferences(recipeBook.getRecipeList());
+        }
+    }
+
+    @Override
+    public void flush() {
+        photographStorage.flush();
+    }
+
+    /**
+     * Reads the recipe book in the json file at {@code filePath}, converting its recipes with {@code recipeImporter}.
+     * The file is parsed as a stream, so that its json form is never held in memory as a whole.
+     *
+     * @throws IOException if the file cannot be read or is not valid json.
+     */
+    static Snapshot readSnapshot(Path filePath, Path imagesPath, RecipeImporter recipeImporter)
+            throws IOException, IllegalValueException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ);
+             JsonParser parser = JsonUtil.createParser(new BufferedInputStream(Channels.newInputStream(channel)))) {
+            return readSnapshot(parser, imagesPath, recipeImporter);
+        }
+    }
+
+    /**
+     * Reads the recipes and generation of the recipe book that {@code parser} is positioned before.
+     * Other fields of the recipe book are skipped.
+     */
+    private static Snapshot readSnapshot(JsonParser parser, Path imagesPath, RecipeImporter recipeImporter)
+            throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a recipe book object");
+        }
+
+        long generation = 0;
+        try (RecipeImporter.Import recipeImport = recipeImporter.begin(imagesPath)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                token = parser.nextToken();
+                if (fieldName.equals(JsonSerializableRecipeBook.GENERATION_FIELD)
+                        && token == JsonToken.VALUE_NUMBER_INT) {
+                    generation = parser.getLongValue();
+                    continue;
+                }
+                if (!fieldName.equals(JsonSerializableRecipeBook.RECIPES_FIELD) || token != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    if (token == null) {
+                        throw new JsonParseException(parser, "Unexpected end of recipe list");
+                    }
+                    recipeImport.add(parser.readValueAs(JsonAdaptedRecipe.class));
+                }
+            }
+            if (token != JsonToken.END_OBJECT) {
+                throw new JsonParseException(parser, "Unexpected end of recipe book");
+            }
+            return new Snapshot(recipeImport.finish(), generation);
+        }
+    }
+
+    /**
+     * Atomically replaces the json file at {@code filePath} with a recipe book of the given {@code recipes} and
+     * {@code generation}, in the same format as {@link JsonSerializableRecipeBook}. The generation is only written
+     * for the snapshots of a journaled recipe book, so that a plain json recipe book is written as it always was.
+     * Each recipe is written to the file as soon as it is converted to its json form.
+     */
+    static void writeSnapshot(Path filePath, List<Recipe> recipes, long generation) throws IOException {
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+                generator.writeStartObject();
+                generator.writeArrayFieldStart(JsonSerializableRecipeBook.RECIPES_FIELD);
+                for (Recipe recipe : recipes) {
+                    generator.writeObject(new JsonAdaptedRecipe(recipe));
+                }
+                generator.writeEndArray();
+                if (generation != 0) {
+                    generator.writeNumberField(JsonSerializableRecipeBook.GENERATION_FIELD, generation);
+                }
+                generator.writeEndObject();
+            }
+        });
+    }
+
+    /**
+     * The recipes of a recipe book read from a json file, along with its generation.
+     *
+     * @see JournaledRecipeBookStorage
+     */
+    static class Snapshot {
+        final List<Recipe> recipes;
+        final long generation;
+
+        Snapshot(List<Recipe> recipes, long generation) {
+            this.recipes = recipes;
+            this.generation = generation;
+        }
     }
 }
@@ -13,6 +13,7 @@ import cookbuddy.commons.exceptions.IllegalValueException;
 import cookbuddy.model.ReadOnlyRecipeBook;
 import cookbuddy.model.RecipeBook;
 import cookbuddy.model.recipe.Recipe;
+import cookbuddy.model.recipe.exceptions.DuplicateRecipeException;
 
 /**
  * An Immutable RecipeBook that is serializable to JSON format.
@@ -20,16 +21,21 @@ import cookbuddy.model.recipe.Recipe;
 @JsonRootName(value = "recipeBook")
 class JsonSerializableRecipeBook {
 
+    public static final String RECIPES_FIELD = "recipes";
+    public static final String GENERATION_FIELD = "generation";
     public static final String MESSAGE_DUPLICATE_RECIPE = "Recipe list contains duplicate recipe(s).";
 
     private final List<JsonAdaptedRecipe> recipes = new ArrayList<>();
+    private final long generation;
 
     /**
      * Constructs a {@code JsonSerializableRecipeBook} with the given recipes.
      */
     @JsonCreator
-    public JsonSerializableRecipeBook(@JsonProperty("recipes") List<JsonAdaptedRecipe> recipes) {
+    public JsonSerializableRecipeBook(@JsonProperty(RECIPES_FIELD) List<JsonAdaptedRecipe> recipes,
+            @JsonProperty(GENERATION_FIELD) long generation) {
         this.recipes.addAll(recipes);
+        this.generation = generation;
     }
 
     /**
@@ -38,24 +44,67 @@ class JsonSerializableRecipeBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableRecipeBook}.
      */
     public JsonSerializableRecipeBook(ReadOnlyRecipeBook source) {
+        this(source, 0);
+    }
+
+    /**
+     * Converts a given {@code ReadOnlyRecipeBook} into this class for Jackson use, as the snapshot of the given
+     * {@code generation} of a journaled recipe book.
+     *
+     * @param source future changes to this will not affect the created {@code JsonSerializableRecipeBook}.
+     * @see JournaledRecipeBookStorage
+     */
+    public JsonSerializableRecipeBook(ReadOnlyRecipeBook source, long generation) {
         recipes.addAll(source.getRecipeList().stream().map(JsonAdaptedRecipe::new).collect(Collectors.toList()));
+        this.generation = generation;
+    }
+
+    public long getGeneration() {
+        return generation;
     }
 
     /**
-     * Converts this recipe book into the model's {@code RecipeBook} object.
+     * Converts this recipe book into the model's {@code RecipeBook} object, converting recipes on one thread per
+     * available processor.
      *
      * @throws IllegalValueException if there were any data constraints violated.
+     * @see #toModelType(Path, RecipeImporter)
      */
     public RecipeBook toModelType(Path imagesPath) throws IllegalValueException {
+        return toModelType(imagesPath, new RecipeImporter());
+    }
+
+    /**
+     * Converts this recipe book into the model's {@code RecipeBook} object, converting recipes with
+     * {@code recipeImporter}.
+     * All recipes are converted first and then inserted in a single batch, so that duplicates are detected in one
+     * pass and the recipe list is only replaced once.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public RecipeBook toModelType(Path imagesPath, RecipeImporter recipeImporter) throws IllegalValueException {
+        List<Recipe> modelRecipes = recipeImporter.importRecipes(recipes, imagesPath);
+
         RecipeBook recipeBook = new RecipeBook();
-        for (JsonAdaptedRecipe jsonAdaptedRecipe : recipes) {
-            Recipe recipe = jsonAdaptedRecipe.toModelType(imagesPath);
-            if (recipeBook.hasRecipe(recipe)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_RECIPE);
-            }
-            recipeBook.addRecipe(recipe);
+        try {
+            recipeBook.setRecipes(modelRecipes);
+        } catch (DuplicateRecipeException e) {
+            throw duplicateRecipes(e);
         }
         return recipeBook;
     }
 
+    /**
+     * Returns an {@code IllegalValueException} that names the recipes that {@code dre} reports as duplicates, so that
+     * the user can tell which entries of the file to fix.
+     */
+    static IllegalValueException duplicateRecipes(DuplicateRecipeException dre) {
+        if (dre.getDuplicates().isEmpty()) {
+            return new IllegalValueException(MESSAGE_DUPLICATE_RECIPE);
+        }
+        return new IllegalValueException(MESSAGE_DUPLICATE_RECIPE + " " + dre.getDuplicates().stream()
+                .map(recipe -> recipe.getName().toString())
+                .collect(Collectors.joining(", ", "Duplicates: ", ".")));
+    }
+
 }
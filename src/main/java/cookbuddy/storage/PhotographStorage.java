@@ -0,0 +1,188 @@
+package cookbuddy.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import javax.imageio.ImageIO;
+
+import cookbuddy.commons.core.LogsCenter;
+import cookbuddy.commons.util.FileUtil;
+import cookbuddy.commons.util.StringUtil;
+import cookbuddy.commons.util.ThumbnailCache;
+import cookbuddy.model.recipe.Recipe;
+import cookbuddy.model.recipe.attribute.Photograph;
+
+/**
+ * Stores the photographs of recipes as image files in a directory on the hard disk, named by their digests, so that
+ * recipes with the same photograph share a single file.
+ * <p>
+ * Only photographs that have not been saved before are written. Writes happen in order on a single background thread,
+ * so that saving the recipe book does not wait on image encoding and disk I/O; {@link #flush()} waits for them.
+ * <p>
+ * The storage also counts how many recipes of the stored recipe book use each photograph. Once a photograph that was
+ * counted is used by no recipe any more, its file and thumbnails are deleted on the same background thread. Files of
+ * photographs that were never counted, such as those of other recipe books, are left alone.
+ */
+public class PhotographStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(PhotographStorage.class);
+
+    private final Path imagesPath;
+    private final ExecutorService ioExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "PhotographStorage");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Set<String> pendingDigests = ConcurrentHashMap.newKeySet();
+    private final ThumbnailCache thumbnailCache;
+    private final Map<String, Integer> referenceCounts = new HashMap<>();
+
+    public PhotographStorage(Path imagesPath) {
+        requireNonNull(imagesPath);
+        this.imagesPath = imagesPath;
+        this.thumbnailCache = new ThumbnailCache(imagesPath);
+    }
+
+    public Path getImagesPath() {
+        return imagesPath;
+    }
+
+    /**
+     * Queues the photographs of {@code recipes} that have not been saved yet to be written in the background.
+     * Photographs that are already queued, and the placeholder photograph, are skipped.
+     */
+    public void savePhotographs(List<Recipe> recipes) {
+        requireNonNull(recipes);
+        for (Recipe recipe : recipes) {
+            Photograph photograph = recipe.getPhotograph();
+            if (!photograph.isSaved() && !photograph.isPlaceholder()
+                    && pendingDigests.add(photograph.getDigest())) {
+                ioExecutor.execute(() -> writePhotograph(photograph));
+            }
+        }
+    }
+
+    /**
+     * Records that the stored recipe book now consists of {@code recipes}, and deletes the photographs that no recipe
+     * uses any more.
+     */
+    public synchronized void setReferences(List<Recipe> recipes) {
+        requireNonNull(recipes);
+        Set<String> previousDigests = Set.copyOf(referenceCounts.keySet());
+        referenceCounts.clear();
+        recipes.forEach(this::addReference);
+        for (String digest : previousDigests) {
+            if (!referenceCounts.containsKey(digest)) {
+                ioExecutor.execute(() -> deleteIfUnreferenced(digest));
+            }
+        }
+        // a photograph may have been deleted after it was last saved, but before it was referenced again
+        savePhotographs(recipes);
+    }
+
+    /**
+     * Records that {@code removedRecipes} have been replaced by {@code addedRecipes} in the stored recipe book, and
+     * deletes the photographs that no recipe uses any more.
+     */
+    public synchronized void updateReferences(List<Recipe> removedRecipes, List<Recipe> addedRecipes) {
+        requireNonNull(removedRecipes);
+        requireNonNull(addedRecipes);
+        // references are added first, so that a photograph moving to another recipe is never deleted
+        addedRecipes.forEach(this::addReference);
+        removedRecipes.forEach(this::removeReference);
+        // a photograph may have been deleted after it was last saved, but before it was referenced again
+        savePhotographs(addedRecipes);
+    }
+
+    /**
+     * Returns the number of recipes in the stored recipe book that use {@code photograph}.
+     */
+    public synchronized int getReferenceCount(Photograph photograph) {
+        requireNonNull(photograph);
+        return referenceCounts.getOrDefault(photograph.getDigest(), 0);
+    }
+
+    private void addReference(Recipe recipe) {
+        Photograph photograph = recipe.getPhotograph();
+        if (!photograph.isPlaceholder()) {
+            referenceCounts.merge(photograph.getDigest(), 1, Integer::sum);
+        }
+    }
+
+    private void removeReference(Recipe recipe) {
+        Photograph photograph = recipe.getPhotograph();
+        String digest = photograph.getDigest();
+        if (photograph.isPlaceholder() || !referenceCounts.containsKey(digest)) {
+            return;
+        }
+        if (referenceCounts.merge(digest, -1, Integer::sum) == 0) {
+            referenceCounts.remove(digest);
+            ioExecutor.execute(() -> deleteIfUnreferenced(digest));
+        }
+    }
+
+    /**
+     * Blocks until all queued photographs have been written and forced to the storage device.
+     */
+    public void flush() {
+        try {
+            ioExecutor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Failed to flush photographs: " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Deletes the file and thumbnails of the photograph with {@code digest}, unless a recipe has started to use it
+     * again since it was queued for deletion.
+     */
+    private synchronized void deleteIfUnreferenced(String digest) {
+        if (referenceCounts.containsKey(digest)) {
+            return;
+        }
+        Path photographPath = FileUtil.joinPaths(imagesPath, Photograph.getImageFileName(digest));
+        try {
+            Files.deleteIfExists(photographPath);
+            Photograph.markDeleted(digest);
+            thumbnailCache.deleteThumbnails(digest);
+        } catch (IOException e) {
+            logger.warning("Failed to delete photograph " + photographPath + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Writes {@code photograph} to its file in {@link #imagesPath}, unless the file already exists.
+     * As files are named by the digest of their image, an existing file always holds the same image.
+     */
+    private void writePhotograph(Photograph photograph) {
+        Path photographPath = FileUtil.joinPaths(imagesPath, photograph.getImageFileName());
+        try {
+            if (!FileUtil.isFileExists(photographPath)) {
+                ByteArrayOutputStream encodedImage = new ByteArrayOutputStream();
+                // the pixels must not fall back to the placeholder, which would be stored under the wrong digest
+                ImageIO.write(photograph.readData(), "png", encodedImage);
+                FileUtil.writeToFileAtomically(photographPath, encodedImage.toByteArray());
+            }
+            photograph.markSaved();
+        } catch (IOException e) {
+            logger.warning("Failed to save photograph to " + photographPath + ": " + StringUtil.getDetails(e));
+        } finally {
+            pendingDigests.remove(photograph.getDigest());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package cookbuddy.storage;
+
+import static cookbuddy.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import cookbuddy.commons.core.LogsCenter;
+import cookbuddy.commons.exceptions.DataConversionException;
+import cookbuddy.commons.util.FileUtil;
+import cookbuddy.model.ReadOnlyRecipeBook;
+
+/**
+ * Migrates recipe books between {@link RecipeBookStorage}s of different formats, e.g. from json to binary and back.
+ */
+public class RecipeBookMigrator {
+
+    private static final Logger logger = LogsCenter.getLogger(RecipeBookMigrator.class);
+
+    private RecipeBookMigrator() {} // prevents instantiation
+
+    /**
+     * Copies the recipe book in {@code source} to {@code target}, and blocks until it is written.
+     *
+     * @return true if {@code source} has a recipe book to copy.
+     * @throws DataConversionException if the recipe book in {@code source} is not in the correct format.
+     */
+    public static boolean migrate(RecipeBookStorage source, RecipeBookStorage target)
+            throws DataConversionException, IOException {
+        requireAllNonNull(source, target);
+        Optional<ReadOnlyRecipeBook> recipeBook = source.readRecipeBook();
+        if (!recipeBook.isPresent()) {
+            return false;
+        }
+
+        logger.info("Migrating recipe book from " + source.getRecipeBookFilePath() + " to "
+                + target.getRecipeBookFilePath());
+        target.saveRecipeBook(recipeBook.get());
+        target.flush();
+        return true;
+    }
+
+    /**
+     * Copies the recipe book in {@code source} to {@code target}, unless {@code target} already has one.
+     * Once copied, the file of {@code source} is moved aside to {@link #getMigratedFilePath(Path)}, so that a later
+     * migration back to {@code source} copies the up-to-date recipe book in {@code target} instead of keeping the
+     * stale one in {@code source}.
+     *
+     * @return true if a recipe book was copied.
+     * @see #migrate(RecipeBookStorage, RecipeBookStorage)
+     */
+    public static boolean migrateIfMissing(RecipeBookStorage source, RecipeBookStorage target)
+            throws DataConversionException, IOException {
+        requireAllNonNull(source, target);
+        if (FileUtil.isFileExists(target.getRecipeBookFilePath())) {
+            return false;
+        }
+        if (!migrate(source, target)) {
+            return false;
+        }
+
+        Path sourceFilePath = source.getRecipeBookFilePath();
+        Files.move(sourceFilePath, getMigratedFilePath(sourceFilePath), StandardCopyOption.REPLACE_EXISTING);
+        return true;
+    }
+
+    /**
+     * Returns the path that the recipe book file at {@code filePath} is moved to once it has been migrated.
+     */
+    public static Path getMigratedFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ".migrated");
+    }
+}
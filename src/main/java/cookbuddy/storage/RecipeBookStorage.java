@@ -42,4 +42,11 @@ public interface RecipeBookStorage {
      * @see #saveRecipeBook(ReadOnlyRecipeBook)
      */
     void saveRecipeBook(ReadOnlyRecipeBook recipeBook, Path filePath) throws IOException;
+
+    /**
+     * Blocks until all data that has been saved in the background is written to the storage.
+     *
+     * @throws IOException if data saved in the background could not be written.
+     */
+    void flush() throws IOException;
 }
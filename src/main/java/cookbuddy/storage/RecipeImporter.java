@@ -0,0 +1,160 @@
+package cookbuddy.storage;
+
+import static cookbuddy.commons.util.AppUtil.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import cookbuddy.commons.exceptions.IllegalValueException;
+import cookbuddy.model.UserPrefs;
+import cookbuddy.model.recipe.Recipe;
+
+/**
+ * Converts the recipes read from a recipe book file into the model's recipes on a bounded pool of threads, so that
+ * the photographs that have to be decoded along the way are decoded in parallel rather than one after another.
+ * <p>
+ * Recipes are converted as they are {@link Import#add(JsonAdaptedRecipe) added}, while the rest of the file is still
+ * being read, and are returned in the order that they were added. A photograph that cannot be decoded is replaced by
+ * the placeholder photograph, as it is when recipes are converted one at a time.
+ */
+public class RecipeImporter {
+
+    /** The number of threads that stands for one thread per available processor. */
+    public static final int THREADS_PER_PROCESSOR = 0;
+
+    private final int threadCount;
+
+    /**
+     * Constructs a {@code RecipeImporter} that converts recipes on one thread per available processor.
+     */
+    public RecipeImporter() {
+        this(THREADS_PER_PROCESSOR);
+    }
+
+    /**
+     * Constructs a {@code RecipeImporter} that converts recipes on at most {@code threadCount} threads, or on one
+     * thread per available processor if {@code threadCount} is {@link #THREADS_PER_PROCESSOR}.
+     */
+    public RecipeImporter(int threadCount) {
+        checkArgument(threadCount >= 0, UserPrefs.MESSAGE_IMPORT_THREAD_COUNT_CONSTRAINTS);
+        this.threadCount = threadCount == THREADS_PER_PROCESSOR
+                ? Runtime.getRuntime().availableProcessors()
+                : threadCount;
+    }
+
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    /**
+     * Starts an import of recipes whose photographs are stored in {@code imagesPath}.
+     * The import must be closed once it is finished, or abandoned, to stop its threads.
+     */
+    Import begin(Path imagesPath) {
+        requireNonNull(imagesPath);
+        return new Import(imagesPath);
+    }
+
+    /**
+     * Converts {@code recipes}, whose photographs are stored in {@code imagesPath}, into the model's recipes.
+     *
+     * @throws IllegalValueException if any of the recipes violates a data constraint.
+     */
+    List<Recipe> importRecipes(List<JsonAdaptedRecipe> recipes, Path imagesPath) throws IllegalValueException {
+        requireNonNull(recipes);
+        try (Import recipeImport = begin(imagesPath)) {
+            recipes.forEach(recipeImport::add);
+            return recipeImport.finish();
+        }
+    }
+
+    /**
+     * A single import of recipes, which converts the recipes added to it in the background.
+     */
+    class Import implements AutoCloseable {
+        private final Path imagesPath;
+        private final List<Future<Recipe>> convertedRecipes = new ArrayList<>();
+        private ExecutorService executor;
+
+        private Import(Path imagesPath) {
+            this.imagesPath = imagesPath;
+        }
+
+        /**
+         * Starts converting {@code recipe}. With a single thread, the recipe is converted before this returns.
+         */
+        void add(JsonAdaptedRecipe recipe) {
+            requireNonNull(recipe);
+            FutureTask<Recipe> conversion = new FutureTask<>(() -> recipe.toModelType(imagesPath));
+            convertedRecipes.add(conversion);
+            if (threadCount == 1) {
+                conversion.run();
+            } else {
+                getExecutor().execute(conversion);
+            }
+        }
+
+        /**
+         * Waits for all added recipes to be converted, and returns them in the order that they were added.
+         *
+         * @throws IllegalValueException if any of the recipes violates a data constraint.
+         */
+        List<Recipe> finish() throws IllegalValueException {
+            List<Recipe> recipes = new ArrayList<>(convertedRecipes.size());
+            for (Future<Recipe> convertedRecipe : convertedRecipes) {
+                recipes.add(getConvertedRecipe(convertedRecipe));
+            }
+            return recipes;
+        }
+
+        @Override
+        public void close() {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+        }
+
+        private ExecutorService getExecutor() {
+            if (executor == null) {
+                AtomicInteger threadNumber = new AtomicInteger();
+                executor = Executors.newFixedThreadPool(threadCount, runnable -> {
+                    Thread thread = new Thread(runnable, "RecipeImporter-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+            return executor;
+        }
+    }
+
+    /**
+     * Returns the recipe that {@code convertedRecipe} converts, once it has been converted, rethrowing any exception
+     * that the conversion threw.
+     */
+    private static Recipe getConvertedRecipe(Future<Recipe> convertedRecipe) throws IllegalValueException {
+        try {
+            return convertedRecipe.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while importing recipes", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IllegalValueException) {
+                throw (IllegalValueException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
@@ -73,4 +73,10 @@ public class StorageManager implements Storage {
         logger.fine("Attempting to write to data file: " + filePath);
         recipeBookStorage.saveRecipeBook(recipeBook, filePath);
     }
+
+    @Override
+    public void flush() throws IOException {
+        logger.fine("Waiting for pending writes to complete");
+        recipeBookStorage.flush();
+    }
 }
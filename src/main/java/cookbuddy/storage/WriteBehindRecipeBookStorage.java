@@ -0,0 +1,226 @@
+package cookbuddy.storage;
+
+import static cookbuddy.commons.util.AppUtil.checkArgument;
+import static cookbuddy.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import cookbuddy.commons.core.LogsCenter;
+import cookbuddy.commons.exceptions.DataConversionException;
+import cookbuddy.commons.util.StringUtil;
+import cookbuddy.model.ReadOnlyRecipeBook;
+import cookbuddy.model.UserPrefs;
+import cookbuddy.model.recipe.Recipe;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * A {@link RecipeBookStorage} that saves to another {@code RecipeBookStorage} in the background.
+ * <p>
+ * Saving only takes a snapshot of the recipe list and returns immediately. As the favourite and done status and the
+ * preparation time of a recipe are changed in place, the snapshot holds copies of the recipes, taken on the saving
+ * thread; a copy is reused until its recipe is changed again, so that unchanged recipes are not copied on every save.
+ * <p>
+ * A snapshot that fails to be written is kept, and written again by the next {@link #flush()} unless a newer snapshot
+ * replaces it. The failure is thrown by the next {@link #saveRecipeBook(ReadOnlyRecipeBook, Path)} or
+ * {@link #flush()}, so that it can be reported to the user.
+ * <p>
+ * The snapshot is written after a delay, on a single background thread; snapshots saved within that delay replace
+ * each other, so that a burst of changes results in a single write of the latest recipe book. Call {@link #flush()}
+ * to write any pending snapshot straight away.
+ */
+public class WriteBehindRecipeBookStorage implements RecipeBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindRecipeBookStorage.class);
+
+    private final RecipeBookStorage recipeBookStorage;
+    private final long saveDelay;
+    private final ScheduledExecutorService ioExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "WriteBehindRecipeBookStorage");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Map<Recipe, RecipeCopy> recipeCopies = new IdentityHashMap<>();
+    private ReadOnlyRecipeBook pendingRecipeBook;
+    private Path pendingFilePath;
+    private boolean isWriteScheduled = false;
+    private IOException saveFailure;
+
+    /**
+     * Constructs a {@code WriteBehindRecipeBookStorage} that saves to {@code recipeBookStorage}, holding back each
+     * save for {@code saveDelay} milliseconds.
+     */
+    public WriteBehindRecipeBookStorage(RecipeBookStorage recipeBookStorage, long saveDelay) {
+        requireNonNull(recipeBookStorage);
+        checkArgument(saveDelay >= 0, UserPrefs.MESSAGE_SAVE_DELAY_CONSTRAINTS);
+        this.recipeBookStorage = recipeBookStorage;
+        this.saveDelay = saveDelay;
+    }
+
+    @Override
+    public Path getRecipeBookFilePath() {
+        return recipeBookStorage.getRecipeBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyRecipeBook> readRecipeBook() throws DataConversionException, IOException {
+        return readRecipeBook(getRecipeBookFilePath());
+    }
+
+    /**
+     * Reads the recipe book at {@code filePath}, after writing any pending snapshot so that it is not read stale.
+     */
+    @Override
+    public Optional<ReadOnlyRecipeBook> readRecipeBook(Path filePath) throws DataConversionException, IOException {
+        flush();
+        return recipeBookStorage.readRecipeBook(filePath);
+    }
+
+    @Override
+    public void saveRecipeBook(ReadOnlyRecipeBook recipeBook) throws IOException {
+        saveRecipeBook(recipeBook, getRecipeBookFilePath());
+    }
+
+    /**
+     * Takes a snapshot of {@code recipeBook} to be saved to {@code filePath} in the background, replacing any snapshot
+     * that has not been written yet.
+     *
+     * @throws IOException if an earlier snapshot failed to be written since the last failure was thrown.
+     */
+    @Override
+    public void saveRecipeBook(ReadOnlyRecipeBook recipeBook, Path filePath) throws IOException {
+        requireAllNonNull(recipeBook, filePath);
+        boolean shouldScheduleWrite;
+        synchronized (this) {
+            ObservableList<Recipe> snapshot = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableList(copyRecipes(recipeBook.getRecipeList())));
+            pendingRecipeBook = () -> snapshot;
+            pendingFilePath = filePath;
+            shouldScheduleWrite = !isWriteScheduled;
+            isWriteScheduled = true;
+        }
+        if (shouldScheduleWrite) {
+            ioExecutor.schedule(this::writePendingRecipeBook, saveDelay, TimeUnit.MILLISECONDS);
+        }
+        throwSaveFailure();
+    }
+
+    /**
+     * Returns copies of {@code recipes}, reusing the copy of each recipe that has not changed since it was copied.
+     * Only the copies of {@code recipes} are kept for the next snapshot.
+     */
+    private List<Recipe> copyRecipes(List<Recipe> recipes) {
+        Map<Recipe, RecipeCopy> copies = new IdentityHashMap<>(recipes.size());
+        List<Recipe> snapshot = new ArrayList<>(recipes.size());
+        for (Recipe recipe : recipes) {
+            RecipeCopy copy = recipeCopies.get(recipe);
+            if (copy == null || copy.version != recipe.versionProperty().get()) {
+                copy = new RecipeCopy(recipe);
+            }
+            copies.put(recipe, copy);
+            snapshot.add(copy.recipe);
+        }
+        recipeCopies = copies;
+        return snapshot;
+    }
+
+    /**
+     * Writes any pending snapshot, and blocks until it and all data saved by the underlying storage in the background
+     * are written.
+     *
+     * @throws IOException if a snapshot failed to be written since the last failure was thrown.
+     */
+    @Override
+    public void flush() throws IOException {
+        try {
+            ioExecutor.submit(this::writePendingRecipeBook).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Failed to flush recipe book: " + StringUtil.getDetails(e));
+            synchronized (this) {
+                saveFailure = new IOException("Failed to save recipe book", e.getCause());
+            }
+        }
+        recipeBookStorage.flush();
+        throwSaveFailure();
+    }
+
+    /**
+     * Throws the last failure to write a snapshot, if any, and forgets it.
+     */
+    private synchronized void throwSaveFailure() throws IOException {
+        IOException failure = saveFailure;
+        saveFailure = null;
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Writes the pending snapshot, if any, to the underlying storage.
+     */
+    private void writePendingRecipeBook() {
+        ReadOnlyRecipeBook recipeBook;
+        Path filePath;
+        synchronized (this) {
+            recipeBook = pendingRecipeBook;
+            filePath = pendingFilePath;
+            pendingRecipeBook = null;
+            pendingFilePath = null;
+            isWriteScheduled = false;
+        }
+        if (recipeBook == null) {
+            return;
+        }
+
+        try {
+            recipeBookStorage.saveRecipeBook(recipeBook, filePath);
+        } catch (IOException e) {
+            logger.severe("Failed to save recipe book to " + filePath + ": " + StringUtil.getDetails(e));
+            synchronized (this) {
+                saveFailure = e;
+                // the snapshot is written again by the next flush, unless a newer one has been saved in the meantime
+                if (pendingRecipeBook == null) {
+                    pendingRecipeBook = recipeBook;
+                    pendingFilePath = filePath;
+                }
+            }
+        }
+    }
+
+    /**
+     * A copy of a recipe, which is never changed in place, along with the version of the recipe that it was copied at.
+     */
+    private static class RecipeCopy {
+        private final Recipe recipe;
+        private final int version;
+
+        RecipeCopy(Recipe source) {
+            version = source.versionProperty().get();
+            recipe = new Recipe(source.getName(), source.getIngredients(), source.getInstructions(),
+                    source.getPhotograph(), source.getCalorie(), source.getServing(), source.getRating(),
+                    source.getDifficulty(), source.getTags());
+            if (source.getFavStatus().getfavStatus()) {
+                recipe.favRecipe();
+            }
+            if (source.getDoneStatus().getDoneStatus()) {
+                recipe.attemptRecipe();
+            }
+            recipe.setTime(source.getPrepTime());
+        }
+    }
+}
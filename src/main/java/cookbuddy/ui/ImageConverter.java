@@ -0,0 +1,91 @@
+package cookbuddy.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.awt.image.SinglePixelPackedSampleModel;
+
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+
+/**
+ * Converts {@link BufferedImage}s into JavaFX images by writing their pixels straight into a {@link WritableImage},
+ * rather than encoding them to an image file in memory for JavaFX to decode again.
+ * <p>
+ * Images whose pixels are already stored as ARGB integers are written from their own pixel arrays without copying.
+ * Other images are copied a row at a time into a buffer that the converter keeps and reuses between images, so a
+ * converter must only be used by one thread, such as the JavaFX application thread.
+ */
+public class ImageConverter {
+
+    private int[] buffer = new int[0];
+
+    /**
+     * Returns a JavaFX image with the same pixels as {@code image}.
+     */
+    public WritableImage toFxImage(BufferedImage image) {
+        requireNonNull(image);
+        int width = image.getWidth();
+        int height = image.getHeight();
+        WritableImage fxImage = new WritableImage(width, height);
+        PixelWriter pixelWriter = fxImage.getPixelWriter();
+        writePixels(image, (pixels, offset, scanlineStride, isPremultiplied) -> pixelWriter.setPixels(0, 0, width,
+                height, isPremultiplied ? PixelFormat.getIntArgbPreInstance() : PixelFormat.getIntArgbInstance(),
+                pixels, offset, scanlineStride));
+        return fxImage;
+    }
+
+    /**
+     * Passes all pixels of {@code image} to {@code pixelSink} as ARGB integers, in rows from the top, in a single
+     * call.
+     */
+    void writePixels(BufferedImage image, PixelSink pixelSink) {
+        switch (image.getType()) {
+        case BufferedImage.TYPE_INT_ARGB:
+            writeRaster(image, pixelSink, false);
+            return;
+        case BufferedImage.TYPE_INT_ARGB_PRE:
+            writeRaster(image, pixelSink, true);
+            return;
+        default:
+            writeCopy(image, pixelSink);
+        }
+    }
+
+    /**
+     * Passes the pixel array of {@code image}, which must store each pixel as one ARGB integer, without copying it.
+     */
+    private static void writeRaster(BufferedImage image, PixelSink pixelSink, boolean isPremultiplied) {
+        DataBufferInt dataBuffer = (DataBufferInt) image.getRaster().getDataBuffer();
+        SinglePixelPackedSampleModel sampleModel = (SinglePixelPackedSampleModel) image.getSampleModel();
+        int offset = dataBuffer.getOffset()
+                - image.getRaster().getSampleModelTranslateY() * sampleModel.getScanlineStride()
+                - image.getRaster().getSampleModelTranslateX();
+        pixelSink.accept(dataBuffer.getData(), offset, sampleModel.getScanlineStride(), isPremultiplied);
+    }
+
+    /**
+     * Copies the pixels of {@code image} into the reused buffer as non-premultiplied ARGB integers, and passes that.
+     */
+    private void writeCopy(BufferedImage image, PixelSink pixelSink) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int size = width * height;
+        if (buffer.length < size) {
+            buffer = new int[size];
+        }
+        image.getRGB(0, 0, width, height, buffer, 0, width);
+        pixelSink.accept(buffer, 0, width, false);
+    }
+
+    /**
+     * Receives the pixels of an image as ARGB integers, where the pixel in column {@code x} of row {@code y} is at
+     * {@code pixels[offset + y * scanlineStride + x]}.
+     */
+    @FunctionalInterface
+    interface PixelSink {
+        void accept(int[] pixels, int offset, int scanlineStride, boolean isPremultiplied);
+    }
+}
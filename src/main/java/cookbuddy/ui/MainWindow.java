@@ -4,6 +4,7 @@ import java.util.logging.Logger;
 
 import cookbuddy.commons.core.GuiSettings;
 import cookbuddy.commons.core.LogsCenter;
+import cookbuddy.commons.util.ThumbnailCache;
 import cookbuddy.logic.Logic;
 import cookbuddy.logic.commands.CommandResult;
 import cookbuddy.logic.commands.exceptions.CommandException;
@@ -36,12 +37,14 @@ public class MainWindow extends UiPart<Stage> {
 
     private Stage primaryStage;
     private Logic logic;
+    private ThumbnailCache thumbnailCache;
 
     // Independent Ui parts residing in this Ui container
     private RecipeListPanel recipeListPanel;
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
     private RecipeView recipeView;
+    private StatusBarFooter statusBarFooter;
 
 
     @FXML
@@ -68,6 +71,7 @@ public class MainWindow extends UiPart<Stage> {
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.thumbnailCache = new ThumbnailCache(logic.getImagesPath());
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
@@ -126,7 +130,7 @@ public class MainWindow extends UiPart<Stage> {
         if (logic.getFilteredRecipeList().size() == 0) {
             recipeView = new RecipeView();
         } else {
-            recipeView = new RecipeView(recipe);
+            recipeView = new RecipeView(recipe, thumbnailCache);
         }
         fillInfo();
     }
@@ -144,8 +148,11 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getRecipeBookFilePath());
-        statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        if (statusBarFooter == null) {
+            // the footer follows the load progress for as long as the window is open, so it is only made once
+            statusBarFooter = new StatusBarFooter(logic.getRecipeBookFilePath(), logic.loadProgressProperty());
+            statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        }
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
@@ -206,6 +213,13 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.show();
     }
 
+    /**
+     * Shows {@code feedback} to the user in the result display.
+     */
+    void showFeedback(String feedback) {
+        resultDisplay.setFeedbackToUser(feedback);
+    }
+
     /**
      * Closes the application.
      */
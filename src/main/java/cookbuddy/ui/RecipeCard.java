@@ -1,8 +1,16 @@
 package cookbuddy.ui;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
 import cookbuddy.model.recipe.Recipe;
+import cookbuddy.model.recipe.attribute.Tag;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
@@ -12,6 +20,7 @@ import javafx.scene.layout.VBox;
 
 /**
  * An UI component that displays information of a {@code Recipe}.
+ * A card can be given another recipe to show, so that a list cell loads its card once and reuses it while scrolling.
  */
 public class RecipeCard extends UiPart<Region> {
 
@@ -25,7 +34,8 @@ public class RecipeCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on RecipeBook level 4</a>
      */
 
-    public final Recipe recipe;
+    private final List<Label> tagLabels = new ArrayList<>();
+    private Recipe recipe;
 
     @FXML
     private VBox cardPane;
@@ -55,13 +65,34 @@ public class RecipeCard extends UiPart<Region> {
     private Label diff;
     @FXML
     private FlowPane tags;
-    public RecipeCard(Recipe recipe, int displayedIndex) {
+
+    /**
+     * Creates a card that does not show a recipe yet, which is given to it with {@link #setRecipe(Recipe, int)}.
+     */
+    public RecipeCard() {
         super(FXML);
-        this.recipe = recipe;
 
         this.cardPane.setStyle("-fx-background-color: transparent;");
         this.title.setStyle("-fx-background-color: transparent;");
         this.tags.setStyle("-fx-background-color: transparent;");
+    }
+
+    public RecipeCard(Recipe recipe, int displayedIndex) {
+        this();
+        setRecipe(recipe, displayedIndex);
+    }
+
+    public Recipe getRecipe() {
+        return recipe;
+    }
+
+    /**
+     * Shows {@code recipe} at {@code displayedIndex} on this card, in place of the recipe that it showed before.
+     * The labels of the card, including those of the tags, are reused rather than loaded again.
+     */
+    public void setRecipe(Recipe recipe, int displayedIndex) {
+        requireNonNull(recipe);
+        this.recipe = recipe;
 
         id.setText(displayedIndex + ". ");
         name.setText(recipe.getName().toString());
@@ -72,9 +103,23 @@ public class RecipeCard extends UiPart<Region> {
         serving.setText(recipe.getServing().toString());
         rating.setText(recipe.getRating().toString());
         diff.setText("Difficulty: " + recipe.getDifficulty().toString());
-        recipe.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+        setTags(recipe.getTags());
+    }
+
+    /**
+     * Shows {@code recipeTags} in alphabetical order, taking the labels from those kept by this card and only creating
+     * a label when the card has never shown that many tags before.
+     */
+    private void setTags(Set<Tag> recipeTags) {
+        Tag[] sortedTags = recipeTags.toArray(new Tag[0]);
+        Arrays.sort(sortedTags, Comparator.comparing(tag -> tag.tagName));
+        while (tagLabels.size() < sortedTags.length) {
+            tagLabels.add(new Label());
+        }
+        for (int i = 0; i < sortedTags.length; i++) {
+            tagLabels.get(i).setText(sortedTags[i].tagName);
+        }
+        tags.getChildren().setAll(tagLabels.subList(0, sortedTags.length));
     }
 
     @Override
@@ -92,6 +137,6 @@ public class RecipeCard extends UiPart<Region> {
         // state check
         RecipeCard card = (RecipeCard) other;
         return id.getText().equals(card.id.getText())
-                && recipe.equals(card.recipe);
+                && Objects.equals(recipe, card.recipe);
     }
 }
@@ -28,9 +28,12 @@ public class RecipeListPanel extends UiPart<Region> {
     }
 
     /**
-     * Custom {@code ListCell} that displays the graphics of a {@code Recipe} using a {@code PersonCard}.
+     * Custom {@code ListCell} that displays the graphics of a {@code Recipe} using a {@code RecipeCard}.
+     * The card is created the first time the cell shows a recipe, and is given each recipe that the cell shows after.
      */
     class RecipeListViewCell extends ListCell<Recipe> {
+        private RecipeCard recipeCard;
+
         @Override
         protected void updateItem(Recipe recipe, boolean empty) {
             super.updateItem(recipe, empty);
@@ -39,7 +42,11 @@ public class RecipeListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new RecipeCard(recipe, getIndex() + 1).getRoot());
+                if (recipeCard == null) {
+                    recipeCard = new RecipeCard();
+                }
+                recipeCard.setRecipe(recipe, getIndex() + 1);
+                setGraphic(recipeCard.getRoot());
             }
         }
     }
@@ -1,8 +1,16 @@
 package cookbuddy.ui;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+import cookbuddy.commons.core.LogsCenter;
+import cookbuddy.commons.util.StringUtil;
+import cookbuddy.commons.util.ThumbnailCache;
 import cookbuddy.model.recipe.Recipe;
 import cookbuddy.model.recipe.attribute.Ingredient;
 import cookbuddy.model.recipe.attribute.Instruction;
+import cookbuddy.model.recipe.attribute.Photograph;
 import javafx.collections.FXCollections;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -17,6 +25,8 @@ import javafx.scene.layout.Region;
 public class RecipeView extends UiPart<Region> {
 
     private static final String FXML = "RecipeView.fxml";
+    private static final Logger logger = LogsCenter.getLogger(RecipeView.class);
+    private static final ImageConverter IMAGE_CONVERTER = new ImageConverter();
     private final Recipe recipe;
 
     @FXML
@@ -29,14 +39,18 @@ public class RecipeView extends UiPart<Region> {
     private ListView<Instruction> instructions;
 
 
-    public RecipeView(Recipe recipe) {
+    /**
+     * Creates a view of {@code recipe}, whose photograph is shown from the thumbnail in {@code thumbnailCache} that
+     * best fits the image view.
+     */
+    public RecipeView(Recipe recipe, ThumbnailCache thumbnailCache) {
         super(FXML);
         this.recipe = recipe;
 
         this.name.setText(recipe.getName().toString());
         this.ingredients.setItems(FXCollections.observableList(this.recipe.getIngredients().asList()));
         this.instructions.setItems(FXCollections.observableList(this.recipe.getInstructions().asList()));
-        this.recipeImage.setImage(new Image(this.recipe.getPhotograph().getInputStream()));
+        this.recipeImage.setImage(loadImage(this.recipe.getPhotograph(), thumbnailCache));
         this.ingredients.setStyle(".list-cell:empty {-fx-background-color: transparent;}");
     }
 
@@ -45,4 +59,21 @@ public class RecipeView extends UiPart<Region> {
         this.recipe = null;
         this.name.setText("Welcome to CookBuddy!");
     }
+
+    /**
+     * Returns the thumbnail of {@code photograph} that is just large enough for the image view, which is read from
+     * its file by JavaFX instead of being encoded again from the full image. If the thumbnail cannot be written, the
+     * pixels of the full image are copied into a JavaFX image instead.
+     */
+    private Image loadImage(Photograph photograph, ThumbnailCache thumbnailCache) {
+        int minSize = (int) Math.ceil(Math.max(recipeImage.getFitWidth(), recipeImage.getFitHeight()));
+        try {
+            Path thumbnailPath = thumbnailCache.getThumbnail(photograph.getDigest(), photograph::getData,
+                    Math.max(minSize, 1));
+            return new Image(thumbnailPath.toUri().toString());
+        } catch (IOException e) {
+            logger.warning("Unable to make thumbnails of photograph: " + StringUtil.getDetails(e));
+            return IMAGE_CONVERTER.toFxImage(photograph.getData());
+        }
+    }
 }
@@ -3,8 +3,11 @@ package cookbuddy.ui;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import cookbuddy.logic.Logic;
+import javafx.beans.property.ReadOnlyDoubleProperty;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.layout.Region;
 
 /**
@@ -12,15 +15,47 @@ import javafx.scene.layout.Region;
  */
 public class StatusBarFooter extends UiPart<Region> {
 
+    public static final String LOADING_STATUS = "Loading recipes...";
+    public static final String LOADING_PROGRESS_STATUS = "Loading recipes: %1$d%%";
+
     private static final String FXML = "StatusBarFooter.fxml";
 
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label loadStatus;
+
+    @FXML
+    private ProgressBar loadProgressBar;
 
-    public StatusBarFooter(Path saveLocation) {
+    public StatusBarFooter(Path saveLocation, ReadOnlyDoubleProperty loadProgress) {
         super(FXML);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        showLoadProgress(loadProgress.get());
+        loadProgress.addListener((unused, oldProgress, newProgress) -> showLoadProgress(newProgress.doubleValue()));
+    }
+
+    /**
+     * Shows how much of the recipe book has been loaded, or hides the load status once all of it has.
+     */
+    private void showLoadProgress(double progress) {
+        boolean isLoading = progress < Logic.LOAD_PROGRESS_DONE;
+        loadStatus.setVisible(isLoading);
+        loadStatus.setManaged(isLoading);
+        loadProgressBar.setVisible(isLoading);
+        loadProgressBar.setManaged(isLoading);
+        if (!isLoading) {
+            return;
+        }
+
+        if (progress == Logic.LOAD_PROGRESS_UNKNOWN) {
+            loadStatus.setText(LOADING_STATUS);
+            loadProgressBar.setProgress(ProgressBar.INDETERMINATE_PROGRESS);
+        } else {
+            loadStatus.setText(String.format(LOADING_PROGRESS_STATUS, Math.round(progress * 100)));
+            loadProgressBar.setProgress(progress);
+        }
     }
 
 }
@@ -56,6 +56,11 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showFeedback(String feedback) {
+        mainWindow.showFeedback(feedback);
+    }
+
     public static void setCommandDescription (String commandDesc) {
         commandDescription = commandDesc;
     }
@@ -1,13 +1,21 @@
 package cookbuddy.commons.util;
 
 import static cookbuddy.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path tempDir;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +28,27 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPathString(null));
     }
 
+    @Test
+    public void writeToFileAtomically_existingFile_replacesContent() throws IOException {
+        Path file = tempDir.resolve("parent").resolve("file.txt");
+        FileUtil.writeToFileAtomically(file, "old content".getBytes());
+        FileUtil.writeToFileAtomically(file, "new content".getBytes());
+
+        assertEquals("new content", FileUtil.readFromFile(file));
+        assertFalse(FileUtil.isFileExists(file.resolveSibling("file.txt.tmp")));
+    }
+
+    @Test
+    public void writeToFileAtomically_failingContentWriter_keepsOldContent() throws IOException {
+        Path file = tempDir.resolve("file.txt");
+        FileUtil.writeToFileAtomically(file, "old content".getBytes());
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, out -> {
+            out.write("partial content".getBytes());
+            throw new IOException();
+        }));
+        assertEquals("old content", FileUtil.readFromFile(file));
+        assertFalse(FileUtil.isFileExists(file.resolveSibling("file.txt.tmp")));
+    }
+
 }
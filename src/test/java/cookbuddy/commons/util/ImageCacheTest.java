@@ -0,0 +1,86 @@
+package cookbuddy.commons.util;
+
+import static cookbuddy.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.Test;
+
+public class ImageCacheTest {
+
+    /** An image of 10 x 10 pixels, stored as 4-byte ints, occupies 400 bytes. */
+    private static final long IMAGE_SIZE = 400;
+
+    @Test
+    public void constructor_negativeCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ImageCache(-1));
+    }
+
+    @Test
+    public void sizeOf() {
+        assertEquals(IMAGE_SIZE, ImageCache.sizeOf(createImage()));
+    }
+
+    @Test
+    public void get_cachedImage_returnsImage() {
+        ImageCache imageCache = new ImageCache(IMAGE_SIZE);
+        BufferedImage image = createImage();
+        imageCache.put("a", image);
+        assertSame(image, imageCache.get("a").get());
+        assertEquals(IMAGE_SIZE, imageCache.getSizeInBytes());
+    }
+
+    @Test
+    public void get_imageNotInCache_returnsEmptyOptional() {
+        assertFalse(new ImageCache(IMAGE_SIZE).get("a").isPresent());
+    }
+
+    @Test
+    public void put_exceedsCapacity_evictsLeastRecentlyUsed() {
+        ImageCache imageCache = new ImageCache(2 * IMAGE_SIZE);
+        imageCache.put("a", createImage());
+        imageCache.put("b", createImage());
+        imageCache.get("a");
+        imageCache.put("c", createImage());
+
+        assertTrue(imageCache.contains("a"));
+        assertFalse(imageCache.contains("b"));
+        assertTrue(imageCache.contains("c"));
+        assertEquals(2 * IMAGE_SIZE, imageCache.getSizeInBytes());
+    }
+
+    @Test
+    public void put_sameKey_replacesImage() {
+        ImageCache imageCache = new ImageCache(2 * IMAGE_SIZE);
+        BufferedImage image = createImage();
+        imageCache.put("a", createImage());
+        imageCache.put("a", image);
+        assertSame(image, imageCache.get("a").get());
+        assertEquals(IMAGE_SIZE, imageCache.getSizeInBytes());
+    }
+
+    @Test
+    public void put_imageLargerThanCapacity_notCached() {
+        ImageCache imageCache = new ImageCache(IMAGE_SIZE - 1);
+        imageCache.put("a", createImage());
+        assertFalse(imageCache.contains("a"));
+        assertEquals(0, imageCache.getSizeInBytes());
+    }
+
+    @Test
+    public void clear() {
+        ImageCache imageCache = new ImageCache(IMAGE_SIZE);
+        imageCache.put("a", createImage());
+        imageCache.clear();
+        assertFalse(imageCache.contains("a"));
+        assertEquals(0, imageCache.getSizeInBytes());
+    }
+
+    private static BufferedImage createImage() {
+        return new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB);
+    }
+}
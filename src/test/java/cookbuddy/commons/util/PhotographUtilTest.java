@@ -1,14 +1,20 @@
 package cookbuddy.commons.util;
 
 import static cookbuddy.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.awt.image.BufferedImage;
 import java.nio.file.InvalidPathException;
 
 import org.junit.jupiter.api.Test;
 
 public class PhotographUtilTest {
 
+    private final PhotographUtil imageUtil = PhotographUtil.imageUtil();
+
     @Test
     public void isValidPlaceHolderImagePath() {
         // valid path
@@ -18,4 +24,47 @@ public class PhotographUtilTest {
         assertThrows(InvalidPathException.class, () -> PhotographUtil.isPlaceHolderImage("a\0"));
     }
 
+    @Test
+    public void digestImage() {
+        BufferedImage image = createImage(4, 3, 0x00ff00);
+        String digest = imageUtil.digestImage(image);
+
+        // same pixels -> same digest
+        assertEquals(digest, imageUtil.digestImage(createImage(4, 3, 0x00ff00)));
+
+        // hexadecimal SHA-256 digest
+        assertTrue(digest.matches("[0-9a-f]{64}"));
+
+        // one different pixel -> different digest
+        BufferedImage otherImage = createImage(4, 3, 0x00ff00);
+        otherImage.setRGB(3, 2, 0xff0000);
+        assertNotEquals(digest, imageUtil.digestImage(otherImage));
+
+        // same pixels, different dimensions -> different digest
+        assertNotEquals(digest, imageUtil.digestImage(createImage(3, 4, 0x00ff00)));
+    }
+
+    @Test
+    public void scaleToFit() {
+        BufferedImage image = createImage(300, 120, 0x00ff00);
+
+        // longest side scaled to fit, aspect ratio kept
+        BufferedImage scaledImage = imageUtil.scaleToFit(image, 100);
+        assertEquals(100, scaledImage.getWidth());
+        assertEquals(40, scaledImage.getHeight());
+        assertEquals(0x00ff00, scaledImage.getRGB(50, 20) & 0xffffff);
+
+        // images that already fit are not scaled
+        assertSame(image, imageUtil.scaleToFit(image, 300));
+    }
+
+    private static BufferedImage createImage(int width, int height, int rgb) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                image.setRGB(x, y, rgb);
+            }
+        }
+        return image;
+    }
 }
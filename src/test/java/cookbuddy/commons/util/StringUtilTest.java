@@ -1,10 +1,14 @@
 package cookbuddy.commons.util;
 
 import static cookbuddy.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.FileNotFoundException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -123,6 +127,61 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for getWordsIgnoreCase --------------------------------------
+
+    @Test
+    public void getWordsIgnoreCase_nullText_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.getWordsIgnoreCase(null));
+    }
+
+    @Test
+    public void getWordsIgnoreCase_validInputs_correctResult() {
+        assertTrue(StringUtil.getWordsIgnoreCase("").isEmpty()); // Boundary case
+        assertTrue(StringUtil.getWordsIgnoreCase(" \n ").isEmpty());
+        assertEquals(Set.of("eggs", "on", "toast"), StringUtil.getWordsIgnoreCase("  Eggs\ton   TOAST eggs "));
+        assertEquals(Set.of("ccc@1"), StringUtil.getWordsIgnoreCase("CCc@1"));
+    }
+
+    //---------------- Tests for normalizeWord --------------------------------------
+
+    @Test
+    public void normalizeWord_invalidWord_throwsException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.normalizeWord(null));
+        assertThrows(IllegalArgumentException.class, "Word parameter cannot be empty", ()
+            -> StringUtil.normalizeWord("  "));
+        assertThrows(IllegalArgumentException.class, "Word parameter should be a single word", ()
+            -> StringUtil.normalizeWord("aaa\tBBB"));
+    }
+
+    @Test
+    public void normalizeWord_validWord_trimmedAndLowercase() {
+        assertEquals("bbb", StringUtil.normalizeWord("  bBB "));
+    }
+
+    //---------------- Tests for containsAnyWord --------------------------------------
+
+    @Test
+    public void containsAnyWord_validInputs_correctResult() {
+        Set<String> words = StringUtil.getWordsIgnoreCase("aaa bBb ccc");
+        assertFalse(StringUtil.containsAnyWord(words, Collections.emptyList())); // Boundary case
+        assertFalse(StringUtil.containsAnyWord(Collections.emptySet(), Arrays.asList("aaa")));
+        assertFalse(StringUtil.containsAnyWord(words, Arrays.asList("bb", "dddd")));
+        assertTrue(StringUtil.containsAnyWord(words, Arrays.asList("dddd", StringUtil.normalizeWord("BBB"))));
+    }
+
+    //---------------- Tests for getEditDistance --------------------------------------
+
+    @Test
+    public void getEditDistance_validInputs_correctResult() {
+        assertEquals(0, StringUtil.getEditDistance("", "")); // Boundary case
+        assertEquals(3, StringUtil.getEditDistance("", "abc"));
+        assertEquals(0, StringUtil.getEditDistance("tomato", "tomato"));
+        assertEquals(1, StringUtil.getEditDistance("tomatoe", "tomato")); // Insertion
+        assertEquals(1, StringUtil.getEditDistance("tmato", "tomato")); // Deletion
+        assertEquals(1, StringUtil.getEditDistance("tomatu", "tomato")); // Substitution
+        assertEquals(2, StringUtil.getEditDistance("chikcen", "chicken")); // Transposition
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
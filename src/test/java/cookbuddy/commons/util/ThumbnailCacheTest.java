@@ -0,0 +1,61 @@
+package cookbuddy.commons.util;
+
+import static cookbuddy.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ThumbnailCacheTest {
+
+    private static final String DIGEST = "0123abcd";
+
+    @TempDir
+    public Path tempDir;
+
+    @Test
+    public void getThumbnailSize_fitsSmallestLargeEnoughSize() {
+        assertEquals(64, ThumbnailCache.getThumbnailSize(1));
+        assertEquals(256, ThumbnailCache.getThumbnailSize(65));
+        assertEquals(256, ThumbnailCache.getThumbnailSize(256));
+        assertEquals(1024, ThumbnailCache.getThumbnailSize(5000));
+        assertThrows(IllegalArgumentException.class, () -> ThumbnailCache.getThumbnailSize(0));
+    }
+
+    @Test
+    public void getThumbnail_firstRequest_writesEverySizeOnce() throws IOException {
+        ThumbnailCache thumbnailCache = new ThumbnailCache(tempDir);
+        AtomicInteger imageRequests = new AtomicInteger();
+        BufferedImage image = new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_RGB);
+
+        Path thumbnailPath = thumbnailCache.getThumbnail(DIGEST, () -> {
+            imageRequests.incrementAndGet();
+            return image;
+        }, 200);
+        assertEquals(thumbnailCache.getThumbnailPath(DIGEST, 256), thumbnailPath);
+        for (int size : ThumbnailCache.THUMBNAIL_SIZES) {
+            assertTrue(Files.exists(thumbnailCache.getThumbnailPath(DIGEST, size)));
+        }
+
+        BufferedImage thumbnail = ImageIO.read(thumbnailPath.toFile());
+        assertEquals(256, thumbnail.getWidth());
+        assertEquals(128, thumbnail.getHeight());
+
+        // the thumbnails are kept on disk, so the image is not needed again
+        thumbnailCache = new ThumbnailCache(tempDir);
+        thumbnailCache.getThumbnail(DIGEST, () -> {
+            imageRequests.incrementAndGet();
+            return image;
+        }, 64);
+        assertEquals(1, imageRequests.get());
+    }
+}
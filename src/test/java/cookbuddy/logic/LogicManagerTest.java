@@ -0,0 +1,72 @@
+package cookbuddy.logic;
+
+import static cookbuddy.logic.LogicManager.MESSAGE_COMMAND_QUEUED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import cookbuddy.logic.commands.FavCommand;
+import cookbuddy.logic.commands.ListCommand;
+import cookbuddy.model.Model;
+import cookbuddy.model.ModelManager;
+import cookbuddy.model.recipe.Recipe;
+import cookbuddy.storage.JsonRecipeBookStorage;
+import cookbuddy.storage.JsonUserPrefsStorage;
+import cookbuddy.storage.StorageManager;
+import cookbuddy.testutil.RecipeBuilder;
+
+public class LogicManagerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager();
+    private Path recipeBookFilePath;
+    private Logic logic;
+
+    @BeforeEach
+    public void setUp() {
+        recipeBookFilePath = temporaryFolder.resolve("recipeBook.json");
+        StorageManager storage = new StorageManager(
+                new JsonRecipeBookStorage(recipeBookFilePath, temporaryFolder.resolve("images")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+    }
+
+    @Test
+    public void execute_mutatingCommandWhileLoading_queuedUntilLoaded() throws Exception {
+        logic.beginLoading();
+        assertEquals(Logic.LOAD_PROGRESS_UNKNOWN, logic.loadProgressProperty().get());
+
+        assertEquals(MESSAGE_COMMAND_QUEUED, logic.execute(FavCommand.COMMAND_WORD + " 1").getFeedbackToUser());
+        assertFalse(Files.exists(recipeBookFilePath));
+
+        Recipe recipe = new RecipeBuilder().build();
+        logic.addLoadedRecipes(Collections.singletonList(recipe), 0.5);
+        assertEquals(0.5, logic.loadProgressProperty().get());
+        assertEquals(Collections.singletonList(recipe), model.getFilteredRecipeList());
+
+        List<String> feedback = logic.finishLoading();
+        assertEquals(Collections.singletonList(String.format(FavCommand.MESSAGE_FAV_RECIPE_SUCCESS, recipe.getName())),
+                feedback);
+        assertEquals(Logic.LOAD_PROGRESS_DONE, logic.loadProgressProperty().get());
+        assertTrue(Files.exists(recipeBookFilePath));
+    }
+
+    @Test
+    public void execute_nonMutatingCommandWhileLoading_executedImmediately() throws Exception {
+        logic.beginLoading();
+        assertEquals(ListCommand.MESSAGE_SUCCESS, logic.execute(ListCommand.COMMAND_WORD).getFeedbackToUser());
+        assertEquals(Collections.emptyList(), logic.finishLoading());
+        assertFalse(Files.exists(recipeBookFilePath));
+    }
+}
@@ -4,6 +4,7 @@ import static cookbuddy.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static cookbuddy.logic.commands.CommandTestUtil.showRecipeAtIndex;
 import static cookbuddy.testutil.TypicalIndexes.INDEX_FIRST_RECIPE;
 import static cookbuddy.testutil.TypicalRecipes.getTypicalRecipeBook;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -36,4 +37,9 @@ public class ListCommandTest {
         showRecipeAtIndex(model, INDEX_FIRST_RECIPE);
         assertCommandSuccess(new ListCommand(), model, ListCommand.MESSAGE_SUCCESS, expectedModel);
     }
+
+    @Test
+    public void isMutating_returnsFalse() {
+        assertFalse(new ListCommand().isMutating());
+    }
 }
@@ -9,6 +9,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -20,6 +23,7 @@ import cookbuddy.model.ReadOnlyRecipeBook;
 import cookbuddy.model.ReadOnlyUserPrefs;
 import cookbuddy.model.RecipeBook;
 import cookbuddy.model.recipe.Recipe;
+import cookbuddy.model.recipe.attribute.Tag;
 import cookbuddy.model.recipe.attribute.Time;
 import cookbuddy.testutil.RecipeBuilder;
 import javafx.collections.ObservableList;
@@ -115,6 +119,11 @@ public class NewCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addRecipes(List<Recipe> recipes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyRecipeBook getRecipeBook() {
             throw new AssertionError("This method should not be called.");
@@ -161,6 +170,11 @@ public class NewCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Map<Tag, Integer> getTagCounts(Set<Tag> tags) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteRecipe(Recipe target) {
             throw new AssertionError("This method should not be called.");
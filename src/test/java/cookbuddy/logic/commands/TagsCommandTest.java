@@ -0,0 +1,59 @@
+package cookbuddy.logic.commands;
+
+import static cookbuddy.commons.core.Messages.MESSAGE_RECIPES_LISTED_OVERVIEW;
+import static cookbuddy.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static cookbuddy.testutil.TypicalRecipes.EGGS_ON_TOAST;
+import static cookbuddy.testutil.TypicalRecipes.getTypicalRecipeBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import cookbuddy.model.Model;
+import cookbuddy.model.ModelManager;
+import cookbuddy.model.UserPrefs;
+import cookbuddy.model.query.TagQuery;
+import cookbuddy.model.recipe.attribute.Tag;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for TagsCommand.
+ */
+public class TagsCommandTest {
+
+    private Model model = new ModelManager(getTypicalRecipeBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalRecipeBook(), new UserPrefs());
+
+    @Test
+    public void execute_noTags_allRecipesAndTagCounts() {
+        String expectedMessage = String.format(MESSAGE_RECIPES_LISTED_OVERVIEW, 2) + "\n"
+                + String.format(TagsCommand.MESSAGE_TAG_COUNTS, "lunch (2), breakfast (1)");
+        assertCommandSuccess(new TagsCommand(Set.of()), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_tags_recipesWithAllTagsAndOtherTagCounts() {
+        Set<Tag> tags = Set.of(new Tag("breakfast"));
+        String expectedMessage = String.format(MESSAGE_RECIPES_LISTED_OVERVIEW, 1) + "\n"
+                + String.format(TagsCommand.MESSAGE_TAG_COUNTS, "lunch (1)");
+        expectedModel.updateFilteredRecipeList(new TagQuery(tags));
+        assertCommandSuccess(new TagsCommand(tags), model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(EGGS_ON_TOAST), model.getFilteredRecipeList());
+    }
+
+    @Test
+    public void execute_noOtherTags_noOtherTagsMessage() {
+        Set<Tag> tags = Set.of(new Tag("breakfast"), new Tag("lunch"));
+        String expectedMessage = String.format(MESSAGE_RECIPES_LISTED_OVERVIEW, 1) + "\n"
+                + TagsCommand.MESSAGE_NO_OTHER_TAGS;
+        expectedModel.updateFilteredRecipeList(new TagQuery(tags));
+        assertCommandSuccess(new TagsCommand(tags), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void isMutating_returnsFalse() {
+        assertFalse(new TagsCommand(Set.of()).isMutating());
+    }
+}
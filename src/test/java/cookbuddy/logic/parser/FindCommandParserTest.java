@@ -1,25 +1,130 @@
 package cookbuddy.logic.parser;
 
 import static cookbuddy.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static cookbuddy.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static cookbuddy.logic.parser.FindCommandParser.MESSAGE_EXPECTED_ATTRIBUTE;
+import static cookbuddy.logic.parser.FindCommandParser.MESSAGE_INVALID_RANGE;
+import static cookbuddy.logic.parser.FindCommandParser.MESSAGE_UNMATCHED_PARENTHESIS;
+
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import cookbuddy.logic.commands.FindCommand;
+import cookbuddy.model.index.FuzzyKeyword;
+import cookbuddy.model.index.NumericField;
+import cookbuddy.model.index.RecipeField;
+import cookbuddy.model.query.AndQuery;
+import cookbuddy.model.query.KeywordQuery;
+import cookbuddy.model.query.NotQuery;
+import cookbuddy.model.query.OrQuery;
+import cookbuddy.model.query.Query;
+import cookbuddy.model.query.RangeQuery;
+import cookbuddy.model.recipe.FuzzyKeywordsPredicate;
+import cookbuddy.model.recipe.IngredientContainsKeywordsPredicate;
+import cookbuddy.model.recipe.NameContainsKeywordsPredicate;
+import cookbuddy.model.recipe.TagContainsKeywordsPredicate;
+
 public class FindCommandParserTest {
 
-    private static final String MESSAGE_ATTRIBUTE_ERROR = "Please search for 1 attribute at a time!";
+    private static final Query NAME_HAM = new KeywordQuery(new NameContainsKeywordsPredicate(List.of("ham")));
+    private static final Query TAG_LUNCH = new KeywordQuery(new TagContainsKeywordsPredicate(List.of("lunch")));
     private FindCommandParser parser = new FindCommandParser();
 
 
     @Test
     public void parse_missingParts_failure() {
         // no prefix specified
-        assertParseFailure(parser, "find", MESSAGE_ATTRIBUTE_ERROR);
+        assertParseFailure(parser, "find", String.format(MESSAGE_EXPECTED_ATTRIBUTE, "find"));
     }
 
     @Test
     public void parse_invalidPreamble_failure() {
         // invalid prefix being parsed as preamble
-        assertParseFailure(parser, "i/ string", MESSAGE_ATTRIBUTE_ERROR);
+        assertParseFailure(parser, "i/ string", String.format(MESSAGE_EXPECTED_ATTRIBUTE, "i/"));
+    }
+
+    @Test
+    public void parse_validTagArgs_returnsFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new TagContainsKeywordsPredicate(Arrays.asList("breakfast", "lunch")));
+        assertParseSuccess(parser, " t/breakfast  lunch", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_markedKeywords_returnsFuzzyFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(
+                new FuzzyKeywordsPredicate(RecipeField.INGREDIENT, Arrays.asList("chick*", "tomatoe~", "ham")));
+        assertParseSuccess(parser, " ing/chick* tomatoe~ ham", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_markerOnly_failure() {
+        assertParseFailure(parser, " n/ham *", FuzzyKeyword.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_multiplePrefixes_returnsAndQuery() {
+        FindCommand expectedFindCommand = new FindCommand(new AndQuery(List.of(NAME_HAM, TAG_LUNCH)));
+        assertParseSuccess(parser, " n/ham t/lunch", expectedFindCommand);
+        assertParseSuccess(parser, " n/ham AND t/lunch", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_operators_returnsQueryTree() {
+        // NOT binds tighter than AND, which binds tighter than OR
+        Query tagBreakfast = new KeywordQuery(new TagContainsKeywordsPredicate(List.of("breakfast")));
+        assertParseSuccess(parser, " n/ham OR t/lunch AND NOT t/breakfast", new FindCommand(new OrQuery(List.of(
+                NAME_HAM, new AndQuery(List.of(TAG_LUNCH, new NotQuery(tagBreakfast)))))));
+
+        // parentheses group queries, and may be attached to keywords
+        assertParseSuccess(parser, " (n/ham OR t/lunch) AND NOT (t/breakfast)", new FindCommand(new AndQuery(List.of(
+                new OrQuery(List.of(NAME_HAM, TAG_LUNCH)), new NotQuery(tagBreakfast)))));
+    }
+
+    @Test
+    public void parse_ranges_returnsRangeQueries() {
+        Query ingredientHam = new KeywordQuery(new IngredientContainsKeywordsPredicate(List.of("ham")));
+        assertParseSuccess(parser, " ing/ham r/ >=4", new FindCommand(new AndQuery(List.of(
+                ingredientHam, new RangeQuery(NumericField.RATING, 4, Long.MAX_VALUE)))));
+        assertParseSuccess(parser, " cal/<500", new FindCommand(
+                new RangeQuery(NumericField.CALORIE, Long.MIN_VALUE, 499)));
+        assertParseSuccess(parser, " d/ 1-3", new FindCommand(new RangeQuery(NumericField.DIFFICULTY, 1, 3)));
+        assertParseSuccess(parser, " s/2", new FindCommand(new RangeQuery(NumericField.SERVING, 2, 2)));
+        assertParseSuccess(parser, " time/ <=0:30", new FindCommand(
+                new RangeQuery(NumericField.PREP_TIME, Long.MIN_VALUE, 1800)));
+    }
+
+    @Test
+    public void parse_negativeValues_minusSignNotSeparator() {
+        assertParseSuccess(parser, " cal/ -5", new FindCommand(new RangeQuery(NumericField.CALORIE, -5, -5)));
+        assertParseSuccess(parser, " cal/-10--5", new FindCommand(new RangeQuery(NumericField.CALORIE, -10, -5)));
+        assertParseSuccess(parser, " cal/ -5-5", new FindCommand(new RangeQuery(NumericField.CALORIE, -5, 5)));
+        assertParseSuccess(parser, " cal/ >-5", new FindCommand(
+                new RangeQuery(NumericField.CALORIE, -4, Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void parse_invalidRange_failure() {
+        assertParseFailure(parser, " r/ high", String.format(MESSAGE_INVALID_RANGE, "r/"));
+        assertParseFailure(parser, " cal/ 500-100", String.format(MESSAGE_INVALID_RANGE, "cal/"));
+        assertParseFailure(parser, " s/", String.format(MESSAGE_INVALID_RANGE, "s/"));
+        assertParseFailure(parser, " cal/ 5-", String.format(MESSAGE_INVALID_RANGE, "cal/"));
+    }
+
+    @Test
+    public void parse_strictBoundOverflows_failure() {
+        assertParseFailure(parser, " cal/ >" + Long.MAX_VALUE, String.format(MESSAGE_INVALID_RANGE, "cal/"));
+        assertParseFailure(parser, " cal/ <" + Long.MIN_VALUE, String.format(MESSAGE_INVALID_RANGE, "cal/"));
+    }
+
+    @Test
+    public void parse_invalidQuery_failure() {
+        assertParseFailure(parser, " (n/ham OR t/lunch", MESSAGE_UNMATCHED_PARENTHESIS);
+        assertParseFailure(parser, " n/ham)", MESSAGE_UNMATCHED_PARENTHESIS);
+        assertParseFailure(parser, " n/ham AND", String.format(MESSAGE_EXPECTED_ATTRIBUTE, "the end of the search"));
+        assertParseFailure(parser, " NOT OR t/lunch", String.format(MESSAGE_EXPECTED_ATTRIBUTE, "OR"));
     }
 
 }
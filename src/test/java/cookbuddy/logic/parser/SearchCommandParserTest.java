@@ -0,0 +1,30 @@
+package cookbuddy.logic.parser;
+
+import static cookbuddy.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static cookbuddy.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static cookbuddy.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import cookbuddy.logic.commands.SearchCommand;
+import cookbuddy.model.recipe.RelevantKeywordsPredicate;
+
+public class SearchCommandParserTest {
+
+    private SearchCommandParser parser = new SearchCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsSearchCommand() {
+        SearchCommand expectedSearchCommand = new SearchCommand(
+                new RelevantKeywordsPredicate(Arrays.asList("ham", "bread"), SearchCommand.MAX_RESULTS));
+        assertParseSuccess(parser, "ham bread", expectedSearchCommand);
+        assertParseSuccess(parser, " \n ham \n \t bread  \t", expectedSearchCommand);
+    }
+}
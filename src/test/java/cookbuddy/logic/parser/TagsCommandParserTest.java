@@ -0,0 +1,33 @@
+package cookbuddy.logic.parser;
+
+import static cookbuddy.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static cookbuddy.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import cookbuddy.logic.commands.TagsCommand;
+import cookbuddy.model.recipe.attribute.Tag;
+
+public class TagsCommandParserTest {
+
+    private TagsCommandParser parser = new TagsCommandParser();
+
+    @Test
+    public void parse_emptyArg_returnsTagsCommandWithoutTags() {
+        assertParseSuccess(parser, "     ", new TagsCommand(Set.of()));
+    }
+
+    @Test
+    public void parse_validArgs_returnsTagsCommand() {
+        TagsCommand expectedTagsCommand = new TagsCommand(Set.of(new Tag("lunch"), new Tag("quick")));
+        assertParseSuccess(parser, "lunch quick", expectedTagsCommand);
+        assertParseSuccess(parser, " \n lunch \n \t quick  lunch \t", expectedTagsCommand);
+    }
+
+    @Test
+    public void parse_invalidTag_throwsParseException() {
+        assertParseFailure(parser, "lunch #quick", Tag.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -10,13 +10,25 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import cookbuddy.commons.core.GuiSettings;
+import cookbuddy.model.index.NumericField;
+import cookbuddy.model.index.RecipeField;
+import cookbuddy.model.query.Query;
+import cookbuddy.model.query.RangeQuery;
+import cookbuddy.model.recipe.FuzzyKeywordsPredicate;
 import cookbuddy.model.recipe.NameContainsKeywordsPredicate;
+import cookbuddy.model.recipe.Recipe;
+import cookbuddy.model.recipe.RelevantKeywordsPredicate;
+import cookbuddy.model.recipe.attribute.Time;
 import cookbuddy.testutil.RecipeBookBuilder;
+import cookbuddy.testutil.RecipeBuilder;
+import javafx.collections.ListChangeListener;
 
 public class ModelManagerTest {
 
@@ -93,6 +105,108 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredRecipeList().remove(0));
     }
 
+    @Test
+    public void updateFilteredRecipeList_keywordsPredicate_followsRecipeBookChanges() {
+        modelManager.addRecipe(HAM_SANDWICH);
+        modelManager.updateFilteredRecipeList(new NameContainsKeywordsPredicate(Arrays.asList("toast", "SANDWICH")));
+        assertEquals(Arrays.asList(HAM_SANDWICH), modelManager.getFilteredRecipeList());
+
+        modelManager.setRecipeBook(new RecipeBookBuilder().withRecipe(EGGS_ON_TOAST).build());
+        assertEquals(Arrays.asList(EGGS_ON_TOAST), modelManager.getFilteredRecipeList());
+
+        modelManager.deleteRecipe(EGGS_ON_TOAST);
+        assertTrue(modelManager.getFilteredRecipeList().isEmpty());
+    }
+
+    @Test
+    public void updateFilteredRecipeList_fuzzyKeywordsPredicate_closestMatchesFirst() {
+        Recipe hamToast = new RecipeBuilder().withName("Hams Toast").build();
+        modelManager.addRecipe(hamToast);
+        modelManager.addRecipe(HAM_SANDWICH);
+        modelManager.addRecipe(EGGS_ON_TOAST);
+
+        modelManager.updateFilteredRecipeList(new FuzzyKeywordsPredicate(RecipeField.NAME, Arrays.asList("ham*")));
+        assertEquals(Arrays.asList(HAM_SANDWICH, hamToast), modelManager.getFilteredRecipeList());
+
+        modelManager.updateFilteredRecipeList(PREDICATE_SHOW_ALL_RECIPES);
+        assertEquals(Arrays.asList(hamToast, HAM_SANDWICH, EGGS_ON_TOAST), modelManager.getFilteredRecipeList());
+    }
+
+    @Test
+    public void updateFilteredRecipeList_relevantKeywordsPredicate_mostRelevantFirst() {
+        modelManager.addRecipe(HAM_SANDWICH);
+        modelManager.addRecipe(EGGS_ON_TOAST);
+
+        modelManager.updateFilteredRecipeList(new RelevantKeywordsPredicate(Arrays.asList("egg", "bread"), 5));
+        assertEquals(Arrays.asList(EGGS_ON_TOAST, HAM_SANDWICH), modelManager.getFilteredRecipeList());
+
+        modelManager.updateFilteredRecipeList(new RelevantKeywordsPredicate(Arrays.asList("egg", "bread"), 1));
+        assertEquals(Arrays.asList(EGGS_ON_TOAST), modelManager.getFilteredRecipeList());
+
+        modelManager.deleteRecipe(EGGS_ON_TOAST);
+        assertEquals(Arrays.asList(HAM_SANDWICH), modelManager.getFilteredRecipeList());
+    }
+
+    @Test
+    public void updateFilteredRecipeList_relevantKeywordsPredicateThenRecipeEdited_rankedAgain() {
+        modelManager.addRecipe(HAM_SANDWICH);
+        modelManager.addRecipe(EGGS_ON_TOAST);
+        modelManager.updateFilteredRecipeList(new RelevantKeywordsPredicate(Arrays.asList("egg", "bread"), 1));
+
+        Recipe editedEggs = new RecipeBuilder(EGGS_ON_TOAST).withName("Scrambled Tofu").build();
+        modelManager.setRecipe(EGGS_ON_TOAST, editedEggs);
+        assertEquals(Arrays.asList(editedEggs), modelManager.getFilteredRecipeList());
+    }
+
+    @Test
+    public void updateFilteredRecipeList_rangeQuery_followsTimeChanges() {
+        Recipe quickRecipe = new RecipeBuilder().withName("Quick Toast").build();
+        modelManager.addRecipe(quickRecipe);
+        modelManager.addRecipe(HAM_SANDWICH);
+        Query underAnHour = new RangeQuery(NumericField.PREP_TIME, Long.MIN_VALUE, 3600);
+
+        modelManager.updateFilteredRecipeList(underAnHour);
+        assertTrue(modelManager.getFilteredRecipeList().isEmpty());
+
+        // the filter is kept, and the timed recipe is tested against it again
+        modelManager.setTime(quickRecipe, new Time(0, 30, 0));
+        assertEquals(Arrays.asList(quickRecipe), modelManager.getFilteredRecipeList());
+
+        modelManager.setTime(quickRecipe, new Time(2, 0, 0));
+        assertTrue(modelManager.getFilteredRecipeList().isEmpty());
+    }
+
+    @Test
+    public void favRecipe_filteredList_filterKeptAndOnlyRecipeUpdated() {
+        Recipe recipe = new RecipeBuilder().withName("Quick Toast").build();
+        modelManager.addRecipe(recipe);
+        modelManager.addRecipe(EGGS_ON_TOAST);
+        modelManager.updateFilteredRecipeList(new NameContainsKeywordsPredicate(Arrays.asList("Quick")));
+
+        List<Recipe> updatedRecipes = new ArrayList<>();
+        modelManager.getRecipeBook().getRecipeList().addListener((ListChangeListener<Recipe>) change -> {
+            while (change.next()) {
+                if (change.wasUpdated()) {
+                    updatedRecipes.addAll(change.getList().subList(change.getFrom(), change.getTo()));
+                }
+            }
+        });
+
+        modelManager.favRecipe(recipe);
+        assertEquals(Arrays.asList(recipe), updatedRecipes);
+        assertEquals(Arrays.asList(recipe), modelManager.getFilteredRecipeList());
+    }
+
+    @Test
+    public void addRecipes_filteredList_filterKept() {
+        modelManager.updateFilteredRecipeList(new NameContainsKeywordsPredicate(Arrays.asList("Quick")));
+        Recipe recipe = new RecipeBuilder().withName("Quick Toast").build();
+
+        modelManager.addRecipes(Arrays.asList(EGGS_ON_TOAST, recipe));
+        assertEquals(Arrays.asList(EGGS_ON_TOAST, recipe), modelManager.getRecipeBook().getRecipeList());
+        assertEquals(Arrays.asList(recipe), modelManager.getFilteredRecipeList());
+    }
+
     @Test
     public void equals() {
         RecipeBook recipeBook = new RecipeBookBuilder().withRecipe(HAM_SANDWICH).withRecipe(EGGS_ON_TOAST).build();
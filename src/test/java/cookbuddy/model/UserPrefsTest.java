@@ -18,4 +18,16 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setDataFilePath(null));
     }
 
+    @Test
+    public void setSaveDelay_negativeDelay_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setSaveDelay(-1));
+    }
+
+    @Test
+    public void setImportThreadCount_negativeCount_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setImportThreadCount(-1));
+    }
+
 }
@@ -0,0 +1,61 @@
+package cookbuddy.model.index;
+
+import static cookbuddy.testutil.TypicalRecipes.EGGS_ON_TOAST;
+import static cookbuddy.testutil.TypicalRecipes.HAM_SANDWICH;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import cookbuddy.model.recipe.Recipe;
+import cookbuddy.model.recipe.UniqueRecipeList;
+import cookbuddy.testutil.RecipeBuilder;
+
+public class Bm25ScorerTest {
+
+    private static final Recipe TOAST_IN_INSTRUCTIONS = new RecipeBuilder().withName("Plain Bread")
+            .withIngredients("bread, 2 slices").withInstructions("toast the bread").build();
+    private static final Recipe TOAST_IN_TAG = new RecipeBuilder().withName("French Bread")
+            .withIngredients("bread, 2 slices").withInstructions("slice the bread").withTags("toast").build();
+
+    private final Bm25Scorer scorer = new Bm25Scorer(createKeywordIndex(
+            Arrays.asList(HAM_SANDWICH, EGGS_ON_TOAST, TOAST_IN_INSTRUCTIONS, TOAST_IN_TAG)));
+
+    private static KeywordIndex createKeywordIndex(List<Recipe> recipeList) {
+        UniqueRecipeList recipes = new UniqueRecipeList();
+        recipes.setRecipes(recipeList);
+        return new KeywordIndex(recipes.getRecipeIds(), recipes.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getScores_onlyMatchingRecipesScored() {
+        Map<Recipe, Double> scores = scorer.getScores(Arrays.asList("HAM"));
+        assertEquals(List.of(HAM_SANDWICH), List.copyOf(scores.keySet()));
+        assertTrue(scores.get(HAM_SANDWICH) > 0);
+        assertTrue(scorer.getScores(Arrays.asList("pasta")).isEmpty());
+    }
+
+    @Test
+    public void getScores_rareKeyword_scoresHigher() {
+        // egg is an ingredient of one recipe, bread is an ingredient of all of them
+        assertTrue(scorer.getScores(Arrays.asList("egg")).get(EGGS_ON_TOAST)
+                > scorer.getScores(Arrays.asList("bread")).get(EGGS_ON_TOAST));
+    }
+
+    @Test
+    public void getMostRelevant_boostedFields_rankedFirst() {
+        assertEquals(Arrays.asList(EGGS_ON_TOAST, TOAST_IN_TAG, TOAST_IN_INSTRUCTIONS),
+            scorer.getMostRelevant(Arrays.asList("toast"), 10));
+    }
+
+    @Test
+    public void getMostRelevant_limit_keepsMostRelevant() {
+        assertEquals(Arrays.asList(EGGS_ON_TOAST, TOAST_IN_TAG), scorer.getMostRelevant(Arrays.asList("toast"), 2));
+        assertEquals(Collections.emptyList(), scorer.getMostRelevant(Arrays.asList("toast"), 0));
+    }
+}
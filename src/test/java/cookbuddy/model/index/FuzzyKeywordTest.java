@@ -0,0 +1,53 @@
+package cookbuddy.model.index;
+
+import static cookbuddy.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class FuzzyKeywordTest {
+
+    @Test
+    public void constructor_markerOnly_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new FuzzyKeyword("~"));
+    }
+
+    @Test
+    public void isValidKeyword() {
+        // invalid keywords
+        assertFalse(FuzzyKeyword.isValidKeyword("")); // empty string
+        assertFalse(FuzzyKeyword.isValidKeyword("*")); // marker only
+        assertFalse(FuzzyKeyword.isValidKeyword("ham sandwich~")); // more than one word
+
+        // valid keywords
+        assertTrue(FuzzyKeyword.isValidKeyword("ham"));
+        assertTrue(FuzzyKeyword.isValidKeyword("h*"));
+        assertTrue(FuzzyKeyword.isValidKeyword(" tomatoe~ "));
+    }
+
+    @Test
+    public void getDistanceTo() {
+        // exact keywords
+        assertEquals(0, new FuzzyKeyword("Ham").getDistanceTo("ham"));
+        assertEquals(FuzzyKeyword.NO_MATCH, new FuzzyKeyword("ham").getDistanceTo("hams"));
+
+        // prefix keywords
+        assertEquals(3, new FuzzyKeyword("chick*").getDistanceTo("chickpea"));
+        assertEquals(FuzzyKeyword.NO_MATCH, new FuzzyKeyword("chick*").getDistanceTo("chic"));
+
+        // fuzzy keywords, allowing more edits for longer words
+        assertEquals(FuzzyKeyword.NO_MATCH, new FuzzyKeyword("eg~").getDistanceTo("egg"));
+        assertEquals(1, new FuzzyKeyword("bred~").getDistanceTo("bread"));
+        assertEquals(FuzzyKeyword.NO_MATCH, new FuzzyKeyword("braed~").getDistanceTo("bread"));
+        assertEquals(2, new FuzzyKeyword("chikcen~").getDistanceTo("chicken"));
+    }
+
+    @Test
+    public void equals() {
+        assertEquals(new FuzzyKeyword("HAM*"), new FuzzyKeyword("ham*"));
+        assertFalse(new FuzzyKeyword("ham*").equals(new FuzzyKeyword("ham~")));
+        assertFalse(new FuzzyKeyword("ham").equals(null));
+    }
+}
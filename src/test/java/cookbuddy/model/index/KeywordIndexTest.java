@@ -0,0 +1,96 @@
+package cookbuddy.model.index;
+
+import static cookbuddy.testutil.TypicalRecipes.EGGS_ON_TOAST;
+import static cookbuddy.testutil.TypicalRecipes.HAM_SANDWICH;
+import static cookbuddy.testutil.TypicalRecipes.getTypicalRecipeBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import cookbuddy.model.RecipeBook;
+import cookbuddy.model.recipe.Recipe;
+import cookbuddy.model.recipe.UniqueRecipeList;
+import cookbuddy.testutil.RecipeBuilder;
+
+public class KeywordIndexTest {
+
+    private final RecipeBook recipeBook = getTypicalRecipeBook();
+    private final KeywordIndex keywordIndex =
+            new KeywordIndex(recipeBook.getRecipeIds(), recipeBook.getRecipeList());
+
+    @Test
+    public void getRecipesContaining_wholeWordIgnoringCase_returnsMatchingRecipes() {
+        assertEquals(Set.of(HAM_SANDWICH), keywordIndex.getRecipesContaining(RecipeField.NAME, "hAm"));
+        assertEquals(Set.of(HAM_SANDWICH, EGGS_ON_TOAST),
+            keywordIndex.getRecipesContaining(RecipeField.INGREDIENT, "bread"));
+        assertEquals(Set.of(EGGS_ON_TOAST), keywordIndex.getRecipesContaining(RecipeField.TAG, "breakfast"));
+        assertEquals(Set.of(EGGS_ON_TOAST), keywordIndex.getRecipesContaining(RecipeField.INSTRUCTION, "scramble"));
+
+        // partial words and other fields do not match
+        assertTrue(keywordIndex.getRecipesContaining(RecipeField.NAME, "Ha").isEmpty());
+        assertTrue(keywordIndex.getRecipesContaining(RecipeField.NAME, "bread").isEmpty());
+    }
+
+    @Test
+    public void getRecipesContainingAnyAndAll_multipleKeywords_unionAndIntersection() {
+        assertEquals(Set.of(HAM_SANDWICH, EGGS_ON_TOAST),
+            keywordIndex.getRecipesContainingAny(RecipeField.INGREDIENT, Arrays.asList("ham", "egg")));
+        assertEquals(Set.of(EGGS_ON_TOAST),
+            keywordIndex.getRecipesContainingAll(RecipeField.INGREDIENT, Arrays.asList("bread", "egg")));
+        assertTrue(keywordIndex.getRecipesContainingAll(RecipeField.INGREDIENT, Arrays.asList("ham", "egg")).isEmpty());
+        assertTrue(keywordIndex.getRecipesContainingAll(RecipeField.INGREDIENT, Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void getRecipesMatchingAny_prefixAndFuzzyKeywords_closestDistances() {
+        Recipe hamToast = new RecipeBuilder().withName("Hamster Toast").build();
+        UniqueRecipeList recipes = new UniqueRecipeList();
+        recipes.setRecipes(Arrays.asList(HAM_SANDWICH, EGGS_ON_TOAST, hamToast));
+        KeywordIndex index = new KeywordIndex(recipes.getRecipeIds(), recipes.asUnmodifiableObservableList());
+
+        assertEquals(Map.of(HAM_SANDWICH, 0, hamToast, 4),
+            index.getRecipesMatchingAny(RecipeField.NAME, List.of(new FuzzyKeyword("HAM*"))));
+        assertEquals(Map.of(HAM_SANDWICH, 1, EGGS_ON_TOAST, 1, hamToast, 1),
+            index.getRecipesMatchingAny(RecipeField.INGREDIENT, List.of(new FuzzyKeyword("bred~"))));
+        assertEquals(Map.of(EGGS_ON_TOAST, 1, hamToast, 1, HAM_SANDWICH, 0),
+            index.getRecipesMatchingAny(RecipeField.NAME, List.of(new FuzzyKeyword("toastt~"),
+                new FuzzyKeyword("ham~"))));
+
+        // keywords without markers, or too far from any word, only match exactly
+        assertEquals(Map.of(HAM_SANDWICH, 0),
+            index.getRecipesMatchingAny(RecipeField.NAME, List.of(new FuzzyKeyword("ham"))));
+        assertTrue(index.getRecipesMatchingAny(RecipeField.NAME, List.of(new FuzzyKeyword("sandwhiches~"))).isEmpty());
+    }
+
+    @Test
+    public void onChanged_recipeListChanges_indexUpdated() {
+        UniqueRecipeList recipes = new UniqueRecipeList();
+        KeywordIndex index = new KeywordIndex(recipes.getRecipeIds());
+        recipes.asUnmodifiableObservableList().addListener(index::onChanged);
+        long initialVersion = index.getVersion();
+
+        recipes.add(HAM_SANDWICH);
+        assertEquals(Set.of(HAM_SANDWICH), index.getRecipesContaining(RecipeField.NAME, "sandwich"));
+        assertNotEquals(initialVersion, index.getVersion());
+
+        Recipe editedRecipe = new RecipeBuilder(HAM_SANDWICH).withName("Cheese Sandwich").build();
+        recipes.setRecipe(HAM_SANDWICH, editedRecipe);
+        assertTrue(index.getRecipesContaining(RecipeField.NAME, "ham").isEmpty());
+        assertEquals(Set.of(editedRecipe), index.getRecipesContaining(RecipeField.NAME, "sandwich"));
+
+        recipes.setRecipes(Arrays.asList(EGGS_ON_TOAST));
+        assertTrue(index.getRecipesContaining(RecipeField.NAME, "sandwich").isEmpty());
+        assertEquals(Set.of(EGGS_ON_TOAST), index.getRecipesContaining(RecipeField.NAME, "toast"));
+
+        recipes.remove(EGGS_ON_TOAST);
+        assertTrue(index.getRecipesContaining(RecipeField.NAME, "toast").isEmpty());
+    }
+}
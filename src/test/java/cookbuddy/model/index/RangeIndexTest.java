@@ -0,0 +1,90 @@
+package cookbuddy.model.index;
+
+import static cookbuddy.testutil.TypicalRecipes.EGGS_ON_TOAST;
+import static cookbuddy.testutil.TypicalRecipes.HAM_SANDWICH;
+import static cookbuddy.testutil.TypicalRecipes.getTypicalRecipeBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import cookbuddy.model.RecipeBook;
+import cookbuddy.model.recipe.Recipe;
+import cookbuddy.model.recipe.RecipeIds;
+import cookbuddy.model.recipe.UniqueRecipeList;
+import cookbuddy.model.recipe.attribute.Time;
+import cookbuddy.testutil.RecipeBuilder;
+
+public class RangeIndexTest {
+
+    private final RecipeBook recipeBook = getTypicalRecipeBook();
+    private final RangeIndex rangeIndex = new RangeIndex(recipeBook.getRecipeIds(), recipeBook.getRecipeList());
+
+    @Test
+    public void getRecipesInRange_inclusiveBounds_returnsMatchingRecipes() {
+        assertEquals(Set.of(HAM_SANDWICH, EGGS_ON_TOAST), rangeIndex.getRecipesInRange(NumericField.CALORIE, 200, 300));
+        assertEquals(Set.of(HAM_SANDWICH), rangeIndex.getRecipesInRange(NumericField.CALORIE, 201, Long.MAX_VALUE));
+        assertEquals(Set.of(EGGS_ON_TOAST), rangeIndex.getRecipesInRange(NumericField.RATING, 3, 3));
+        assertTrue(rangeIndex.getRecipesInRange(NumericField.SERVING, 3, Long.MAX_VALUE).isEmpty());
+
+        // empty ranges do not match
+        assertTrue(rangeIndex.getRecipesInRange(NumericField.CALORIE, 300, 200).isEmpty());
+    }
+
+    @Test
+    public void countRecipesInRange_sameAsRecipesInRange() {
+        assertEquals(2, rangeIndex.countRecipesInRange(NumericField.CALORIE, 0, 1000));
+        assertEquals(1, rangeIndex.countRecipesInRange(NumericField.SERVING, 2, 2));
+        assertEquals(0, rangeIndex.countRecipesInRange(NumericField.SERVING, 2, 1));
+    }
+
+    @Test
+    public void getRecipesInOrderAndBounds_sortedByValue() {
+        assertEquals(List.of(EGGS_ON_TOAST, HAM_SANDWICH), rangeIndex.getRecipesInOrder(NumericField.CALORIE, false));
+        assertEquals(List.of(HAM_SANDWICH, EGGS_ON_TOAST), rangeIndex.getRecipesInOrder(NumericField.CALORIE, true));
+        assertEquals(OptionalLong.of(200), rangeIndex.getLowestValue(NumericField.CALORIE));
+        assertEquals(OptionalLong.of(300), rangeIndex.getHighestValue(NumericField.CALORIE));
+        assertEquals(OptionalLong.empty(), new RangeIndex(new RecipeIds()).getLowestValue(NumericField.CALORIE));
+    }
+
+    @Test
+    public void update_timeChangedInPlace_movesRecipe() {
+        Recipe recipe = new RecipeBuilder().build();
+        recipeBook.addRecipe(recipe);
+        rangeIndex.add(recipe);
+        // a recipe that has not been timed has no prep time
+        assertFalse(rangeIndex.getRecipesInRange(NumericField.PREP_TIME, Long.MIN_VALUE, Long.MAX_VALUE)
+                .contains(recipe));
+        long version = rangeIndex.getVersion();
+
+        recipe.setTime(new Time(1, 0, 0));
+        rangeIndex.update(recipe);
+        assertEquals(Set.of(recipe), rangeIndex.getRecipesInRange(NumericField.PREP_TIME, 3600, 3600));
+        assertTrue(rangeIndex.getVersion() != version);
+
+        recipe.setTime(new Time(0, 10, 0));
+        rangeIndex.update(recipe);
+        assertTrue(rangeIndex.getRecipesInRange(NumericField.PREP_TIME, 3600, 3600).isEmpty());
+        assertEquals(Set.of(recipe), rangeIndex.getRecipesInRange(NumericField.PREP_TIME, 0, 3600));
+    }
+
+    @Test
+    public void onChanged_listChanges_indexUpdated() {
+        UniqueRecipeList recipes = new UniqueRecipeList();
+        RangeIndex listIndex = new RangeIndex(recipes.getRecipeIds());
+        recipes.asUnmodifiableObservableList().addListener(listIndex::onChanged);
+
+        recipes.add(HAM_SANDWICH);
+        recipes.add(EGGS_ON_TOAST);
+        assertEquals(2, listIndex.countRecipesInRange(NumericField.DIFFICULTY, Long.MIN_VALUE, Long.MAX_VALUE));
+
+        recipes.remove(HAM_SANDWICH);
+        assertEquals(Set.of(EGGS_ON_TOAST),
+                listIndex.getRecipesInRange(NumericField.DIFFICULTY, Long.MIN_VALUE, Long.MAX_VALUE));
+    }
+}
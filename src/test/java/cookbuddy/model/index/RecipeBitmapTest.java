@@ -0,0 +1,84 @@
+package cookbuddy.model.index;
+
+import static cookbuddy.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class RecipeBitmapTest {
+
+    /** Enough ids in the first chunk for it to be kept as a bitmap rather than an array. */
+    private static final int[] EVEN_IDS = IntStream.range(0, 5000).map(i -> i * 2).toArray();
+
+    @Test
+    public void of_negativeId_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> RecipeBitmap.of(1, -1));
+    }
+
+    @Test
+    public void of_idsInSeveralChunks_containsThemInOrder() {
+        RecipeBitmap bitmap = RecipeBitmap.of(70000, 3, 1, 3, 65536);
+        assertEquals(4, bitmap.cardinality());
+        assertArrayEquals(new int[] {1, 3, 65536, 70000}, bitmap.toArray());
+        assertTrue(bitmap.contains(65536));
+        assertFalse(bitmap.contains(2));
+        assertFalse(bitmap.contains(-1));
+        assertTrue(new RecipeBitmap().isEmpty());
+    }
+
+    @Test
+    public void andOrAndNot_arrayChunks() {
+        RecipeBitmap first = RecipeBitmap.of(1, 2, 3, 70000);
+        RecipeBitmap second = RecipeBitmap.of(2, 3, 4);
+
+        assertEquals(RecipeBitmap.of(2, 3), first.and(second));
+        assertEquals(RecipeBitmap.of(1, 2, 3, 4, 70000), first.or(second));
+        assertEquals(RecipeBitmap.of(1, 70000), first.andNot(second));
+
+        // the operands are left unchanged
+        assertEquals(RecipeBitmap.of(1, 2, 3, 70000), first);
+    }
+
+    @Test
+    public void andOrAndNot_bitmapAndArrayChunks() {
+        RecipeBitmap evens = RecipeBitmap.of(EVEN_IDS);
+        RecipeBitmap someIds = RecipeBitmap.of(1, 2, 9998, 9999, 10000);
+
+        assertEquals(RecipeBitmap.of(2, 9998), evens.and(someIds));
+        assertEquals(RecipeBitmap.of(2, 9998), someIds.and(evens));
+        assertEquals(5003, evens.or(someIds).cardinality());
+        assertEquals(RecipeBitmap.of(1, 9999, 10000), someIds.andNot(evens));
+        assertEquals(4998, evens.andNot(someIds).cardinality());
+        assertFalse(evens.andNot(someIds).contains(9998));
+    }
+
+    @Test
+    public void andOrAndNot_bitmapChunks() {
+        RecipeBitmap evens = RecipeBitmap.of(EVEN_IDS);
+        RecipeBitmap odds = RecipeBitmap.of(IntStream.of(EVEN_IDS).map(id -> id + 1).toArray());
+
+        assertTrue(evens.and(odds).isEmpty());
+        assertEquals(10000, evens.or(odds).cardinality());
+        assertEquals(evens, evens.andNot(odds));
+        assertTrue(evens.andNot(evens).isEmpty());
+    }
+
+    @Test
+    public void remove_belowArraySize_equalsArrayChunk() {
+        RecipeBitmap bitmap = RecipeBitmap.of(EVEN_IDS);
+        IntStream.of(EVEN_IDS).filter(id -> id >= 20).forEach(bitmap::remove);
+
+        RecipeBitmap expected = RecipeBitmap.of(0, 2, 4, 6, 8, 10, 12, 14, 16, 18);
+        assertEquals(expected, bitmap);
+        assertEquals(expected.hashCode(), bitmap.hashCode());
+
+        IntStream.of(expected.toArray()).forEach(bitmap::remove);
+        assertTrue(bitmap.isEmpty());
+        assertEquals(new RecipeBitmap(), bitmap);
+    }
+}
@@ -0,0 +1,66 @@
+package cookbuddy.model.index;
+
+import static cookbuddy.testutil.TypicalRecipes.EGGS_ON_TOAST;
+import static cookbuddy.testutil.TypicalRecipes.HAM_SANDWICH;
+import static cookbuddy.testutil.TypicalRecipes.getTypicalRecipeBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import cookbuddy.model.RecipeBook;
+import cookbuddy.model.recipe.Recipe;
+import cookbuddy.model.recipe.UniqueRecipeList;
+import cookbuddy.model.recipe.attribute.Tag;
+import cookbuddy.testutil.RecipeBuilder;
+
+public class TagIndexTest {
+
+    private static final Tag LUNCH = Tag.of("lunch");
+    private static final Tag BREAKFAST = Tag.of("breakfast");
+    private static final Tag DINNER = Tag.of("dinner");
+
+    private final RecipeBook recipeBook = getTypicalRecipeBook();
+    private final TagIndex tagIndex = new TagIndex(recipeBook.getRecipeIds(), recipeBook.getRecipeList());
+
+    @Test
+    public void getRecipesTaggedWithAll_intersectsTags() {
+        assertEquals(Set.of(HAM_SANDWICH, EGGS_ON_TOAST), tagIndex.getRecipesTaggedWithAll(Set.of(LUNCH)));
+        assertEquals(Set.of(EGGS_ON_TOAST), tagIndex.getRecipesTaggedWithAll(Set.of(LUNCH, BREAKFAST)));
+        assertEquals(2, tagIndex.countRecipesTaggedWithAll(Set.of(LUNCH)));
+
+        // tags that no recipe has match nothing
+        assertTrue(tagIndex.getRecipesTaggedWithAll(Set.of(LUNCH, DINNER)).isEmpty());
+        assertEquals(0, tagIndex.countRecipesTaggedWithAll(Set.of(DINNER)));
+    }
+
+    @Test
+    public void getTagCounts_countsTagsOfMatchingRecipes() {
+        assertEquals(Map.of(LUNCH, 2, BREAKFAST, 1), tagIndex.getTagCounts(Set.of()));
+        assertEquals(Map.of(LUNCH, 1, BREAKFAST, 1), tagIndex.getTagCounts(Set.of(BREAKFAST)));
+        assertTrue(tagIndex.getTagCounts(Set.of(DINNER)).isEmpty());
+    }
+
+    @Test
+    public void onChanged_listChanges_indexUpdated() {
+        UniqueRecipeList recipes = new UniqueRecipeList();
+        TagIndex listIndex = new TagIndex(recipes.getRecipeIds());
+        recipes.asUnmodifiableObservableList().addListener(listIndex::onChanged);
+
+        recipes.add(HAM_SANDWICH);
+        recipes.add(EGGS_ON_TOAST);
+        recipes.remove(HAM_SANDWICH);
+        assertEquals(Set.of(EGGS_ON_TOAST), listIndex.getRecipesTaggedWithAll(Set.of(LUNCH)));
+        assertEquals(Set.of(LUNCH, BREAKFAST), listIndex.getTags());
+
+        Recipe dinner = new RecipeBuilder().withName("Roast").withTags("dinner").build();
+        recipes.add(dinner);
+        assertEquals(Set.of(dinner), listIndex.getRecipesTaggedWithAll(Set.of(DINNER)));
+
+        recipes.remove(EGGS_ON_TOAST);
+        assertEquals(Set.of(DINNER), listIndex.getTags());
+    }
+}
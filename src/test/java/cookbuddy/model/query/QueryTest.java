@@ -0,0 +1,135 @@
+package cookbuddy.model.query;
+
+import static cookbuddy.testutil.TypicalRecipes.EGGS_ON_TOAST;
+import static cookbuddy.testutil.TypicalRecipes.HAM_SANDWICH;
+import static cookbuddy.testutil.TypicalRecipes.getTypicalRecipeBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import cookbuddy.model.RecipeBook;
+import cookbuddy.model.index.NumericField;
+import cookbuddy.model.index.RecipeBitmap;
+import cookbuddy.model.index.RecipeIndexes;
+import cookbuddy.model.recipe.NameContainsKeywordsPredicate;
+import cookbuddy.model.recipe.Recipe;
+import cookbuddy.model.recipe.TagContainsKeywordsPredicate;
+import cookbuddy.model.recipe.attribute.Time;
+import cookbuddy.testutil.RecipeBuilder;
+
+public class QueryTest {
+
+    private static final Query NAME_HAM = new KeywordQuery(new NameContainsKeywordsPredicate(List.of("ham")));
+    private static final Query TAG_LUNCH = new KeywordQuery(new TagContainsKeywordsPredicate(List.of("lunch")));
+    private static final Query TAG_BREAKFAST =
+            new KeywordQuery(new TagContainsKeywordsPredicate(List.of("breakfast")));
+    private static final Query CALORIE_ABOVE_250 = new RangeQuery(NumericField.CALORIE, 251, Long.MAX_VALUE);
+    private static final Query CALORIE_BELOW_100 = new RangeQuery(NumericField.CALORIE, Long.MIN_VALUE, 99);
+
+    private final RecipeBook recipeBook = getTypicalRecipeBook();
+    private final RecipeIndexes indexes = new RecipeIndexes(recipeBook.getRecipeIds(), recipeBook.getRecipeList());
+
+    @Test
+    public void test_combinedQueries() {
+        Query query = new AndQuery(List.of(TAG_LUNCH, new NotQuery(TAG_BREAKFAST)));
+        assertTrue(query.test(HAM_SANDWICH));
+        assertFalse(query.test(EGGS_ON_TOAST));
+
+        query = new OrQuery(List.of(NAME_HAM, TAG_BREAKFAST));
+        assertTrue(query.test(HAM_SANDWICH));
+        assertTrue(query.test(EGGS_ON_TOAST));
+
+        assertTrue(CALORIE_ABOVE_250.test(HAM_SANDWICH));
+        assertFalse(CALORIE_ABOVE_250.test(EGGS_ON_TOAST));
+    }
+
+    @Test
+    public void rangeQuery_prepTime_unsetTimeDoesNotMatch() {
+        Query underAnHour = new RangeQuery(NumericField.PREP_TIME, Long.MIN_VALUE, 3600);
+        Recipe quickRecipe = new RecipeBuilder().build();
+        assertFalse(underAnHour.test(quickRecipe));
+
+        quickRecipe.setTime(new Time(0, 30, 0));
+        assertTrue(underAnHour.test(quickRecipe));
+        quickRecipe.setTime(new Time(2, 0, 0));
+        assertFalse(underAnHour.test(quickRecipe));
+    }
+
+    @Test
+    public void optimize_andQuery_mostSelectivePartFirst() {
+        Query query = new AndQuery(List.of(TAG_LUNCH, CALORIE_BELOW_100, NAME_HAM));
+        assertEquals(new AndQuery(List.of(CALORIE_BELOW_100, NAME_HAM, TAG_LUNCH)), query.optimize(indexes));
+
+        // parts of nested queries are reordered too
+        query = new NotQuery(new AndQuery(List.of(TAG_LUNCH, NAME_HAM)));
+        assertEquals(new NotQuery(new AndQuery(List.of(NAME_HAM, TAG_LUNCH))), query.optimize(indexes));
+    }
+
+    @Test
+    public void findMatches_indexedParts_lookedUp() {
+        assertEquals(Optional.of(Set.of(HAM_SANDWICH)),
+                findRecipes(new AndQuery(List.of(TAG_LUNCH, new NotQuery(TAG_BREAKFAST)))));
+        assertEquals(Optional.of(Set.of(HAM_SANDWICH, EGGS_ON_TOAST)),
+                findRecipes(new OrQuery(List.of(CALORIE_ABOVE_250, TAG_BREAKFAST))));
+        assertEquals(Optional.of(Set.of(EGGS_ON_TOAST)), findRecipes(new NotQuery(NAME_HAM)));
+        assertEquals(Optional.of(Set.of()), findRecipes(CALORIE_BELOW_100));
+    }
+
+    @Test
+    public void findMatches_unindexedPart_testedOrEmpty() {
+        Query onlyEggsOnToast = new UnindexedQuery(EGGS_ON_TOAST::equals);
+
+        // an unindexed part of an AND only has the matches of the other parts tested against it
+        assertEquals(Optional.of(Set.of(EGGS_ON_TOAST)),
+                findRecipes(new AndQuery(List.of(TAG_LUNCH, onlyEggsOnToast))));
+        assertEquals(Optional.empty(), findRecipes(new OrQuery(List.of(NAME_HAM, onlyEggsOnToast))));
+        assertEquals(Optional.empty(), findRecipes(new NotQuery(onlyEggsOnToast)));
+    }
+
+    @Test
+    public void queryPlan_sameMatchesAsQuery() {
+        Query query = new OrQuery(List.of(new AndQuery(List.of(TAG_LUNCH, CALORIE_ABOVE_250)),
+                new NotQuery(TAG_LUNCH)));
+        QueryPlan plan = new QueryPlan(indexes, query);
+        for (Recipe recipe : List.of(HAM_SANDWICH, EGGS_ON_TOAST)) {
+            assertEquals(query.test(recipe), plan.test(recipe));
+        }
+    }
+
+    private Optional<Set<Recipe>> findRecipes(Query query) {
+        return query.findMatches(indexes).map(matches -> matches.toRecipes(indexes.getRecipeIds()));
+    }
+
+    /**
+     * A query whose matches cannot be looked up in the indexes.
+     */
+    private static class UnindexedQuery extends Query {
+        private final Predicate<Recipe> predicate;
+
+        UnindexedQuery(Predicate<Recipe> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(Recipe recipe) {
+            return predicate.test(recipe);
+        }
+
+        @Override
+        public int estimateMatches(RecipeIndexes indexes) {
+            return indexes.getRecipeCount();
+        }
+
+        @Override
+        public Optional<RecipeBitmap> findMatches(RecipeIndexes indexes) {
+            return Optional.empty();
+        }
+    }
+}
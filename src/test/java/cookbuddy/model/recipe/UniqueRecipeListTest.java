@@ -46,6 +46,29 @@ public class UniqueRecipeListTest {
         assertTrue(uniqueRecipeList.contains(editedHamSandwich));
     }
 
+    @Test
+    public void contains_recipeRemovedFromList_returnsFalse() {
+        uniqueRecipeList.add(HAM_SANDWICH);
+        uniqueRecipeList.remove(HAM_SANDWICH);
+        assertFalse(uniqueRecipeList.contains(HAM_SANDWICH));
+    }
+
+    @Test
+    public void contains_recipeReplacedBySetRecipe_returnsFalse() {
+        uniqueRecipeList.add(HAM_SANDWICH);
+        uniqueRecipeList.setRecipe(HAM_SANDWICH, EGGS_ON_TOAST);
+        assertFalse(uniqueRecipeList.contains(HAM_SANDWICH));
+        assertTrue(uniqueRecipeList.contains(EGGS_ON_TOAST));
+    }
+
+    @Test
+    public void contains_recipesReplacedBySetRecipes_returnsFalse() {
+        uniqueRecipeList.add(HAM_SANDWICH);
+        uniqueRecipeList.setRecipes(Collections.singletonList(EGGS_ON_TOAST));
+        assertFalse(uniqueRecipeList.contains(HAM_SANDWICH));
+        assertTrue(uniqueRecipeList.contains(EGGS_ON_TOAST));
+    }
+
     @Test
     public void add_nullRecipe_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueRecipeList.add(null));
@@ -57,6 +80,14 @@ public class UniqueRecipeListTest {
         assertThrows(DuplicateRecipeException.class, () -> uniqueRecipeList.add(HAM_SANDWICH));
     }
 
+    @Test
+    public void add_recipeWithSameIdentityFields_throwsDuplicateRecipeException() {
+        uniqueRecipeList.add(HAM_SANDWICH);
+        Recipe editedHamSandwich = new RecipeBuilder(HAM_SANDWICH).withTags(VALID_TAG_BREAKFAST)
+            .build();
+        assertThrows(DuplicateRecipeException.class, () -> uniqueRecipeList.add(editedHamSandwich));
+    }
+
     @Test
     public void setRecipe_nullTargetRecipe_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueRecipeList.setRecipe(null, HAM_SANDWICH));
@@ -161,9 +192,73 @@ public class UniqueRecipeListTest {
         assertThrows(DuplicateRecipeException.class, () -> uniqueRecipeList.setRecipes(listWithDuplicateRecipes));
     }
 
+    @Test
+    public void setRecipes_listWithDuplicateRecipes_reportsAllDuplicatesAndKeepsOwnList() {
+        uniqueRecipeList.add(HAM_SANDWICH);
+        List<Recipe> listWithDuplicateRecipes = Arrays.asList(HAM_SANDWICH, EGGS_ON_TOAST, HAM_SANDWICH,
+            EGGS_ON_TOAST);
+        String expectedMessage = new DuplicateRecipeException(Arrays.asList(HAM_SANDWICH, EGGS_ON_TOAST))
+            .getMessage();
+        assertThrows(DuplicateRecipeException.class, expectedMessage, ()
+            -> uniqueRecipeList.setRecipes(listWithDuplicateRecipes));
+
+        UniqueRecipeList expectedUniqueRecipeList = new UniqueRecipeList();
+        expectedUniqueRecipeList.add(HAM_SANDWICH);
+        assertEquals(expectedUniqueRecipeList, uniqueRecipeList);
+        assertFalse(uniqueRecipeList.contains(EGGS_ON_TOAST));
+    }
+
+    @Test
+    public void addAll_newRecipes_appendedInOrder() {
+        uniqueRecipeList.add(HAM_SANDWICH);
+        uniqueRecipeList.addAll(Collections.singletonList(EGGS_ON_TOAST));
+        UniqueRecipeList expectedUniqueRecipeList = new UniqueRecipeList();
+        expectedUniqueRecipeList.setRecipes(Arrays.asList(HAM_SANDWICH, EGGS_ON_TOAST));
+        assertEquals(expectedUniqueRecipeList, uniqueRecipeList);
+        assertTrue(uniqueRecipeList.contains(EGGS_ON_TOAST));
+    }
+
+    @Test
+    public void addAll_recipeAlreadyInList_reportsDuplicatesAndKeepsOwnList() {
+        uniqueRecipeList.add(HAM_SANDWICH);
+        List<Recipe> recipes = Arrays.asList(EGGS_ON_TOAST, HAM_SANDWICH);
+        String expectedMessage = new DuplicateRecipeException(Collections.singletonList(HAM_SANDWICH)).getMessage();
+        assertThrows(DuplicateRecipeException.class, expectedMessage, () -> uniqueRecipeList.addAll(recipes));
+
+        UniqueRecipeList expectedUniqueRecipeList = new UniqueRecipeList();
+        expectedUniqueRecipeList.add(HAM_SANDWICH);
+        assertEquals(expectedUniqueRecipeList, uniqueRecipeList);
+        assertFalse(uniqueRecipeList.contains(EGGS_ON_TOAST));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
             -> uniqueRecipeList.asUnmodifiableObservableList().remove(0));
     }
+
+    @Test
+    public void getRecipeIds_listChanges_idsFollowRecipes() {
+        RecipeIds recipeIds = uniqueRecipeList.getRecipeIds();
+        uniqueRecipeList.add(HAM_SANDWICH);
+        uniqueRecipeList.add(EGGS_ON_TOAST);
+        assertEquals(0, recipeIds.getId(HAM_SANDWICH));
+        assertEquals(1, recipeIds.getId(EGGS_ON_TOAST));
+
+        // an edited recipe is given an id of its own, and the recipe it replaces loses its id
+        Recipe editedRecipe = new RecipeBuilder(HAM_SANDWICH).withName("Cheese Sandwich").build();
+        uniqueRecipeList.setRecipe(HAM_SANDWICH, editedRecipe);
+        assertEquals(RecipeIds.NO_ID, recipeIds.getId(HAM_SANDWICH));
+        assertEquals(editedRecipe, recipeIds.getRecipe(recipeIds.getId(editedRecipe)));
+
+        // ids of removed recipes are given out again
+        uniqueRecipeList.remove(EGGS_ON_TOAST);
+        assertEquals(RecipeIds.NO_ID, recipeIds.getId(EGGS_ON_TOAST));
+        uniqueRecipeList.add(HAM_SANDWICH);
+        assertEquals(0, recipeIds.getId(HAM_SANDWICH));
+
+        uniqueRecipeList.setRecipes(Collections.singletonList(EGGS_ON_TOAST));
+        assertEquals(RecipeIds.NO_ID, recipeIds.getId(editedRecipe));
+        assertEquals(EGGS_ON_TOAST, recipeIds.getRecipe(recipeIds.getId(EGGS_ON_TOAST)));
+    }
 }
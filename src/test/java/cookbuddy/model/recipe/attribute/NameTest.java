@@ -1,9 +1,12 @@
 package cookbuddy.model.recipe.attribute;
 
 import static cookbuddy.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -37,4 +40,9 @@ public class NameTest {
         assertTrue(Name.isValidName("Ham Sandwich")); // with capital letters
         assertTrue(Name.isValidName("Ham Sandwich with Onions and Lettuce")); // long names
     }
+
+    @Test
+    public void getWords_mixedCase_lowercaseWords() {
+        assertEquals(Set.of("ham", "sandwich"), new Name("Ham SANDWICH ham").getWords());
+    }
 }
@@ -0,0 +1,122 @@
+package cookbuddy.model.recipe.attribute;
+
+import static cookbuddy.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PhotographTest {
+
+    @TempDir
+    public Path tempDir;
+
+    @Test
+    public void constructor_notAnImage_throwsIOException() throws IOException {
+        Path textFile = tempDir.resolve("recipe.txt");
+        Files.write(textFile, "not an image".getBytes());
+        assertThrows(IOException.class, () -> new Photograph(textFile));
+    }
+
+    @Test
+    public void constructor_missingFileWithDigest_throwsIOException() {
+        assertThrows(IOException.class, () -> new Photograph(tempDir.resolve("missing.png"), "digest"));
+    }
+
+    @Test
+    public void constructor_fileWithDigest_sameAsDecodedPhotograph() throws IOException {
+        Path imagePath = writeImage("red.png", 0xff0000);
+        Photograph decoded = new Photograph(imagePath);
+        Photograph lazy = new Photograph(imagePath, decoded.getDigest());
+
+        assertEquals(decoded, lazy);
+        assertEquals(decoded.hashCode(), lazy.hashCode());
+        assertEquals(0xff0000, lazy.getData().getRGB(1, 1) & 0xffffff);
+    }
+
+    @Test
+    public void getData_imageEvictedFromCache_decodesFile() throws IOException {
+        Path imagePath = writeImage("blue.png", 0x0000ff);
+        Photograph photograph = new Photograph(imagePath);
+        Photograph.getImageCache().clear();
+
+        assertEquals(0x0000ff, photograph.getData().getRGB(0, 0) & 0xffffff);
+        assertTrue(Photograph.getImageCache().contains(photograph.getDigest()));
+    }
+
+    @Test
+    public void readData_sourceFileReplaced_throwsIOException() throws IOException {
+        Path imagePath = writeImage("purple.png", 0xff00ff);
+        Photograph photograph = new Photograph(imagePath);
+        writeImage("purple.png", 0x00ffff);
+        Photograph.getImageCache().clear();
+
+        assertThrows(IOException.class, photograph::readData);
+        assertEquals(Photograph.IMAGE_UTIL.placeholderImage, photograph.getData());
+    }
+
+    @Test
+    public void intern_sameImage_sharedPhotograph() throws IOException {
+        Path imagePath = writeImage("green.png", 0x00ff00);
+        Photograph photograph = Photograph.intern(new Photograph(imagePath));
+        Photograph copy = new Photograph(imagePath, photograph.getDigest());
+
+        assertSame(photograph, Photograph.intern(copy));
+        assertSame(Photograph.PLACEHOLDER_PHOTOGRAPH, Photograph.intern(Photograph.PLACEHOLDER_PHOTOGRAPH));
+    }
+
+    @Test
+    public void intern_sharedPhotographFileDeleted_replacedByNewPhotograph() throws IOException {
+        Path imagePath = writeImage("yellow.png", 0xffff00);
+        Photograph photograph = Photograph.intern(new Photograph(imagePath, new Photograph(imagePath).getDigest()));
+        Path copyPath = writeImage("yellow-copy.png", 0xffff00);
+        Files.delete(imagePath);
+
+        Photograph copy = new Photograph(copyPath);
+        assertSame(copy, Photograph.intern(copy));
+        assertNotSame(photograph, Photograph.intern(copy));
+    }
+
+    @Test
+    public void getImageFileName() {
+        assertEquals(Paths.get("placeholder"), Photograph.PLACEHOLDER_PHOTOGRAPH.getImageFileName());
+    }
+
+    @Test
+    public void equals() throws IOException {
+        Photograph red = new Photograph(writeImage("red.png", 0xff0000));
+
+        // same image in another file -> returns true
+        assertEquals(red, new Photograph(writeImage("otherRed.png", 0xff0000)));
+
+        // different image -> returns false
+        assertNotEquals(red, new Photograph(writeImage("green.png", 0x00ff00)));
+        assertFalse(red.isPlaceholder());
+        assertTrue(Photograph.PLACEHOLDER_PHOTOGRAPH.isPlaceholder());
+    }
+
+    private Path writeImage(String fileName, int rgb) throws IOException {
+        BufferedImage image = new BufferedImage(3, 3, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < image.getWidth(); x++) {
+            for (int y = 0; y < image.getHeight(); y++) {
+                image.setRGB(x, y, rgb);
+            }
+        }
+        Path imagePath = tempDir.resolve(fileName);
+        ImageIO.write(image, "png", imagePath.toFile());
+        return imagePath;
+    }
+}
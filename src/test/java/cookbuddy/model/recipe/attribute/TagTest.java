@@ -1,6 +1,9 @@
 package cookbuddy.model.recipe.attribute;
 
 import static cookbuddy.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import org.junit.jupiter.api.Test;
 
@@ -17,6 +20,14 @@ public class TagTest {
         assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
     }
 
+    @Test
+    public void of_sameName_returnsSameTag() {
+        assertSame(Tag.of("lunch"), Tag.of("lunch"));
+        assertEquals(new Tag("lunch"), Tag.of("lunch"));
+        assertNotSame(Tag.of("lunch"), Tag.of("Lunch"));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of("not a tag"));
+    }
+
     @Test
     public void isValidTagName() {
         // null tag name
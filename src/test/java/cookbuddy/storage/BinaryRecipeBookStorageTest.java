@@ -0,0 +1,111 @@
+package cookbuddy.storage;
+
+import static cookbuddy.testutil.Assert.assertThrows;
+import static cookbuddy.testutil.TypicalRecipes.HAM_SANDWICH;
+import static cookbuddy.testutil.TypicalRecipes.getTypicalRecipeBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import cookbuddy.commons.exceptions.DataConversionException;
+import cookbuddy.commons.util.JsonUtil;
+import cookbuddy.model.RecipeBook;
+import cookbuddy.model.recipe.Recipe;
+import cookbuddy.model.recipe.attribute.Time;
+import cookbuddy.testutil.RecipeBuilder;
+
+public class BinaryRecipeBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private BinaryRecipeBookStorage createStorage() {
+        return new BinaryRecipeBookStorage(testFolder.resolve("recipebook.bin"), testFolder.resolve("images"));
+    }
+
+    @Test
+    public void getBinaryFilePath_jsonFilePath_replacesExtension() {
+        assertEquals(Paths.get("data", "recipebook.bin"),
+            BinaryRecipeBookStorage.getBinaryFilePath(Paths.get("data", "recipebook.json")));
+        assertEquals(Paths.get("data", "recipebook.bin"),
+            BinaryRecipeBookStorage.getBinaryFilePath(Paths.get("data", "recipebook")));
+    }
+
+    @Test
+    public void readRecipeBook_missingFile_emptyResult() throws Exception {
+        assertFalse(createStorage().readRecipeBook().isPresent());
+    }
+
+    @Test
+    public void readRecipeBook_notBinaryRecipeBook_throwsDataConversionException() throws Exception {
+        Files.write(testFolder.resolve("recipebook.bin"), "{ \"recipes\": [] }".getBytes());
+        assertThrows(DataConversionException.class, () -> createStorage().readRecipeBook());
+    }
+
+    @Test
+    public void readRecipeBook_truncatedFile_throwsDataConversionException() throws Exception {
+        BinaryRecipeBookStorage storage = createStorage();
+        storage.saveRecipeBook(getTypicalRecipeBook());
+        Path filePath = storage.getRecipeBookFilePath();
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 5));
+
+        assertThrows(DataConversionException.class, () -> storage.readRecipeBook());
+    }
+
+    @Test
+    public void readAndSaveRecipeBook_allInOrder_success() throws Exception {
+        BinaryRecipeBookStorage storage = createStorage();
+        RecipeBook original = getTypicalRecipeBook();
+        storage.saveRecipeBook(original);
+        assertEquals(original, new RecipeBook(storage.readRecipeBook().get()));
+
+        original.removeRecipe(HAM_SANDWICH);
+        storage.saveRecipeBook(original);
+        assertEquals(original, new RecipeBook(storage.readRecipeBook().get()));
+    }
+
+    @Test
+    public void readAndSaveRecipeBook_statusAndPhotograph_preserved() throws Exception {
+        Path imagePath = testFolder.resolve("source.png");
+        ImageIO.write(new BufferedImage(4, 4, BufferedImage.TYPE_INT_RGB), "png", imagePath.toFile());
+        Recipe recipe = new RecipeBuilder().withPhotograph(imagePath.toString()).build();
+        recipe.favRecipe();
+        recipe.attemptRecipe();
+        recipe.setTime(new Time(72, 59, 1));
+        RecipeBook original = new RecipeBook();
+        original.addRecipe(recipe);
+
+        BinaryRecipeBookStorage storage = createStorage();
+        storage.saveRecipeBook(original);
+        storage.flush();
+
+        Recipe readBack = storage.readRecipeBook().get().getRecipeList().get(0);
+        assertEquals(recipe, readBack);
+        assertTrue(readBack.getPhotograph().isSaved());
+        assertEquals(recipe.getFavStatus(), readBack.getFavStatus());
+        assertEquals(recipe.getDoneStatus(), readBack.getDoneStatus());
+        assertEquals(recipe.getPrepTime(), readBack.getPrepTime());
+    }
+
+    @Test
+    public void saveRecipeBook_typicalRecipeBook_smallerThanJson() throws Exception {
+        BinaryRecipeBookStorage storage = createStorage();
+        storage.saveRecipeBook(getTypicalRecipeBook());
+        Path jsonFilePath = testFolder.resolve("recipebook.json");
+        JsonUtil.saveJsonFile(new JsonSerializableRecipeBook(getTypicalRecipeBook()), jsonFilePath);
+
+        assertTrue(Files.size(storage.getRecipeBookFilePath()) < Files.size(jsonFilePath));
+    }
+}
@@ -0,0 +1,224 @@
+package cookbuddy.storage;
+
+import static cookbuddy.testutil.Assert.assertThrows;
+import static cookbuddy.testutil.TypicalRecipes.EGGS_ON_TOAST;
+import static cookbuddy.testutil.TypicalRecipes.HAM_SANDWICH;
+import static cookbuddy.testutil.TypicalRecipes.getTypicalRecipeBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import cookbuddy.commons.exceptions.DataConversionException;
+import cookbuddy.model.ReadOnlyRecipeBook;
+import cookbuddy.model.RecipeBook;
+import cookbuddy.model.recipe.Recipe;
+import cookbuddy.model.recipe.attribute.Time;
+import cookbuddy.testutil.RecipeBuilder;
+
+public class JournaledRecipeBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path getFilePath() {
+        return testFolder.resolve("recipebook.json");
+    }
+
+    private JournaledRecipeBookStorage createStorage(int compactionThreshold) {
+        return new JournaledRecipeBookStorage(getFilePath(), testFolder.resolve("images"), compactionThreshold);
+    }
+
+    private List<String> readJournal(long generation) throws Exception {
+        return Files.readAllLines(JournaledRecipeBookStorage.getJournalFilePath(getFilePath(), generation));
+    }
+
+    @Test
+    public void constructor_nonPositiveThreshold_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> createStorage(0));
+    }
+
+    @Test
+    public void getJournalFilePath_validGeneration_returnsSibling() {
+        assertEquals(testFolder.resolve("recipebook.json.3.journal"),
+            JournaledRecipeBookStorage.getJournalFilePath(getFilePath(), 3));
+    }
+
+    @Test
+    public void readRecipeBook_missingFile_emptyResult() throws Exception {
+        assertFalse(createStorage(10).readRecipeBook().isPresent());
+    }
+
+    @Test
+    public void saveRecipeBook_changesAfterFirstSave_appendedToJournal() throws Exception {
+        JournaledRecipeBookStorage storage = createStorage(10);
+        RecipeBook recipeBook = getTypicalRecipeBook();
+        storage.saveRecipeBook(recipeBook);
+
+        // the first save writes a snapshot of generation 1
+        assertFalse(Files.exists(JournaledRecipeBookStorage.getJournalFilePath(getFilePath(), 1)));
+
+        Recipe pancakes = new RecipeBuilder().withName("Pancakes").build();
+        recipeBook.addRecipe(pancakes);
+        storage.saveRecipeBook(recipeBook);
+        recipeBook.removeRecipe(HAM_SANDWICH);
+        storage.saveRecipeBook(recipeBook);
+        assertEquals(2, readJournal(1).size());
+
+        // saving an unchanged recipe book appends nothing
+        storage.saveRecipeBook(recipeBook);
+        assertEquals(2, readJournal(1).size());
+
+        ReadOnlyRecipeBook readBack = createStorage(10).readRecipeBook().get();
+        assertEquals(List.of(EGGS_ON_TOAST, pancakes), readBack.getRecipeList());
+    }
+
+    @Test
+    public void saveRecipeBook_statusChangedInPlace_appendedToJournal() throws Exception {
+        JournaledRecipeBookStorage storage = createStorage(10);
+        Recipe pancakes = new RecipeBuilder().withName("Pancakes").build();
+        RecipeBook recipeBook = new RecipeBook();
+        recipeBook.addRecipe(pancakes);
+        storage.saveRecipeBook(recipeBook);
+
+        pancakes.favRecipe();
+        pancakes.attemptRecipe();
+        pancakes.setTime(new Time(1, 30, 0));
+        storage.saveRecipeBook(recipeBook);
+        assertEquals(3, readJournal(1).size());
+
+        Recipe readBack = createStorage(10).readRecipeBook().get().getRecipeList().get(0);
+        assertEquals(pancakes.getFavStatus().toString(), readBack.getFavStatus().toString());
+        assertEquals(pancakes.getDoneStatus().toString(), readBack.getDoneStatus().toString());
+        assertEquals(pancakes.getPrepTime(), readBack.getPrepTime());
+    }
+
+    @Test
+    public void saveRecipeBook_afterRead_appendsToExistingJournal() throws Exception {
+        RecipeBook recipeBook = new RecipeBook();
+        recipeBook.addRecipe(HAM_SANDWICH);
+        createStorage(10).saveRecipeBook(recipeBook);
+
+        JournaledRecipeBookStorage storage = createStorage(10);
+        RecipeBook readBack = new RecipeBook(storage.readRecipeBook().get());
+        readBack.addRecipe(EGGS_ON_TOAST);
+        storage.saveRecipeBook(readBack);
+
+        assertEquals(1, readJournal(1).size());
+        assertEquals(getTypicalRecipeBook(), new RecipeBook(createStorage(10).readRecipeBook().get()));
+    }
+
+    @Test
+    public void saveRecipeBook_lastRecipeWithPhotographDeleted_deletesPhotograph() throws Exception {
+        BufferedImage image = new BufferedImage(2, 2, BufferedImage.TYPE_INT_RGB);
+        image.setRGB(0, 1, 0x996633);
+        Path sourcePath = testFolder.resolve("source.png");
+        ImageIO.write(image, "png", sourcePath.toFile());
+        Recipe pancakes = new RecipeBuilder().withName("Pancakes").withPhotograph(sourcePath.toString()).build();
+        Recipe duplicate = new RecipeBuilder(pancakes).withName("Duplicate of Pancakes").build();
+        Path photographPath = testFolder.resolve("images").resolve(pancakes.getPhotograph().getImageFileName());
+
+        JournaledRecipeBookStorage storage = createStorage(10);
+        RecipeBook recipeBook = new RecipeBook();
+        recipeBook.setRecipes(List.of(pancakes, duplicate));
+        storage.saveRecipeBook(recipeBook);
+        storage.flush();
+        assertTrue(Files.exists(photographPath));
+
+        recipeBook.removeRecipe(pancakes);
+        storage.saveRecipeBook(recipeBook);
+        storage.flush();
+        assertTrue(Files.exists(photographPath));
+
+        recipeBook.removeRecipe(duplicate);
+        storage.saveRecipeBook(recipeBook);
+        storage.flush();
+        assertFalse(Files.exists(photographPath));
+    }
+
+    @Test
+    public void readRecipeBook_incompleteLastEntry_ignored() throws Exception {
+        JournaledRecipeBookStorage storage = createStorage(10);
+        RecipeBook recipeBook = new RecipeBook();
+        recipeBook.addRecipe(HAM_SANDWICH);
+        storage.saveRecipeBook(recipeBook);
+        recipeBook.addRecipe(EGGS_ON_TOAST);
+        storage.saveRecipeBook(recipeBook);
+        Files.write(JournaledRecipeBookStorage.getJournalFilePath(getFilePath(), 1),
+            "{\"operation\":\"delete\",\"ind".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        JournaledRecipeBookStorage readingStorage = createStorage(10);
+        assertEquals(getTypicalRecipeBook(), new RecipeBook(readingStorage.readRecipeBook().get()));
+
+        // the torn journal is compacted away
+        assertFalse(Files.exists(JournaledRecipeBookStorage.getJournalFilePath(getFilePath(), 1)));
+        assertEquals(getTypicalRecipeBook(), new RecipeBook(createStorage(10).readRecipeBook().get()));
+    }
+
+    @Test
+    public void readRecipeBook_corruptEntryBeforeLast_throwsDataConversionExceptionAndKeepsJournal() throws Exception {
+        JournaledRecipeBookStorage storage = createStorage(10);
+        RecipeBook recipeBook = new RecipeBook();
+        storage.saveRecipeBook(recipeBook);
+        recipeBook.addRecipe(HAM_SANDWICH);
+        storage.saveRecipeBook(recipeBook);
+        Path journalFilePath = JournaledRecipeBookStorage.getJournalFilePath(getFilePath(), 1);
+        List<String> lines = new ArrayList<>(Files.readAllLines(journalFilePath));
+        lines.add(0, "{\"operation\":\"delete\",\"ind");
+        Files.write(journalFilePath, lines);
+
+        assertThrows(DataConversionException.class, () -> createStorage(10).readRecipeBook());
+        assertEquals(lines, Files.readAllLines(journalFilePath));
+    }
+
+    @Test
+    public void saveRecipeBook_thresholdExceeded_compactsJournal() throws Exception {
+        JournaledRecipeBookStorage storage = createStorage(1);
+        RecipeBook recipeBook = new RecipeBook();
+        storage.saveRecipeBook(recipeBook);
+        recipeBook.addRecipe(HAM_SANDWICH);
+        storage.saveRecipeBook(recipeBook);
+        assertEquals(1, readJournal(1).size());
+
+        recipeBook.addRecipe(EGGS_ON_TOAST);
+        storage.saveRecipeBook(recipeBook);
+        assertFalse(Files.exists(JournaledRecipeBookStorage.getJournalFilePath(getFilePath(), 1)));
+        assertFalse(Files.exists(JournaledRecipeBookStorage.getJournalFilePath(getFilePath(), 2)));
+        assertEquals(getTypicalRecipeBook(), new RecipeBook(createStorage(1).readRecipeBook().get()));
+    }
+
+    @Test
+    public void flush_nonEmptyJournal_compactsJournal() throws Exception {
+        JournaledRecipeBookStorage storage = createStorage(10);
+        RecipeBook recipeBook = new RecipeBook();
+        storage.saveRecipeBook(recipeBook);
+        recipeBook.addRecipe(HAM_SANDWICH);
+        storage.saveRecipeBook(recipeBook);
+
+        storage.flush();
+        assertFalse(Files.exists(JournaledRecipeBookStorage.getJournalFilePath(getFilePath(), 1)));
+        assertTrue(Files.exists(getFilePath()));
+        assertEquals(recipeBook, new RecipeBook(createStorage(10).readRecipeBook().get()));
+    }
+
+    @Test
+    public void saveRecipeBook_otherFilePath_writesSnapshot() throws Exception {
+        Path otherFilePath = testFolder.resolve("other.json");
+        createStorage(10).saveRecipeBook(getTypicalRecipeBook(), otherFilePath);
+
+        assertFalse(Files.exists(getFilePath()));
+        assertEquals(getTypicalRecipeBook(), new RecipeBook(createStorage(10).readRecipeBook(otherFilePath).get()));
+    }
+}
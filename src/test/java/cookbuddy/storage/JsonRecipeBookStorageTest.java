@@ -0,0 +1,105 @@
+package cookbuddy.storage;
+
+import static cookbuddy.testutil.Assert.assertThrows;
+import static cookbuddy.testutil.TypicalRecipes.HAM_SANDWICH;
+import static cookbuddy.testutil.TypicalRecipes.getTypicalRecipeBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import cookbuddy.commons.exceptions.DataConversionException;
+import cookbuddy.commons.exceptions.IllegalValueException;
+import cookbuddy.commons.util.FileUtil;
+import cookbuddy.commons.util.JsonUtil;
+import cookbuddy.model.RecipeBook;
+
+public class JsonRecipeBookStorageTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonRecipeBookStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    private JsonRecipeBookStorage createStorage() {
+        return new JsonRecipeBookStorage(testFolder.resolve("recipebook.json"), testFolder.resolve("images"));
+    }
+
+    @Test
+    public void readRecipeBook_missingFile_emptyResult() throws Exception {
+        assertFalse(createStorage().readRecipeBook().isPresent());
+    }
+
+    @Test
+    public void readRecipeBook_notJsonFormat_throwsDataConversionException() {
+        assertThrows(DataConversionException.class, () -> createStorage().readRecipeBook(
+            TEST_DATA_FOLDER.resolve("notJsonFormatRecipeBook.json")));
+    }
+
+    @Test
+    public void readRecipeBook_truncatedFile_throwsDataConversionException() throws Exception {
+        JsonRecipeBookStorage storage = createStorage();
+        storage.saveRecipeBook(getTypicalRecipeBook());
+        String json = FileUtil.readFromFile(storage.getRecipeBookFilePath());
+        FileUtil.writeToFile(storage.getRecipeBookFilePath(), json.substring(0, json.length() / 2));
+
+        assertThrows(DataConversionException.class, () -> storage.readRecipeBook());
+    }
+
+    @Test
+    public void readRecipeBook_duplicateRecipes_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("duplicate.json");
+        JsonUtil.saveJsonFile(new JsonSerializableRecipeBook(Arrays.asList(new JsonAdaptedRecipe(HAM_SANDWICH),
+            new JsonAdaptedRecipe(HAM_SANDWICH)), 0), filePath);
+
+        // the recipes to fix are named in the message
+        String expectedMessage = new IllegalValueException(JsonSerializableRecipeBook.MESSAGE_DUPLICATE_RECIPE
+            + " Duplicates: " + HAM_SANDWICH.getName() + ".").toString();
+        assertThrows(DataConversionException.class, expectedMessage, () -> createStorage().readRecipeBook(filePath));
+    }
+
+    @Test
+    public void saveRecipeBook_plainJson_noGenerationField() throws Exception {
+        createStorage().saveRecipeBook(getTypicalRecipeBook());
+        assertFalse(FileUtil.readFromFile(testFolder.resolve("recipebook.json"))
+            .contains(JsonSerializableRecipeBook.GENERATION_FIELD));
+    }
+
+    @Test
+    public void readAndSaveRecipeBook_allInOrder_success() throws Exception {
+        JsonRecipeBookStorage storage = createStorage();
+        RecipeBook original = getTypicalRecipeBook();
+        storage.saveRecipeBook(original);
+        assertEquals(original, new RecipeBook(storage.readRecipeBook().get()));
+
+        original.removeRecipe(HAM_SANDWICH);
+        storage.saveRecipeBook(original);
+        assertEquals(original, new RecipeBook(storage.readRecipeBook().get()));
+    }
+
+    @Test
+    public void saveRecipeBook_streamed_sameAsSerializedRecipeBook() throws Exception {
+        JsonRecipeBookStorage storage = createStorage();
+        storage.saveRecipeBook(getTypicalRecipeBook());
+
+        JsonSerializableRecipeBook written = JsonUtil.fromJsonString(
+            FileUtil.readFromFile(storage.getRecipeBookFilePath()), JsonSerializableRecipeBook.class);
+        assertEquals(getTypicalRecipeBook(), written.toModelType(testFolder.resolve("images")));
+    }
+
+    @Test
+    public void readRecipeBook_otherFields_ignored() throws Exception {
+        Path filePath = testFolder.resolve("snapshot.json");
+        JsonUtil.saveJsonFile(new JsonSerializableRecipeBook(getTypicalRecipeBook(), 5), filePath);
+        Files.write(filePath, FileUtil.readFromFile(filePath).replaceFirst("\\{", "{ \"unknown\": { \"a\": [1] },")
+            .getBytes());
+
+        assertEquals(getTypicalRecipeBook(), new RecipeBook(createStorage().readRecipeBook(filePath).get()));
+    }
+}
@@ -0,0 +1,160 @@
+package cookbuddy.storage;
+
+import static cookbuddy.testutil.TypicalRecipes.HAM_SANDWICH;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import cookbuddy.commons.util.FileUtil;
+import cookbuddy.commons.util.ThumbnailCache;
+import cookbuddy.model.recipe.Recipe;
+import cookbuddy.model.recipe.attribute.Photograph;
+import cookbuddy.testutil.RecipeBuilder;
+
+public class PhotographStorageTest {
+
+    @TempDir
+    public Path tempDir;
+
+    @Test
+    public void savePhotographs_newPhotograph_writesFileAndMarksSaved() throws IOException {
+        Recipe recipe = new RecipeBuilder(HAM_SANDWICH).withPhotograph(writeImage("source.png").toString()).build();
+        Photograph photograph = recipe.getPhotograph();
+        assertFalse(photograph.isSaved());
+
+        PhotographStorage photographStorage = new PhotographStorage(tempDir.resolve("images"));
+        photographStorage.savePhotographs(Collections.singletonList(recipe));
+        photographStorage.flush();
+
+        Path savedPath = tempDir.resolve("images").resolve(photograph.getImageFileName());
+        assertTrue(photograph.isSaved());
+        assertEquals(photograph, new Photograph(savedPath));
+    }
+
+    @Test
+    public void savePhotographs_savedOrPlaceholderPhotographs_writesNothing() throws IOException {
+        Path imagesPath = tempDir.resolve("images");
+        Path sourcePath = writeImage("source.png");
+        Photograph sourcePhotograph = new Photograph(sourcePath);
+        Recipe savedRecipe = new RecipeBuilder(HAM_SANDWICH).withPhotograph(sourcePath.toString()).build();
+        savedRecipe.getPhotograph().markSaved();
+        Recipe placeholderRecipe = HAM_SANDWICH;
+
+        PhotographStorage photographStorage = new PhotographStorage(imagesPath);
+        photographStorage.savePhotographs(Arrays.asList(savedRecipe, placeholderRecipe));
+        photographStorage.flush();
+
+        assertFalse(Files.exists(imagesPath.resolve(sourcePhotograph.getImageFileName())));
+        assertFalse(Files.exists(imagesPath.resolve(Photograph.PLACEHOLDER_PHOTOGRAPH.getImageFileName())));
+    }
+
+    @Test
+    public void savePhotographs_sourceFileGone_writesNothingAndStaysUnsaved() throws IOException {
+        Path imagesPath = tempDir.resolve("images");
+        Path sourcePath = writeImage("source.png");
+        Recipe recipe = new RecipeBuilder(HAM_SANDWICH).withPhotograph(sourcePath.toString()).build();
+        Photograph photograph = recipe.getPhotograph();
+        Files.delete(sourcePath);
+        Photograph.getImageCache().clear();
+
+        PhotographStorage photographStorage = new PhotographStorage(imagesPath);
+        photographStorage.savePhotographs(Collections.singletonList(recipe));
+        photographStorage.flush();
+
+        // the placeholder must not be stored under the digest of the lost image
+        assertFalse(Files.exists(imagesPath.resolve(photograph.getImageFileName())));
+        assertFalse(photograph.isSaved());
+    }
+
+    @Test
+    public void updateReferences_lastRecipeWithPhotographRemoved_deletesPhotographAndThumbnails() throws IOException {
+        Path imagesPath = tempDir.resolve("images");
+        Recipe recipe = new RecipeBuilder(HAM_SANDWICH).withPhotograph(writeImage("source.png").toString()).build();
+        Recipe duplicate = new RecipeBuilder(recipe).withName("Duplicate of Ham Sandwich").build();
+        Photograph photograph = recipe.getPhotograph();
+        Path savedPath = imagesPath.resolve(photograph.getImageFileName());
+        Path thumbnailPath = new ThumbnailCache(imagesPath).getThumbnailPath(photograph.getDigest(), 64);
+
+        PhotographStorage photographStorage = new PhotographStorage(imagesPath);
+        photographStorage.savePhotographs(Arrays.asList(recipe, duplicate));
+        photographStorage.setReferences(Arrays.asList(recipe, duplicate));
+        photographStorage.flush();
+        FileUtil.writeToFile(thumbnailPath, "thumbnail");
+        assertEquals(2, photographStorage.getReferenceCount(photograph));
+
+        // the photograph is still used by the duplicate
+        photographStorage.updateReferences(Collections.singletonList(recipe), Collections.emptyList());
+        photographStorage.flush();
+        assertEquals(1, photographStorage.getReferenceCount(photograph));
+        assertTrue(Files.exists(savedPath));
+
+        photographStorage.updateReferences(Collections.singletonList(duplicate), Collections.emptyList());
+        photographStorage.flush();
+        assertEquals(0, photographStorage.getReferenceCount(photograph));
+        assertFalse(Files.exists(savedPath));
+        assertFalse(Files.exists(thumbnailPath));
+    }
+
+    @Test
+    public void updateReferences_deletedPhotographAddedAgain_writesPhotographAgain() throws IOException {
+        Path imagesPath = tempDir.resolve("images");
+        Path sourcePath = writeImage("source.png");
+        Photograph photograph = Photograph.intern(new Photograph(sourcePath));
+        Recipe recipe = new RecipeBuilder(HAM_SANDWICH).withPhotograph(photograph).build();
+        Path savedPath = imagesPath.resolve(photograph.getImageFileName());
+
+        PhotographStorage photographStorage = new PhotographStorage(imagesPath);
+        photographStorage.updateReferences(Collections.emptyList(), Collections.singletonList(recipe));
+        photographStorage.flush();
+        assertTrue(photograph.isSaved());
+
+        photographStorage.updateReferences(Collections.singletonList(recipe), Collections.emptyList());
+        photographStorage.flush();
+        assertFalse(Files.exists(savedPath));
+        assertFalse(photograph.isSaved());
+
+        // the shared photograph is still alive, and is handed out again for the same image
+        Recipe readdedRecipe = new RecipeBuilder(HAM_SANDWICH)
+                .withPhotograph(Photograph.intern(new Photograph(sourcePath))).build();
+        assertSame(photograph, readdedRecipe.getPhotograph());
+        photographStorage.updateReferences(Collections.emptyList(), Collections.singletonList(readdedRecipe));
+        photographStorage.flush();
+        assertTrue(Files.exists(savedPath));
+        assertTrue(photograph.isSaved());
+    }
+
+    @Test
+    public void setReferences_photographNeverReferenced_keepsFile() throws IOException {
+        Path imagesPath = tempDir.resolve("images");
+        Path unrelatedPath = imagesPath.resolve(Photograph.getImageFileName("unrelated"));
+        FileUtil.writeToFile(unrelatedPath, "image of another recipe book");
+
+        PhotographStorage photographStorage = new PhotographStorage(imagesPath);
+        photographStorage.setReferences(Collections.singletonList(HAM_SANDWICH));
+        photographStorage.setReferences(Collections.emptyList());
+        photographStorage.flush();
+
+        assertTrue(Files.exists(unrelatedPath));
+    }
+
+    private Path writeImage(String fileName) throws IOException {
+        BufferedImage image = new BufferedImage(2, 2, BufferedImage.TYPE_INT_RGB);
+        image.setRGB(1, 1, 0x336699);
+        Path imagePath = tempDir.resolve(fileName);
+        ImageIO.write(image, "png", imagePath.toFile());
+        return imagePath;
+    }
+}
@@ -0,0 +1,74 @@
+package cookbuddy.storage;
+
+import static cookbuddy.testutil.TypicalRecipes.getTypicalRecipeBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import cookbuddy.model.RecipeBook;
+
+public class RecipeBookMigratorTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private JsonRecipeBookStorage createJsonStorage(String fileName) {
+        return new JsonRecipeBookStorage(testFolder.resolve(fileName), testFolder.resolve("images"));
+    }
+
+    private BinaryRecipeBookStorage createBinaryStorage() {
+        return new BinaryRecipeBookStorage(testFolder.resolve("recipebook.bin"), testFolder.resolve("images"));
+    }
+
+    @Test
+    public void migrate_missingSource_returnsFalse() throws Exception {
+        assertFalse(RecipeBookMigrator.migrate(createJsonStorage("recipebook.json"), createBinaryStorage()));
+        assertFalse(createBinaryStorage().readRecipeBook().isPresent());
+    }
+
+    @Test
+    public void migrate_jsonToBinaryAndBack_sameRecipeBook() throws Exception {
+        createJsonStorage("recipebook.json").saveRecipeBook(getTypicalRecipeBook());
+
+        assertTrue(RecipeBookMigrator.migrate(createJsonStorage("recipebook.json"), createBinaryStorage()));
+        assertEquals(getTypicalRecipeBook(), new RecipeBook(createBinaryStorage().readRecipeBook().get()));
+
+        assertTrue(RecipeBookMigrator.migrate(createBinaryStorage(), createJsonStorage("migrated.json")));
+        assertEquals(getTypicalRecipeBook(), new RecipeBook(createJsonStorage("migrated.json").readRecipeBook().get()));
+    }
+
+    @Test
+    public void migrateIfMissing_targetExists_targetUnchanged() throws Exception {
+        createJsonStorage("recipebook.json").saveRecipeBook(getTypicalRecipeBook());
+        createBinaryStorage().saveRecipeBook(new RecipeBook());
+
+        assertFalse(RecipeBookMigrator.migrateIfMissing(createJsonStorage("recipebook.json"), createBinaryStorage()));
+        assertEquals(new RecipeBook(), new RecipeBook(createBinaryStorage().readRecipeBook().get()));
+    }
+
+    @Test
+    public void migrateIfMissing_targetMissing_sourceMovedAside() throws Exception {
+        createJsonStorage("recipebook.json").saveRecipeBook(getTypicalRecipeBook());
+
+        assertTrue(RecipeBookMigrator.migrateIfMissing(createJsonStorage("recipebook.json"), createBinaryStorage()));
+        assertEquals(getTypicalRecipeBook(), new RecipeBook(createBinaryStorage().readRecipeBook().get()));
+        assertFalse(Files.exists(testFolder.resolve("recipebook.json")));
+        assertTrue(Files.exists(RecipeBookMigrator.getMigratedFilePath(testFolder.resolve("recipebook.json"))));
+    }
+
+    @Test
+    public void migrateIfMissing_switchBackAfterChange_changeKept() throws Exception {
+        createJsonStorage("recipebook.json").saveRecipeBook(getTypicalRecipeBook());
+        RecipeBookMigrator.migrateIfMissing(createJsonStorage("recipebook.json"), createBinaryStorage());
+        createBinaryStorage().saveRecipeBook(new RecipeBook());
+
+        assertTrue(RecipeBookMigrator.migrateIfMissing(createBinaryStorage(), createJsonStorage("recipebook.json")));
+        assertEquals(new RecipeBook(), new RecipeBook(createJsonStorage("recipebook.json").readRecipeBook().get()));
+    }
+}
@@ -0,0 +1,75 @@
+package cookbuddy.storage;
+
+import static cookbuddy.testutil.Assert.assertThrows;
+import static cookbuddy.testutil.TypicalRecipes.HAM_SANDWICH;
+import static cookbuddy.testutil.TypicalRecipes.getTypicalRecipes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import cookbuddy.commons.exceptions.IllegalValueException;
+import cookbuddy.commons.util.FileUtil;
+import cookbuddy.commons.util.JsonUtil;
+import cookbuddy.model.recipe.Recipe;
+import cookbuddy.model.recipe.attribute.Photograph;
+
+public class RecipeImporterTest {
+
+    @TempDir
+    public Path tempDir;
+
+    @Test
+    public void constructor_negativeThreadCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new RecipeImporter(-1));
+    }
+
+    @Test
+    public void constructor_threadsPerProcessor_oneThreadPerProcessor() {
+        assertEquals(Runtime.getRuntime().availableProcessors(),
+                new RecipeImporter(RecipeImporter.THREADS_PER_PROCESSOR).getThreadCount());
+    }
+
+    @Test
+    public void importRecipes_severalThreads_orderPreserved() throws Exception {
+        List<Recipe> recipes = getTypicalRecipes();
+        List<JsonAdaptedRecipe> jsonRecipes = recipes.stream().map(JsonAdaptedRecipe::new)
+                .collect(Collectors.toList());
+
+        assertEquals(recipes, new RecipeImporter(4).importRecipes(jsonRecipes, tempDir));
+        assertEquals(recipes, new RecipeImporter(1).importRecipes(jsonRecipes, tempDir));
+    }
+
+    @Test
+    public void importRecipes_undecodablePhotograph_placeholderPhotograph() throws Exception {
+        FileUtil.writeToFile(tempDir.resolve("broken.png"), "not an image");
+        ObjectNode jsonRecipe = JsonUtil.fromJsonString(JsonUtil.toJsonString(new JsonAdaptedRecipe(HAM_SANDWICH)),
+                ObjectNode.class);
+        jsonRecipe.put("filePath", "broken.png");
+        jsonRecipe.remove("photoDigest");
+        JsonAdaptedRecipe brokenRecipe = JsonUtil.fromJsonString(JsonUtil.toJsonString(jsonRecipe),
+                JsonAdaptedRecipe.class);
+
+        List<Recipe> recipes = new RecipeImporter(2).importRecipes(List.of(brokenRecipe, brokenRecipe), tempDir);
+        assertEquals(2, recipes.size());
+        recipes.forEach(recipe -> assertEquals(Photograph.PLACEHOLDER_PHOTOGRAPH, recipe.getPhotograph()));
+    }
+
+    @Test
+    public void importRecipes_invalidRecipe_throwsIllegalValueException() throws Exception {
+        ObjectNode jsonRecipe = JsonUtil.fromJsonString(JsonUtil.toJsonString(new JsonAdaptedRecipe(HAM_SANDWICH)),
+                ObjectNode.class);
+        jsonRecipe.remove("name");
+        JsonAdaptedRecipe invalidRecipe = JsonUtil.fromJsonString(JsonUtil.toJsonString(jsonRecipe),
+                JsonAdaptedRecipe.class);
+
+        assertThrows(IllegalValueException.class, () -> new RecipeImporter(2)
+                .importRecipes(List.of(new JsonAdaptedRecipe(HAM_SANDWICH), invalidRecipe), tempDir));
+    }
+}
@@ -0,0 +1,211 @@
+package cookbuddy.storage;
+
+import static cookbuddy.testutil.Assert.assertThrows;
+import static cookbuddy.testutil.TypicalRecipes.EGGS_ON_TOAST;
+import static cookbuddy.testutil.TypicalRecipes.HAM_SANDWICH;
+import static cookbuddy.testutil.TypicalRecipes.getTypicalRecipeBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import cookbuddy.commons.util.JsonUtil;
+import cookbuddy.model.ReadOnlyRecipeBook;
+import cookbuddy.model.RecipeBook;
+import cookbuddy.model.recipe.Recipe;
+import cookbuddy.testutil.RecipeBuilder;
+
+public class WriteBehindRecipeBookStorageTest {
+
+    /** Long enough that no scheduled write happens while a test runs. */
+    private static final long LONG_SAVE_DELAY = 60_000;
+
+    @TempDir
+    public Path testFolder;
+
+    private final RecipeBookStorageStub recipeBookStorageStub = new RecipeBookStorageStub();
+
+    @Test
+    public void constructor_negativeSaveDelay_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new WriteBehindRecipeBookStorage(recipeBookStorageStub,
+            -1));
+    }
+
+    @Test
+    public void saveRecipeBook_burstOfSaves_writesLatestSnapshotOnce() throws Exception {
+        WriteBehindRecipeBookStorage storage = new WriteBehindRecipeBookStorage(recipeBookStorageStub,
+            LONG_SAVE_DELAY);
+        RecipeBook recipeBook = new RecipeBook();
+        recipeBook.addRecipe(HAM_SANDWICH);
+        storage.saveRecipeBook(recipeBook);
+        recipeBook.addRecipe(EGGS_ON_TOAST);
+        storage.saveRecipeBook(recipeBook);
+        assertEquals(0, recipeBookStorageStub.savedRecipeLists.size());
+
+        storage.flush();
+        assertEquals(1, recipeBookStorageStub.savedRecipeLists.size());
+        assertEquals(getTypicalRecipeBook().getRecipeList(), recipeBookStorageStub.savedRecipeLists.get(0));
+    }
+
+    @Test
+    public void saveRecipeBook_recipeBookChangedAfterSave_writesSnapshot() throws Exception {
+        WriteBehindRecipeBookStorage storage = new WriteBehindRecipeBookStorage(recipeBookStorageStub,
+            LONG_SAVE_DELAY);
+        RecipeBook recipeBook = getTypicalRecipeBook();
+        storage.saveRecipeBook(recipeBook);
+        recipeBook.removeRecipe(HAM_SANDWICH);
+
+        storage.flush();
+        assertEquals(getTypicalRecipeBook().getRecipeList(), recipeBookStorageStub.savedRecipeLists.get(0));
+    }
+
+    @Test
+    public void saveRecipeBook_recipeChangedInPlaceAfterSave_writesStatusAtSave() throws Exception {
+        WriteBehindRecipeBookStorage storage = new WriteBehindRecipeBookStorage(recipeBookStorageStub,
+            LONG_SAVE_DELAY);
+        RecipeBook recipeBook = new RecipeBook();
+        recipeBook.addRecipe(new RecipeBuilder(HAM_SANDWICH).build());
+        storage.saveRecipeBook(recipeBook);
+        recipeBook.getRecipeList().get(0).favRecipe();
+
+        storage.flush();
+        assertFalse(recipeBookStorageStub.savedRecipeLists.get(0).get(0).getFavStatus().getfavStatus());
+    }
+
+    @Test
+    public void saveRecipeBook_unchangedRecipe_sameCopyInNextSnapshot() throws Exception {
+        WriteBehindRecipeBookStorage storage = new WriteBehindRecipeBookStorage(recipeBookStorageStub,
+            LONG_SAVE_DELAY);
+        RecipeBook recipeBook = new RecipeBook();
+        recipeBook.addRecipe(new RecipeBuilder(HAM_SANDWICH).build());
+        recipeBook.addRecipe(new RecipeBuilder(EGGS_ON_TOAST).build());
+        storage.saveRecipeBook(recipeBook);
+        storage.flush();
+        recipeBook.getRecipeList().get(1).favRecipe();
+        storage.saveRecipeBook(recipeBook);
+        storage.flush();
+
+        List<Recipe> first = recipeBookStorageStub.savedRecipeLists.get(0);
+        List<Recipe> second = recipeBookStorageStub.savedRecipeLists.get(1);
+        assertSame(first.get(0), second.get(0));
+        assertNotSame(first.get(1), second.get(1));
+        assertTrue(second.get(1).getFavStatus().getfavStatus());
+    }
+
+    @Test
+    public void saveRecipeBook_noSaveDelay_writesInBackground() throws Exception {
+        WriteBehindRecipeBookStorage storage = new WriteBehindRecipeBookStorage(recipeBookStorageStub, 0);
+        storage.saveRecipeBook(getTypicalRecipeBook());
+
+        // the flush only waits for the write that is already scheduled
+        storage.flush();
+        assertEquals(1, recipeBookStorageStub.savedRecipeLists.size());
+    }
+
+    @Test
+    public void flush_writeFailed_throwsFailureAndWritesSnapshotAgain() throws Exception {
+        WriteBehindRecipeBookStorage storage = new WriteBehindRecipeBookStorage(recipeBookStorageStub,
+            LONG_SAVE_DELAY);
+        recipeBookStorageStub.saveFailure = new IOException("disk full");
+        storage.saveRecipeBook(getTypicalRecipeBook());
+        assertThrows(IOException.class, "disk full", storage::flush);
+
+        recipeBookStorageStub.saveFailure = null;
+        storage.flush();
+        assertEquals(1, recipeBookStorageStub.savedRecipeLists.size());
+        assertEquals(getTypicalRecipeBook().getRecipeList(), recipeBookStorageStub.savedRecipeLists.get(0));
+    }
+
+    @Test
+    public void saveRecipeBook_journaledStorageAfterReload_journalsOneStatusEntryPerFav() throws Exception {
+        Path filePath = testFolder.resolve("recipebook.json");
+        Path imagesPath = testFolder.resolve("images");
+        WriteBehindRecipeBookStorage firstSession = new WriteBehindRecipeBookStorage(
+            new JournaledRecipeBookStorage(filePath, imagesPath), LONG_SAVE_DELAY);
+        firstSession.saveRecipeBook(getTypicalRecipeBook());
+        firstSession.flush();
+
+        JournaledRecipeBookStorage journaledStorage = new JournaledRecipeBookStorage(filePath, imagesPath) {
+            @Override
+            public synchronized void flush() {
+                // the journal is kept for the test to read, instead of being compacted
+            }
+        };
+        WriteBehindRecipeBookStorage storage = new WriteBehindRecipeBookStorage(journaledStorage, LONG_SAVE_DELAY);
+        RecipeBook recipeBook = new RecipeBook(storage.readRecipeBook().get());
+        recipeBook.fav(recipeBook.getRecipeList().get(0));
+        storage.saveRecipeBook(recipeBook);
+        storage.flush();
+        recipeBook.fav(recipeBook.getRecipeList().get(1));
+        storage.saveRecipeBook(recipeBook);
+        storage.flush();
+
+        List<String> journal = Files.readAllLines(JournaledRecipeBookStorage.getJournalFilePath(filePath, 1));
+        assertEquals(Arrays.asList(
+            JsonUtil.toCompactJsonString(JsonAdaptedJournalEntry.fav(0, recipeBook.getRecipeList().get(0))),
+            JsonUtil.toCompactJsonString(JsonAdaptedJournalEntry.fav(1, recipeBook.getRecipeList().get(1)))),
+            journal);
+    }
+
+    @Test
+    public void flush_nothingPending_writesNothing() throws Exception {
+        new WriteBehindRecipeBookStorage(recipeBookStorageStub, 0).flush();
+        assertEquals(0, recipeBookStorageStub.savedRecipeLists.size());
+        assertEquals(1, recipeBookStorageStub.flushCount);
+    }
+
+    /**
+     * A {@code RecipeBookStorage} stub that records the recipe lists that it is asked to save, or fails to save them.
+     */
+    private static class RecipeBookStorageStub implements RecipeBookStorage {
+        private final List<List<Recipe>> savedRecipeLists = new ArrayList<>();
+        private int flushCount = 0;
+        private IOException saveFailure;
+
+        @Override
+        public Path getRecipeBookFilePath() {
+            return Paths.get("recipebook.json");
+        }
+
+        @Override
+        public Optional<ReadOnlyRecipeBook> readRecipeBook() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<ReadOnlyRecipeBook> readRecipeBook(Path filePath) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void saveRecipeBook(ReadOnlyRecipeBook recipeBook) throws IOException {
+            saveRecipeBook(recipeBook, getRecipeBookFilePath());
+        }
+
+        @Override
+        public void saveRecipeBook(ReadOnlyRecipeBook recipeBook, Path filePath) throws IOException {
+            if (saveFailure != null) {
+                throw saveFailure;
+            }
+            savedRecipeLists.add(new ArrayList<>(recipeBook.getRecipeList()));
+        }
+
+        @Override
+        public void flush() {
+            flushCount++;
+        }
+    }
+}
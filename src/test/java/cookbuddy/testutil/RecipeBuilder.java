@@ -130,6 +130,14 @@ public class RecipeBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code Photograph} of the {@code Recipe} that we are building.
+     */
+    public RecipeBuilder withPhotograph(Photograph photograph) {
+        this.photograph = photograph;
+        return this;
+    }
+
     /**
      * Sets the {@code Calorie} of the {@code Recipe} that we are building.
      */
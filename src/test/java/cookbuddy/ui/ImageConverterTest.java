@@ -0,0 +1,66 @@
+package cookbuddy.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ImageConverterTest {
+
+    private final ImageConverter imageConverter = new ImageConverter();
+
+    @Test
+    public void writePixels_argbImage_passesOwnPixels() {
+        BufferedImage image = createImage(3, 2, BufferedImage.TYPE_INT_ARGB);
+        List<int[]> pixelArrays = new ArrayList<>();
+        imageConverter.writePixels(image, (pixels, offset, scanlineStride, isPremultiplied) -> {
+            pixelArrays.add(pixels);
+            assertEquals(0, offset);
+            assertEquals(3, scanlineStride);
+            assertFalse(isPremultiplied);
+        });
+        assertSame(((DataBufferInt) image.getRaster().getDataBuffer()).getData(), pixelArrays.get(0));
+    }
+
+    @Test
+    public void writePixels_subimage_offsetToSubimage() {
+        BufferedImage subimage = createImage(4, 3, BufferedImage.TYPE_INT_ARGB).getSubimage(1, 1, 2, 2);
+        imageConverter.writePixels(subimage, (pixels, offset, scanlineStride, isPremultiplied) -> {
+            assertEquals(subimage.getRGB(0, 0), pixels[offset]);
+            assertEquals(subimage.getRGB(1, 1), pixels[offset + scanlineStride + 1]);
+        });
+    }
+
+    @Test
+    public void writePixels_rgbImage_copiesOpaquePixelsIntoReusedBuffer() {
+        BufferedImage image = createImage(3, 2, BufferedImage.TYPE_INT_RGB);
+        List<int[]> pixelArrays = new ArrayList<>();
+        imageConverter.writePixels(image, (pixels, offset, scanlineStride, isPremultiplied) -> {
+            pixelArrays.add(pixels);
+            assertEquals(image.getRGB(2, 1), pixels[offset + scanlineStride + 2]);
+            assertTrue(pixels[offset] >>> 24 == 0xff);
+        });
+
+        // smaller images reuse the same buffer
+        imageConverter.writePixels(createImage(2, 2, BufferedImage.TYPE_3BYTE_BGR),
+            (pixels, offset, scanlineStride, isPremultiplied) -> pixelArrays.add(pixels));
+        assertSame(pixelArrays.get(0), pixelArrays.get(1));
+    }
+
+    private static BufferedImage createImage(int width, int height, int type) {
+        BufferedImage image = new BufferedImage(width, height, type);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                image.setRGB(x, y, 0xff000000 | (x * 40) << 16 | (y * 40) << 8);
+            }
+        }
+        return image;
+    }
+}